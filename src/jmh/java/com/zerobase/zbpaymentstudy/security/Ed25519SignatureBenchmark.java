@@ -0,0 +1,80 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ed25519 JWT 서명/검증 처리량 벤치마크
+ * <p>
+ * 사용 중인 jjwt 0.11은 EdDSA를 지원하지 않으므로 {@link JwtSignatureBenchmark}와 같은 클레임으로 만든
+ * 서명 입력(header.payload)에 대한 JDK 서명/검증 비용만 측정
+ * (Base64 인코딩과 클레임 파싱 비용은 제외되므로 HS 결과와 비교할 때 감안)
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Ed25519SignatureBenchmark {
+
+    private KeyPair keyPair;
+    private byte[] signingInput;
+    private byte[] signature;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+
+        // 서명하지 않은 토큰은 "header.payload." 형태이므로 payload만 가져와 EdDSA 헤더와 붙임
+        String unsigned = Jwts.builder()
+            .setSubject("user@example.com")
+            .claim("roles", List.of("ROLE_USER"))
+            .claim("ver", 0)
+            .setIssuedAt(new Date())
+            .setExpiration(new Date(System.currentTimeMillis() + 86_400_000L))
+            .compact();
+        String payload = unsigned.split("\\.")[1];
+        String header = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"kid\":\"bench\",\"alg\":\"EdDSA\"}".getBytes(StandardCharsets.UTF_8));
+        signingInput = (header + "." + payload).getBytes(StandardCharsets.US_ASCII);
+        signature = sign();
+    }
+
+    @Benchmark
+    public String signToken() throws GeneralSecurityException {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sign());
+    }
+
+    @Benchmark
+    public boolean verify() throws GeneralSecurityException {
+        Signature verifier = Signature.getInstance("Ed25519");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(signingInput);
+        return verifier.verify(signature);
+    }
+
+    private byte[] sign() throws GeneralSecurityException {
+        Signature signer = Signature.getInstance("Ed25519");
+        signer.initSign(keyPair.getPrivate());
+        signer.update(signingInput);
+        return signer.sign();
+    }
+}
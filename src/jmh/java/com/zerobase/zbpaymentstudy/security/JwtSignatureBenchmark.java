@@ -0,0 +1,69 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 알고리즘별 JWT 서명/검증 처리량 벤치마크
+ * <p>
+ * HS256/HS512를 실제 토큰 발급 경로와 같은 jjwt 빌더/파서로 측정
+ * Ed25519는 알고리즘 파라미터와 무관하므로 {@link Ed25519SignatureBenchmark}에서 따로 측정
+ *
+ * <pre>
+ * ./gradlew jmh
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSignatureBenchmark {
+
+    @Param({"HS256", "HS512"})
+    public String algorithm;
+
+    private Key hmacKey;
+    private SignatureAlgorithm signatureAlgorithm;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        hmacKey = Keys.secretKeyFor(signatureAlgorithm);
+        parser = Jwts.parserBuilder().setSigningKey(hmacKey).build();
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return Jwts.builder()
+            .setHeaderParam("kid", "bench")
+            .setSubject("user@example.com")
+            .claim("roles", List.of("ROLE_USER"))
+            .claim("ver", 0)
+            .setIssuedAt(new Date())
+            .setExpiration(new Date(System.currentTimeMillis() + 86_400_000L))
+            .signWith(hmacKey, signatureAlgorithm)
+            .compact();
+    }
+
+    @Benchmark
+    public Object verify() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+}
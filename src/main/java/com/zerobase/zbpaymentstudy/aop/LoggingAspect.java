@@ -1,43 +1,67 @@
 package com.zerobase.zbpaymentstudy.aop;
 
+import com.zerobase.zbpaymentstudy.exception.BusinessException;
+import com.zerobase.zbpaymentstudy.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 /**
- * 컨트롤러 메서드의 실행을 로깅하는 AOP 클래스
- * <p>
- * 주요 사용 사례
- * 1. 성능 모니터링
- * - 각 API 엔드포인트의 응답 시간 측정
- * - 성능 병목 지점 식별
- * 예) "GET /api/stores/1 executed in 150ms"
+ * 컨트롤러 메서드의 실행 시간을 측정하는 AOP 클래스
  * <p>
- * 2. 에러 추적
- * - 예외 발생 시 상세 로그 기록
- * - 문제 해결을 위한 디버깅 정보 제공
- * 예) "Exception in StoreController.getStore: Store not found with id: 1"
+ * 모든 호출을 컨트롤러 메서드, 결과(SUCCESS/CLIENT_ERROR/SERVER_ERROR), 에러 코드별
+ * Micrometer 타이머(api.controller)에 기록하고 백분위 히스토그램을 함께 내보내므로
+ * p50/p99 같은 응답 시간 분포는 prometheus에서 인스턴스를 합산하여 조회
+ * 예) histogram_quantile(0.99, sum by (le, method) (rate(api_controller_seconds_bucket[5m])))
  * <p>
- * 3. 보안 감사
- * - API 호출 기록 유지
- * - 비정상적인 접근 패턴 감지
- * 예) "Unauthorized access attempt to /api/stores/delete by user: anonymous"
- * <p>
- * 4. 트래픽 분석
- * - API별 사용 빈도 측정
- * - 리소스 사용량 모니터링
- * 예) "High traffic detected: 1000 requests/min on /api/stores/search"
+ * 호출마다 로그를 남기지 않고, 기준 시간을 넘긴 느린 호출은 WARN으로 모두 남기며
+ * 나머지는 설정한 비율만큼만 표본으로 남김
+ * 예외 내용은 GlobalExceptionHandler에서 로깅하므로 여기서는 다시 로깅하지 않음
  */
 @Aspect         // AOP 기능을 제공하는 클래스임을 명시
 @Component      // 스프링 빈으로 등록
 @Slf4j         // Lombok의 로깅 기능 사용
 public class LoggingAspect {
 
+    private static final String NO_ERROR = "NONE";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final double logSampleRate;
+
+    /**
+     * (메서드, 결과, 에러 코드)별 타이머 (호출마다 레지스트리를 조회하지 않도록 보관)
+     */
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public LoggingAspect(
+        MeterRegistry meterRegistry,
+        @Value("${metrics.controller.slow-threshold:500ms}") Duration slowThreshold,
+        @Value("${metrics.controller.log-sample-rate:0.001}") double logSampleRate
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.logSampleRate = logSampleRate;
+    }
+
     /**
      * 컨트롤러 메서드 실행을 감싸는 Around 어드바이스
-     * 메서드 실행 전/후의 시간을 측정하고 예외 발생을 로깅
+     * 실행 시간을 측정하여 결과별 타이머에 기록하고, 느린 호출과 표본 호출만 로깅
      *
      * @param joinPoint 대상 메서드의 실행 정보를 담고 있는 객체
      * @return 대상 메서드의 실행 결과
@@ -46,26 +70,84 @@ public class LoggingAspect {
     @Around("execution(* com.zerobase.zbpaymentstudy..*Controller.*(..))")
     // 모든 컨트롤러 메서드를 대상으로 함
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis(); // 메서드 실행 시작 시간 기록
+        long start = System.nanoTime(); // 시스템 시계 변경에 영향을 받지 않는 단조 시계 사용
+        Object result = null;
+        Throwable failure = null;
         try {
-            // TODO: MDC(Mapped Diagnostic Context)를 활용한 요청 추적 기능 구현
-            // TODO: 요청/응답 데이터 로깅 구현
-            // TODO: 개인정보 등 민감 정보 마스킹 처리 구현
+            result = joinPoint.proceed(); // 실제 메서드 실행
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e; // 예외를 다시 던져서 정상적인 예외 처리 흐름 유지
+        } finally {
+            record(joinPoint, result, failure, System.nanoTime() - start);
+        }
+    }
 
-            Object result = joinPoint.proceed(); // 실제 메서드 실행
+    private void record(ProceedingJoinPoint joinPoint, Object result, Throwable failure, long elapsedNanos) {
+        Outcome outcome;
+        String errorCode;
+        if (failure == null) {
+            outcome = result instanceof ResponseEntity<?> response
+                ? Outcome.of(response.getStatusCode())
+                : Outcome.SUCCESS;
+            errorCode = NO_ERROR;
+        } else {
+            ErrorCode code = errorCodeOf(failure);
+            outcome = Outcome.of(code.getStatus());
+            errorCode = code.name();
+        }
 
-            // 메서드 실행 시간 계산 및 로깅
-            long executionTime = System.currentTimeMillis() - start;
-            log.info("Method {} executed in {} ms",
-                joinPoint.getSignature(), // 실행된 메서드의 시그니처
-                executionTime            // 실행 소요 시간
-            );
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        timers.computeIfAbsent(new TimerKey(method, outcome, errorCode), this::register)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
 
-            return result;
-        } catch (Exception e) {
-            // 예외 발생 시 로깅
-            log.error("Exception in {}", joinPoint.getSignature(), e);
-            throw e; // 예외를 다시 던져서 정상적인 예외 처리 흐름 유지
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("Slow call {} took {} ms - outcome: {}, errorCode: {}",
+                joinPoint.getSignature(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), outcome, errorCode);
+        } else if (ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.info("Method {} executed in {} ms - outcome: {}, errorCode: {}",
+                joinPoint.getSignature(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), outcome, errorCode);
+        }
+    }
+
+    /**
+     * GlobalExceptionHandler가 응답하는 상태와 같은 기준으로 에러 코드를 결정
+     */
+    private static ErrorCode errorCodeOf(Throwable failure) {
+        if (failure instanceof BusinessException businessException) {
+            return businessException.getErrorCode();
         }
+        if (failure instanceof IllegalArgumentException) {
+            return ErrorCode.INVALID_REQUEST;
+        }
+        return ErrorCode.INTERNAL_SERVER_ERROR;
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder("api.controller")
+            .description("컨트롤러 메서드 실행 시간")
+            .tag("controller", key.method().getDeclaringClass().getSimpleName())
+            .tag("method", key.method().getName())
+            .tag("outcome", key.outcome().name())
+            .tag("error", key.errorCode())
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry);
+    }
+
+    private enum Outcome {
+        SUCCESS, CLIENT_ERROR, SERVER_ERROR;
+
+        static Outcome of(HttpStatusCode status) {
+            if (status.is5xxServerError()) {
+                return SERVER_ERROR;
+            }
+            return status.is4xxClientError() ? CLIENT_ERROR : SUCCESS;
+        }
+    }
+
+    private record TimerKey(Method method, Outcome outcome, String errorCode) {
     }
-}
\ No newline at end of file
+}
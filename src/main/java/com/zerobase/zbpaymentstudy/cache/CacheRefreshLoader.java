@@ -0,0 +1,18 @@
+package com.zerobase.zbpaymentstudy.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+/**
+ * 캐시 항목을 키만으로 다시 읽어오는 로더
+ * <p>
+ * 이 인터페이스를 구현한 Bean이 있는 캐시는 refreshAfterWrite 설정 시 만료 전에 백그라운드에서 미리 다시 읽음
+ * (refresh-ahead) 로더는 CacheManager보다 먼저 생성되어야 하므로 CacheManager에 의존하지 않아야 함
+ * 로더가 null을 반환하면 항목이 제거됨
+ */
+public interface CacheRefreshLoader extends CacheLoader<Object, Object> {
+
+    /**
+     * 로더를 적용할 캐시 이름
+     */
+    String cacheName();
+}
@@ -0,0 +1,18 @@
+package com.zerobase.zbpaymentstudy.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalListener;
+
+/**
+ * 캐시 항목이 제거(만료, 용량 초과, 무효화, 교체)된 뒤 호출되는 리스너
+ * <p>
+ * 이 인터페이스를 구현한 Bean이 있는 캐시는 항목이 제거될 때마다 비동기로 리스너를 호출
+ * 캐시 항목을 가리키는 보조 인덱스를 정리하는 데 사용하며,
+ * 리스너는 CacheManager보다 먼저 생성되어야 하므로 CacheManager에 의존하지 않아야 함
+ */
+public interface CacheRemovalListener extends RemovalListener<Object, Object> {
+
+    /**
+     * 리스너를 적용할 캐시 이름
+     */
+    String cacheName();
+}
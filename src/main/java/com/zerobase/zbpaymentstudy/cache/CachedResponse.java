@@ -0,0 +1,20 @@
+package com.zerobase.zbpaymentstudy.cache;
+
+/**
+ * 직렬화가 끝난 HTTP 응답 본문
+ * 원본 바이트와 미리 압축한 gzip 바이트를 함께 보관하여 요청마다 직렬화/압축하지 않음
+ */
+public record CachedResponse(
+    String surrogateKey,  // 무효화 단위 키 (예: store:1)
+    String contentType,   // 응답 Content-Type
+    String etag,          // 본문 해시 기반 강한 ETag
+    byte[] body,          // 원본 본문
+    byte[] gzipBody       // gzip 압축 본문
+) {
+    /**
+     * 캐시 용량 계산에 사용할 대략적인 크기 (바이트)
+     */
+    public int weight() {
+        return body.length + gzipBody.length;
+    }
+}
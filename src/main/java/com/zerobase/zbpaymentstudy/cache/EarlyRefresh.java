@@ -0,0 +1,184 @@
+package com.zerobase.zbpaymentstudy.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 만료가 가까운 캐시 항목을 확률적으로 미리 다시 읽는 컴포넌트 (XFetch)
+ * <p>
+ * 항목마다 조회에 걸린 시간을 함께 저장하고, 읽을 때마다 "조회 시간 × beta × -ln(난수)"가
+ * 남은 수명보다 크면 백그라운드에서 다시 읽음. 조회가 오래 걸리는 항목일수록, 만료가 가까울수록,
+ * 자주 읽히는 항목일수록 만료 전에 갱신될 확률이 높아지므로 인기 있는 키가 만료되는 순간
+ * 요청이 한꺼번에 DB로 몰리지 않음
+ * <p>
+ * 캐시에 없는 키는 Caffeine의 get(key, mappingFunction)으로 조회하여 같은 키의 동시 조회를 하나로 합치고,
+ * 그 사이에 일어난 무효화도 조회가 끝난 뒤 적용됨. 백그라운드 갱신은 기존 항목이 그대로 있을 때만
+ * 교체하므로 무효화된 항목을 되살리지 않음
+ */
+@Slf4j
+@Component
+public class EarlyRefresh {
+
+    private final double beta;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 백그라운드 갱신이 진행 중인 (캐시, 키) 목록
+     */
+    private final Set<RefreshKey> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter scheduled;
+    private final Counter dropped;
+
+    public EarlyRefresh(
+        MeterRegistry meterRegistry,
+        @Value("${cache.early-refresh.beta:1.0}") double beta,
+        @Value("${cache.early-refresh.threads:2}") int threads,
+        @Value("${cache.early-refresh.queue-capacity:100}") int queueCapacity
+    ) {
+        this.beta = beta;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "cache-early-refresh-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        this.scheduled = Counter.builder("cache.early-refresh")
+            .tag("outcome", "scheduled")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("cache.early-refresh")
+            .tag("outcome", "dropped")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 조회하여 저장
+     * 만료가 가까우면 현재 값을 그대로 반환하면서 백그라운드 갱신을 예약
+     *
+     * @param cache  expireAfterWrite가 설정된 Caffeine 원본 캐시 (값은 {@link Loaded})
+     * @param key    캐시 키
+     * @param loader 조회 로직 (백그라운드 스레드에서도 실행되므로 요청 스레드 상태에 의존하면 안 됨)
+     * @return 캐시된 값
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(Cache<Object, Object> cache, Object key, Supplier<V> loader) {
+        Loaded<V> entry = (Loaded<V>) cache.getIfPresent(key);
+        if (entry == null) {
+            return ((Loaded<V>) cache.get(key, k -> load(loader))).value();
+        }
+
+        if (shouldRefresh(cache, key, entry)) {
+            scheduleRefresh(cache, key, entry, loader);
+        }
+        return entry.value();
+    }
+
+    /**
+     * XFetch 판정: -조회 시간 × beta × ln(난수) ≥ 남은 수명
+     */
+    private boolean shouldRefresh(Cache<Object, Object> cache, Object key, Loaded<?> entry) {
+        Optional<Policy.FixedExpiration<Object, Object>> expiration = cache.policy().expireAfterWrite();
+        if (expiration.isEmpty()) {
+            return false;
+        }
+        Optional<Duration> age = expiration.get().ageOf(key);
+        if (age.isEmpty()) {
+            return false;
+        }
+
+        long remainingNanos = expiration.get().getExpiresAfter().minus(age.get()).toNanos();
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();  // (0, 1]
+        return -entry.loadNanos() * beta * Math.log(random) >= remainingNanos;
+    }
+
+    private <V> void scheduleRefresh(Cache<Object, Object> cache, Object key, Loaded<V> current, Supplier<V> loader) {
+        RefreshKey refreshKey = new RefreshKey(cache, key);
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    cache.asMap().replace(key, current, load(loader));
+                } catch (Exception e) {
+                    log.warn("캐시 조기 갱신 실패 - key: {}", key, e);
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+            scheduled.increment();
+        } catch (RejectedExecutionException e) {
+            // 갱신 대기열이 가득 차면 이번 갱신은 건너뜀 (만료되면 요청 경로에서 다시 조회)
+            refreshing.remove(refreshKey);
+            dropped.increment();
+        }
+    }
+
+    private static <V> Loaded<V> load(Supplier<V> loader) {
+        long start = System.nanoTime();
+        V value = loader.get();
+        return new Loaded<>(value, System.nanoTime() - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 조회 시간과 함께 저장되는 캐시 값
+     * 값이 같아도 다시 조회한 항목과 구분되도록 record의 equals 대신 동일성으로 비교
+     */
+    public static final class Loaded<V> {
+        private final V value;
+        private final long loadNanos;
+
+        public Loaded(V value, long loadNanos) {
+            this.value = value;
+            this.loadNanos = loadNanos;
+        }
+
+        public V value() {
+            return value;
+        }
+
+        public long loadNanos() {
+            return loadNanos;
+        }
+    }
+
+    /**
+     * 캐시별로 구분되는 갱신 키 (캐시는 동일성으로 비교)
+     */
+    private record RefreshKey(Cache<Object, Object> cache, Object key) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof RefreshKey other && cache == other.cache && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(cache) * 31 + key.hashCode();
+        }
+    }
+}
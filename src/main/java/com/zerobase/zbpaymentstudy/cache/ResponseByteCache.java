@@ -0,0 +1,160 @@
+package com.zerobase.zbpaymentstudy.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 직렬화된 HTTP 응답 바이트를 보관하는 프로세스 내 캐시
+ * <p>
+ * 각 항목은 대리 키(surrogate key)로 묶이며, 데이터가 변경되면 대리 키 단위로 해당 항목만 정확히 제거
+ * 조회가 진행되는 동안 제거가 일어나면 세대(generation) 번호가 바뀌므로 오래된 응답이 다시 캐시되지 않음
+ * 세대 번호는 대리 키의 해시로 나눈 고정 크기 배열에 두어, 대리 키가 늘어나도 메모리가 늘지 않음
+ * (같은 칸을 쓰는 다른 대리 키의 제거는 불필요한 저장 생략만 일으킴)
+ * 대리 키별 캐시 키 목록은 항목이 제거될 때 정리하고 비면 목록째 제거
+ * 대리 키 제거는 무효화 버스로 다른 노드에도 전파
+ */
+@Slf4j
+@Component
+public class ResponseByteCache {
+
+    private static final String REGION = "responses";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<String, CachedResponse> entries;
+    private final CacheInvalidationBus invalidationBus;
+
+    /**
+     * 대리 키별 캐시 키 목록
+     */
+    private final ConcurrentMap<String, Set<String>> keysBySurrogate = new ConcurrentHashMap<>();
+
+    /**
+     * 대리 키 해시별 세대 번호 (제거될 때마다 증가)
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ResponseByteCache(
+        @Value("${cache.response.maximum-bytes:67108864}") long maximumBytes,
+        @Value("${cache.response.ttl:5m}") Duration ttl,
+        CacheInvalidationBus invalidationBus
+    ) {
+        this.invalidationBus = invalidationBus;
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher((String key, CachedResponse value) -> value.weight())
+            .expireAfterWrite(ttl)
+            // 용량/만료로 밀려난 항목만 대리 키 목록에서 정리 (명시적 제거는 purge에서 목록째 제거)
+            // evictionListener는 항목 제거와 같은 원자적 연산 안에서 동기적으로 호출됨
+            .evictionListener((String key, CachedResponse value, RemovalCause cause) -> {
+                if (key != null && value != null) {
+                    unlink(value.surrogateKey(), key);
+                }
+            })
+            .build();
+        invalidationBus.subscribe(REGION, this::remove);
+    }
+
+    /**
+     * 캐시된 응답 조회
+     *
+     * @param key 캐시 키
+     * @return 캐시된 응답, 없으면 null
+     */
+    public CachedResponse get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    /**
+     * 대리 키의 현재 세대 번호
+     * 응답을 만들기 전에 조회하여 {@link #put}에 전달
+     *
+     * @param surrogateKey 대리 키
+     * @return 세대 번호
+     */
+    public long generation(String surrogateKey) {
+        return generations.get(stripe(surrogateKey));
+    }
+
+    /**
+     * 응답을 캐시에 저장
+     * 응답을 만드는 동안 대리 키가 제거되었다면 저장하지 않음
+     *
+     * @param key        캐시 키
+     * @param response   저장할 응답
+     * @param generation 응답을 만들기 전에 조회한 세대 번호
+     */
+    public void put(String key, CachedResponse response, long generation) {
+        String surrogateKey = response.surrogateKey();
+        entries.put(key, response);
+        link(surrogateKey, key);
+
+        // 저장 직후 다시 확인하여 그 사이에 일어난 제거를 놓치지 않음
+        if (generation(surrogateKey) != generation) {
+            entries.invalidate(key);
+            unlink(surrogateKey, key);
+        }
+    }
+
+    /**
+     * 커밋 이후 대리 키에 속한 모든 응답을 제거
+     *
+     * @param surrogateKey 대리 키
+     */
+    public void purge(String surrogateKey) {
+        TransactionCallbacks.afterCommit(() -> {
+            remove(surrogateKey);
+            invalidationBus.publish(REGION, surrogateKey);
+        });
+    }
+
+    private void remove(String surrogateKey) {
+        generations.incrementAndGet(stripe(surrogateKey));
+        Set<String> keys = keysBySurrogate.remove(surrogateKey);
+        if (keys != null && !keys.isEmpty()) {
+            entries.invalidateAll(keys);
+            log.debug("응답 캐시 제거 - surrogateKey: {}, entries: {}", surrogateKey, keys.size());
+        }
+    }
+
+    private void link(String surrogateKey, String key) {
+        keysBySurrogate.compute(surrogateKey, (k, keys) -> {
+            Set<String> linked = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            linked.add(key);
+            return linked;
+        });
+    }
+
+    private void unlink(String surrogateKey, String key) {
+        keysBySurrogate.computeIfPresent(surrogateKey, (k, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static int stripe(String surrogateKey) {
+        int hash = surrogateKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * 매장 단위 대리 키
+     *
+     * @param storeId 매장 ID
+     * @return 대리 키
+     */
+    public static String storeKey(Long storeId) {
+        return "store:" + storeId;
+    }
+}
@@ -0,0 +1,175 @@
+package com.zerobase.zbpaymentstudy.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 매장별 리뷰 목록(GET /api/v1/reviews/stores/{storeId}) 응답 캐시 필터
+ * <p>
+ * 매장마다 앞쪽 몇 페이지의 직렬화된 JSON 바이트를 {@link ResponseByteCache}에 보관하고,
+ * 캐시 적중 시 서비스 계층, 데이터베이스, Jackson 직렬화를 거치지 않고 바이트를 그대로 응답
+ * ETag를 함께 내려주며 If-None-Match가 일치하면 본문 없이 304로 응답
+ * <p>
+ * 기본 순서(가장 낮은 우선순위)로 등록되어 Spring Security 필터 체인 이후에 실행되므로 인증은 그대로 적용됨
+ */
+@Slf4j
+@Component
+public class ReviewListResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern STORE_REVIEWS_PATH = Pattern.compile("^/api/v1/reviews/stores/(\\d+)$");
+
+    /**
+     * 캐시 키에 포함하는 쿼리 파라미터 (그 외 파라미터가 있으면 캐시하지 않음)
+     */
+    private static final Set<String> CACHEABLE_PARAMS = Set.of("page", "size", "sort");
+
+    private final ResponseByteCache responseByteCache;
+
+    /**
+     * 매장마다 캐시할 앞쪽 페이지 수
+     */
+    private final int maxPages;
+
+    public ReviewListResponseCacheFilter(
+        ResponseByteCache responseByteCache,
+        @Value("${cache.response.review-pages:3}") int maxPages
+    ) {
+        this.responseByteCache = responseByteCache;
+        this.maxPages = maxPages;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+            || !STORE_REVIEWS_PATH.matcher(pathWithinApplication(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain chain
+    ) throws ServletException, IOException {
+        Matcher matcher = STORE_REVIEWS_PATH.matcher(pathWithinApplication(request));
+        String cacheKey = matcher.matches() ? cacheKey(matcher.group(1), request) : null;
+        if (cacheKey == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse cached = responseByteCache.get(cacheKey);
+        if (cached != null) {
+            writeCached(request, response, cached);
+            return;
+        }
+
+        String surrogateKey = ResponseByteCache.storeKey(Long.valueOf(matcher.group(1)));
+        long generation = responseByteCache.generation(surrogateKey);
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentSize() > 0) {
+            byte[] body = wrapper.getContentAsByteArray();
+            CachedResponse entry = new CachedResponse(
+                surrogateKey,
+                wrapper.getContentType(),
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+                body,
+                gzip(body)
+            );
+            responseByteCache.put(cacheKey, entry, generation);
+            wrapper.setHeader(HttpHeaders.ETAG, entry.etag());
+            wrapper.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            wrapper.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * 캐시된 응답을 그대로 기록
+     * 클라이언트가 gzip을 지원하면 미리 압축한 바이트를 사용
+     */
+    private void writeCached(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        CachedResponse cached
+    ) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(cached.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = cached.body();
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = cached.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 매장 ID와 정규화한 쿼리 파라미터로 캐시 키 생성
+     * 캐시 대상 페이지를 벗어나거나 알 수 없는 파라미터가 있으면 null
+     */
+    private String cacheKey(String storeId, HttpServletRequest request) {
+        if (!CACHEABLE_PARAMS.containsAll(request.getParameterMap().keySet())) {
+            return null;
+        }
+
+        int page;
+        try {
+            String pageParam = request.getParameter("page");
+            page = pageParam == null ? 0 : Integer.parseInt(pageParam);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (page < 0 || page >= maxPages) {
+            return null;
+        }
+
+        String size = request.getParameter("size");
+        String[] sort = request.getParameterValues("sort");
+        return "reviews:" + storeId + ":" + page + ":" + (size != null ? size : "")
+            + ":" + (sort != null ? String.join(";", sort) : "");
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
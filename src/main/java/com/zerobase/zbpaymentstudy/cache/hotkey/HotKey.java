@@ -0,0 +1,11 @@
+package com.zerobase.zbpaymentstudy.cache.hotkey;
+
+/**
+ * 감지된 핫 키
+ */
+public record HotKey(
+    String key,              // 캐시 키
+    long estimatedRequests,  // 최근 요청 수 추정값 (샘플 수 ÷ 샘플링 비율, 감쇠 반영)
+    boolean pinned           // 핫 키 전용 캐시에 고정되어 있는지 여부
+) {
+}
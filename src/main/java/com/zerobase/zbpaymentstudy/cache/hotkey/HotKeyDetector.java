@@ -0,0 +1,124 @@
+package com.zerobase.zbpaymentstudy.cache.hotkey;
+
+import com.zerobase.zbpaymentstudy.common.CountMinSketch;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 요청 경로에서 키를 샘플링하여 빈도 상위 k개 키(heavy hitter)를 찾는 감지기
+ * <p>
+ * 키별 빈도는 고정 크기의 Count-Min Sketch로 추정하고, 추정값이 최소 횟수 이상인 키 중
+ * 상위 k개만 후보로 보관. 요청마다 난수 하나만 비교하고 샘플로 뽑힌 요청만 해시를 계산하므로
+ * 요청 경로 비용이 작음. 주기적인 감쇠로 최근 빈도를 반영하며, 감쇠 후 최소 횟수에 못 미치는 후보는 제외
+ *
+ * @param <K> 키 (hashCode로 스케치 위치를 계산)
+ */
+public final class HotKeyDetector<K> {
+
+    private final CountMinSketch sketch;
+    private final double sampleRate;
+    private final int topK;
+    private final long minCount;
+
+    /**
+     * 핫 키 후보와 추정 샘플 수
+     */
+    private final ConcurrentMap<K, Long> candidates = new ConcurrentHashMap<>();
+
+    public HotKeyDetector(CountMinSketch sketch, double sampleRate, int topK, long minCount) {
+        if (sampleRate <= 0 || sampleRate > 1 || topK <= 0 || minCount <= 0) {
+            throw new IllegalArgumentException("잘못된 핫 키 감지 설정입니다.");
+        }
+        this.sketch = sketch;
+        this.sampleRate = sampleRate;
+        this.topK = topK;
+        this.minCount = minCount;
+    }
+
+    /**
+     * 키 접근을 기록 (샘플링 비율에 따라 일부만 반영)
+     *
+     * @param key 접근한 키
+     */
+    public void record(K key) {
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        long high = mix(key.hashCode());
+        long low = mix(high ^ 0x9E3779B97F4A7C15L);
+        long estimate = sketch.add(high, low);
+        if (estimate < minCount || candidates.computeIfPresent(key, (k, count) -> estimate) != null) {
+            return;
+        }
+
+        synchronized (candidates) {
+            if (candidates.size() < topK) {
+                candidates.put(key, estimate);
+                return;
+            }
+            candidates.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .filter(coldest -> coldest.getValue() < estimate)
+                .ifPresent(coldest -> {
+                    candidates.remove(coldest.getKey());
+                    candidates.put(key, estimate);
+                });
+        }
+    }
+
+    /**
+     * 현재 핫 키인지 확인
+     */
+    public boolean isHot(K key) {
+        return candidates.containsKey(key);
+    }
+
+    /**
+     * 현재 핫 키 목록
+     */
+    public Set<K> hotKeys() {
+        return candidates.keySet();
+    }
+
+    /**
+     * 스케치와 후보의 빈도를 절반으로 줄이고 최소 횟수에 못 미치는 후보를 제외
+     */
+    public void decay() {
+        sketch.decay();
+        synchronized (candidates) {
+            candidates.replaceAll((key, count) -> count >>> 1);
+            candidates.values().removeIf(count -> count < minCount);
+        }
+    }
+
+    /**
+     * 빈도 내림차순 핫 키 목록
+     *
+     * @param pinned 키가 핫 키 전용 캐시에 고정되어 있는지 확인하는 함수
+     */
+    List<HotKey> snapshot(Predicate<K> pinned) {
+        return candidates.entrySet().stream()
+            .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()))
+            .map(entry -> new HotKey(String.valueOf(entry.getKey()),
+                Math.round(entry.getValue() / sampleRate), pinned.test(entry.getKey())))
+            .toList();
+    }
+
+    /**
+     * hashCode를 64비트로 고르게 퍼뜨림 (SplitMix64 마무리 함수)
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
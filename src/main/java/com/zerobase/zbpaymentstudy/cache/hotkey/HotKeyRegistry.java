@@ -0,0 +1,84 @@
+package com.zerobase.zbpaymentstudy.cache.hotkey;
+
+import com.zerobase.zbpaymentstudy.common.CountMinSketch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 캐시별 핫 키 감지기와 핫 키 전용 근접 캐시를 생성하고 주기 작업(감쇠, 갱신)을 실행하는 레지스트리
+ * 모든 근접 캐시는 같은 감지 설정(cache.hot-keys)을 사용
+ */
+@Component
+public class HotKeyRegistry {
+
+    private final double sampleRate;
+    private final int topK;
+    private final long minCount;
+    private final int sketchWidth;
+    private final int sketchDepth;
+
+    private final ConcurrentMap<String, PinnedNearCache<?, ?>> nearCaches = new ConcurrentHashMap<>();
+
+    public HotKeyRegistry(
+        @Value("${cache.hot-keys.sample-rate:0.05}") double sampleRate,
+        @Value("${cache.hot-keys.top-k:32}") int topK,
+        @Value("${cache.hot-keys.min-count:20}") long minCount,
+        @Value("${cache.hot-keys.sketch-width:4096}") int sketchWidth,
+        @Value("${cache.hot-keys.sketch-depth:4}") int sketchDepth
+    ) {
+        this.sampleRate = sampleRate;
+        this.topK = topK;
+        this.minCount = minCount;
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+    }
+
+    /**
+     * 이름별 핫 키 전용 근접 캐시 생성
+     *
+     * @param name 캐시 이름 (핫 키 조회 엔드포인트에 표시)
+     * @return 새 근접 캐시
+     * @throws IllegalStateException 같은 이름의 캐시가 이미 있는 경우
+     */
+    public <K, V> PinnedNearCache<K, V> nearCache(String name) {
+        HotKeyDetector<K> detector = new HotKeyDetector<>(
+            new CountMinSketch(sketchWidth, sketchDepth), sampleRate, topK, minCount);
+        PinnedNearCache<K, V> nearCache = new PinnedNearCache<>(name, detector);
+        if (nearCaches.putIfAbsent(name, nearCache) != null) {
+            throw new IllegalStateException("이미 등록된 핫 키 캐시입니다: " + name);
+        }
+        return nearCache;
+    }
+
+    /**
+     * 캐시별 현재 핫 키 (빈도 내림차순)
+     */
+    public Map<String, List<HotKey>> snapshot() {
+        Map<String, List<HotKey>> snapshot = new LinkedHashMap<>();
+        nearCaches.values().forEach(nearCache -> snapshot.put(nearCache.name(), nearCache.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * 빈도를 주기적으로 감쇠하여 최근 트래픽 기준으로 핫 키를 다시 판단
+     */
+    @Scheduled(fixedDelayString = "${cache.hot-keys.decay-interval-ms:60000}")
+    public void decay() {
+        nearCaches.values().forEach(nearCache -> nearCache.detector().decay());
+    }
+
+    /**
+     * 고정된 핫 키를 만료 전에 다시 조회하고, 더 이상 핫 키가 아닌 항목의 고정을 해제
+     */
+    @Scheduled(fixedDelayString = "${cache.hot-keys.refresh-interval-ms:10000}")
+    public void refresh() {
+        nearCaches.values().forEach(PinnedNearCache::refresh);
+    }
+}
@@ -0,0 +1,25 @@
+package com.zerobase.zbpaymentstudy.cache.hotkey;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시별 현재 핫 키를 조회하는 Actuator 엔드포인트 (/actuator/hotkeys)
+ */
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private final HotKeyRegistry hotKeyRegistry;
+
+    @ReadOperation
+    public Map<String, List<HotKey>> hotKeys() {
+        return hotKeyRegistry.snapshot();
+    }
+}
@@ -0,0 +1,142 @@
+package com.zerobase.zbpaymentstudy.cache.hotkey;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * 핫 키만 고정(pin)하여 보관하는 작은 근접 캐시
+ * <p>
+ * 일반 캐시 앞에 두어 접근을 {@link HotKeyDetector}에 기록하고, 핫 키로 감지된 키의 값은 이 캐시에 고정하여
+ * 일반 캐시의 크기 제한이나 만료로 밀려나지 않도록 함. 고정된 항목은 주기적으로 다시 조회하여 갱신하며,
+ * 더 이상 핫 키가 아니면 고정을 해제. 크기는 감지기의 상위 k개로 제한됨
+ * <p>
+ * 조회와 갱신이 진행되는 동안 무효화가 일어나면 세대 번호나 항목 교체 조건으로 이전 값이 다시 고정되지 않도록 함
+ *
+ * @param <K> 캐시 키
+ * @param <V> 캐시 값
+ */
+@Slf4j
+public final class PinnedNearCache<K, V> {
+
+    private final String name;
+    private final HotKeyDetector<K> detector;
+    private final ConcurrentMap<K, Pinned<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화 세대 번호 (무효화할 때마다 증가)
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    PinnedNearCache(String name, HotKeyDetector<K> detector) {
+        this.name = name;
+        this.detector = detector;
+    }
+
+    /**
+     * 접근을 기록하고, 고정된 값이 있으면 반환. 핫 키인데 고정되지 않았으면 일반 캐시의 값을 고정
+     *
+     * @param key    캐시 키
+     * @param loader 고정된 항목을 갱신할 때 사용할 조회 로직 (스케줄러 스레드에서 실행됨)
+     * @param source 일반 캐시 조회
+     * @return 캐시 값
+     */
+    public V get(K key, Supplier<V> loader, Supplier<V> source) {
+        detector.record(key);
+        Pinned<V> pinned = entries.get(key);
+        if (pinned != null) {
+            return pinned.value();
+        }
+        if (!detector.isHot(key)) {
+            return source.get();
+        }
+
+        long before = generation.get();
+        V value = source.get();
+        Pinned<V> created = new Pinned<>(value, loader);
+        if (entries.putIfAbsent(key, created) == null && generation.get() != before) {
+            // 조회하는 동안 무효화가 일어났으면 이전 값일 수 있으므로 고정하지 않음
+            entries.remove(key, created);
+        }
+        return value;
+    }
+
+    /**
+     * 키의 고정 항목을 제거
+     */
+    public void remove(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 고정 항목을 제거
+     *
+     * @return 제거된 항목 수
+     */
+    public int removeIf(BiPredicate<K, V> predicate) {
+        generation.incrementAndGet();
+        int before = entries.size();
+        entries.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue().value()));
+        return before - entries.size();
+    }
+
+    /**
+     * 핫 키가 아닌 항목의 고정을 해제하고, 나머지는 다시 조회하여 교체
+     * 갱신하는 동안 무효화된 항목은 교체하지 않음
+     */
+    void refresh() {
+        for (Map.Entry<K, Pinned<V>> entry : entries.entrySet()) {
+            K key = entry.getKey();
+            Pinned<V> current = entry.getValue();
+            if (!detector.isHot(key)) {
+                entries.remove(key, current);
+                continue;
+            }
+            try {
+                entries.replace(key, current, new Pinned<>(current.loader().get(), current.loader()));
+            } catch (Exception e) {
+                log.warn("핫 키 캐시 갱신 실패 - cache: {}, key: {}", name, key, e);
+            }
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    HotKeyDetector<K> detector() {
+        return detector;
+    }
+
+    List<HotKey> snapshot() {
+        return detector.snapshot(entries::containsKey);
+    }
+
+    /**
+     * 고정된 값과 갱신용 조회 로직 (교체 여부를 동일성으로 판단하도록 record 대신 클래스 사용)
+     */
+    private static final class Pinned<V> {
+        private final V value;
+        private final Supplier<V> loader;
+
+        private Pinned(V value, Supplier<V> loader) {
+            this.value = value;
+            this.loader = loader;
+        }
+
+        private V value() {
+            return value;
+        }
+
+        private Supplier<V> loader() {
+            return loader;
+        }
+    }
+}
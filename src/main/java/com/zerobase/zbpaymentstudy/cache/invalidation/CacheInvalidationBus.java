@@ -0,0 +1,118 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 로컬(near) 캐시의 무효화를 다른 노드에 전파하는 버스
+ * <p>
+ * 각 캐시 래퍼는 로컬 항목을 무효화한 뒤 publish로 같은 무효화를 다른 노드에 알리고,
+ * 영역별로 subscribe한 핸들러로 다른 노드의 무효화를 적용
+ * 발행된 무효화는 키별로 합쳐진 뒤 짧은 주기로 배치 전송되므로, 같은 매장에 쓰기가 몰려도
+ * 주기마다 무효화 하나만 전송됨. 수신한 배치도 중복을 제거한 뒤 적용
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final int batchSize;
+
+    /**
+     * 이 노드의 ID (자신이 보낸 무효화를 다시 적용하지 않도록 사용)
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 전송 대기 중인 무효화 (집합이므로 같은 키의 무효화는 하나로 합쳐짐)
+     */
+    private final Set<Invalidation> pending = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(
+        InvalidationTransport transport,
+        @Value("${cache.invalidation.batch-size:500}") int batchSize
+    ) {
+        this.transport = transport;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 다른 노드에 무효화를 전파하도록 등록 (로컬 무효화는 호출하는 쪽에서 처리)
+     * 커밋 이후에 호출해야 다른 노드가 커밋 전 데이터를 다시 캐시하지 않음
+     *
+     * @param region 무효화 영역
+     * @param key    영역 안에서의 키
+     */
+    public void publish(String region, String key) {
+        pending.add(new Invalidation(region, key));
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화를 처리할 핸들러 등록
+     *
+     * @param region  무효화 영역
+     * @param handler 키를 받아 로컬 캐시를 무효화하는 핸들러 (다시 publish하면 안 됨)
+     */
+    public void subscribe(String region, Consumer<String> handler) {
+        handlers.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * 대기 중인 무효화를 배치로 전송
+     * 전송에 실패한 배치는 다시 대기열에 넣어 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.flush-interval-ms:200}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<Invalidation> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            Iterator<Invalidation> iterator = pending.iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+
+            try {
+                transport.send(nodeId, batch);
+            } catch (Exception e) {
+                log.error("캐시 무효화 전송 실패 - size: {}", batch.size(), e);
+                pending.addAll(batch);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화를 받아 로컬 캐시에 적용
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:500}")
+    public void poll() {
+        Set<Invalidation> received = new LinkedHashSet<>(transport.receive(nodeId));
+        for (Invalidation invalidation : received) {
+            for (Consumer<String> handler : handlers.getOrDefault(invalidation.region(), List.of())) {
+                try {
+                    handler.accept(invalidation.key());
+                } catch (Exception e) {
+                    log.error("캐시 무효화 적용 실패 - {}", invalidation, e);
+                }
+            }
+        }
+        if (!received.isEmpty()) {
+            log.debug("다른 노드의 캐시 무효화 적용 - size: {}", received.size());
+        }
+    }
+}
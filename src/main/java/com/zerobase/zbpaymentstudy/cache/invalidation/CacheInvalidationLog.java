@@ -0,0 +1,41 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 캐시 무효화 로그 테이블
+ * JdbcInvalidationTransport가 JDBC로 직접 읽고 쓰며, 엔티티는 스키마 생성을 위해서만 사용
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "cache_invalidation_log", indexes = {
+    @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at")
+})
+public class CacheInvalidationLog {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String region;          // 무효화 영역
+
+    @Column(name = "cache_key", nullable = false, length = 512)
+    private String cacheKey;        // 영역 안에서의 키
+
+    @Column(name = "origin_node", nullable = false, length = 36)
+    private String originNode;      // 전송한 노드 ID
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,124 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시(노드별 로컬 캐시)의 엔티티 변경을 다른 노드에 전파하는 컴포넌트
+ * <p>
+ * Hibernate를 거친 변경은 커밋 이후 이벤트로 받아 무효화 버스에 발행하고,
+ * Hibernate를 거치지 않는 변경(JDBC 갱신, JPQL 일괄 갱신)은 {@link #evict}로 직접 무효화
+ * 다른 노드는 해당 엔티티 항목을 제거하며, 행이 추가/삭제된 경우에는 그 엔티티의 테이블(쿼리 공간)만
+ * 갱신된 것으로 표시하여 해당 테이블을 읽는 캐시된 쿼리 결과만 무효화 (2차 캐시에 저장되는 엔티티는 모두 Long ID를 사용)
+ */
+@Slf4j
+@Component
+public class EntityCacheInvalidator implements
+    PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final String ENTITY_REGION = "entities";
+    private static final String QUERY_REGION = "entity-queries";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheImplementor hibernateCache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory, CacheInvalidationBus invalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.hibernateCache = sessionFactory.getCache();
+        this.invalidationBus = invalidationBus;
+
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        invalidationBus.subscribe(ENTITY_REGION, this::evictLocal);
+        invalidationBus.subscribe(QUERY_REGION, this::invalidateQuerySpaces);
+    }
+
+    /**
+     * Hibernate를 거치지 않고 갱신한 엔티티의 2차 캐시 항목을 무효화
+     * 갱신 중에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 즉시 한 번, 커밋 이후 한 번 더 제거하고
+     * 커밋 이후 다른 노드에도 전파
+     *
+     * @param entityType 엔티티 타입
+     * @param id         엔티티 ID
+     */
+    public void evict(Class<?> entityType, Long id) {
+        hibernateCache.evictEntityData(entityType, id);
+        TransactionCallbacks.afterCommit(() -> {
+            hibernateCache.evictEntityData(entityType, id);
+            invalidationBus.publish(ENTITY_REGION, entityType.getName() + "#" + id);
+        });
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidationBus.publish(QUERY_REGION, event.getPersister().getEntityName());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidationBus.publish(ENTITY_REGION, event.getPersister().getEntityName() + "#" + event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidationBus.publish(ENTITY_REGION, event.getPersister().getEntityName() + "#" + event.getId());
+        invalidationBus.publish(QUERY_REGION, event.getPersister().getEntityName());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    /**
+     * 2차 캐시에 저장되는 엔티티의 변경만 전파
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void evictLocal(String key) {
+        int separator = key.lastIndexOf('#');
+        hibernateCache.evictEntityData(key.substring(0, separator), Long.valueOf(key.substring(separator + 1)));
+    }
+
+    /**
+     * 다른 노드에서 행이 추가/삭제된 엔티티의 테이블을 로컬 갱신 시각 캐시에 갱신된 것으로 기록
+     * 쿼리 캐시는 결과를 읽을 때 쿼리가 읽는 테이블의 갱신 시각과 비교하므로,
+     * 해당 테이블을 읽는 쿼리 결과만 다음 조회에서 버려지고 다른 쿼리 캐시 영역은 그대로 유지됨
+     */
+    private void invalidateQuerySpaces(String entityName) {
+        String[] spaces = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName).getPropertySpaces();
+        // 갱신 시각 기록은 세션으로부터 팩토리만 참조하므로 커넥션을 얻지 않는 임시 세션을 사용
+        try (Session session = sessionFactory.openSession()) {
+            hibernateCache.getTimestampsCache().invalidate(spaces, (SharedSessionContractImplementor) session);
+        }
+    }
+}
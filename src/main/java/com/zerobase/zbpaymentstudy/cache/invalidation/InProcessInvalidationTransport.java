@@ -0,0 +1,45 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 같은 JVM 안의 노드(애플리케이션 컨텍스트)끼리 무효화를 전달하는 전송 계층
+ * 테스트에서 여러 컨텍스트를 띄워 노드 간 무효화를 검증하거나, 단일 노드 환경에서 DB 폴링을 생략할 때 사용
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "in-process")
+public class InProcessInvalidationTransport implements InvalidationTransport {
+
+    /**
+     * 노드별 수신함 (JVM 전체에서 공유)
+     */
+    private static final Map<String, Queue<Invalidation>> INBOXES = new ConcurrentHashMap<>();
+
+    @Override
+    public void send(String originNode, List<Invalidation> batch) {
+        INBOXES.forEach((nodeId, inbox) -> {
+            if (!nodeId.equals(originNode)) {
+                inbox.addAll(batch);
+            }
+        });
+    }
+
+    @Override
+    public List<Invalidation> receive(String nodeId) {
+        Queue<Invalidation> inbox = INBOXES.computeIfAbsent(nodeId, id -> new ConcurrentLinkedQueue<>());
+        List<Invalidation> received = new ArrayList<>();
+        Invalidation invalidation;
+        while ((invalidation = inbox.poll()) != null) {
+            received.add(invalidation);
+        }
+        return received;
+    }
+}
@@ -0,0 +1,11 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+/**
+ * 다른 노드에 전달되는 캐시 무효화 메시지
+ * 같은 영역과 키의 무효화는 동일한 값으로 취급되어 배치 안에서 하나로 합쳐짐
+ */
+public record Invalidation(
+    String region,  // 무효화 영역 (캐시 래퍼별 이름)
+    String key      // 영역 안에서의 키 (문자열로 직렬화된 캐시 키)
+) {
+}
@@ -0,0 +1,26 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+import java.util.List;
+
+/**
+ * 캐시 무효화 메시지를 노드 간에 전달하는 전송 계층
+ * CacheInvalidationBus가 주기적으로 send/receive를 호출하며, 구현은 cache.invalidation.transport 설정으로 선택
+ */
+public interface InvalidationTransport {
+
+    /**
+     * 무효화 배치를 다른 노드에 전송
+     *
+     * @param originNode 전송하는 노드 ID
+     * @param batch      중복이 제거된 무효화 목록
+     */
+    void send(String originNode, List<Invalidation> batch);
+
+    /**
+     * 다른 노드가 전송한 무효화 중 아직 받지 않은 것을 가져옴
+     *
+     * @param nodeId 수신하는 노드 ID (자신이 보낸 메시지는 제외)
+     * @return 새 무효화 목록
+     */
+    List<Invalidation> receive(String nodeId);
+}
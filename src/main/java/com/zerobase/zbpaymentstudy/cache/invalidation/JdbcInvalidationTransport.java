@@ -0,0 +1,147 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * DB 무효화 로그 테이블을 폴링하는 기본 전송 계층
+ * <p>
+ * 별도의 메시지 브로커 없이 이미 모든 노드가 연결된 DB로 무효화를 전달
+ * 마지막으로 읽은 ID 이후만 읽으므로 한 번에 읽는 양과 관계없이 항상 앞으로 진행하며,
+ * 자동 증가 ID는 커밋 순서와 다를 수 있으므로 건너뛴 ID는 빈 자리로 기록해 두었다가 다시 조회하여
+ * 늦게 커밋된 무효화를 놓치지도, 두 번 적용하지도 않음
+ * 롤백된 전송이 남긴 빈 자리는 대기 시간이 지나면 버림
+ * 오래된 로그는 보관 기간이 지나면 주기적으로 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO cache_invalidation_log (region, cache_key, origin_node, created_at) VALUES (?, ?, ?, ?)";
+
+    // 자신이 보낸 로그도 읽어야 빈 자리와 구분할 수 있으므로 노드는 읽은 뒤에 거름
+    private static final String RECEIVE_SQL =
+        "SELECT id, region, cache_key, origin_node FROM cache_invalidation_log " +
+        "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String RECEIVE_GAPS_SQL =
+        "SELECT id, region, cache_key, origin_node FROM cache_invalidation_log WHERE id IN (%s)";
+
+    private static final String PURGE_SQL =
+        "DELETE FROM cache_invalidation_log WHERE created_at < ? LIMIT 10000";
+
+    /**
+     * 기록해 두는 빈 자리의 최대 수 (ID가 크게 건너뛴 경우 메모리와 재조회 비용을 제한)
+     */
+    private static final int MAX_GAPS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int receiveLimit;
+    private final Duration retention;
+    private final long gapTimeoutNanos;
+
+    /**
+     * 아직 읽지 못한 ID와 처음 발견한 시각 (receive는 스케줄러 스레드 하나에서만 실행)
+     */
+    private final NavigableMap<Long, Long> gaps = new TreeMap<>();
+
+    /**
+     * 마지막으로 읽은 로그 ID (첫 수신 전에는 -1)
+     */
+    private long lastId = -1;
+
+    public JdbcInvalidationTransport(
+        JdbcTemplate jdbcTemplate,
+        @Value("${cache.invalidation.batch-size:500}") int receiveLimit,
+        @Value("${cache.invalidation.retention:10m}") Duration retention,
+        @Value("${cache.invalidation.gap-timeout:10s}") Duration gapTimeout
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.receiveLimit = receiveLimit;
+        this.retention = retention;
+        this.gapTimeoutNanos = gapTimeout.toNanos();
+    }
+
+    @Override
+    public void send(String originNode, List<Invalidation> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, invalidation) -> {
+            ps.setString(1, invalidation.region());
+            ps.setString(2, invalidation.key());
+            ps.setString(3, originNode);
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    @Override
+    public List<Invalidation> receive(String nodeId) {
+        if (lastId < 0) {
+            // 시작 시점의 로컬 캐시는 비어 있으므로 이전 로그는 적용할 필요 없음
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_invalidation_log", Long.class);
+            lastId = maxId != null ? maxId : 0;
+            return List.of();
+        }
+
+        long now = System.nanoTime();
+        gaps.values().removeIf(foundAt -> now - foundAt > gapTimeoutNanos);
+
+        List<Invalidation> received = new ArrayList<>();
+        receiveGaps(nodeId, received);
+
+        jdbcTemplate.query(RECEIVE_SQL, rs -> {
+            long id = rs.getLong("id");
+            for (long missing = lastId + 1; missing < id && gaps.size() < MAX_GAPS; missing++) {
+                gaps.put(missing, now);
+            }
+            lastId = id;
+            if (!nodeId.equals(rs.getString("origin_node"))) {
+                received.add(new Invalidation(rs.getString("region"), rs.getString("cache_key")));
+            }
+        }, lastId, receiveLimit);
+
+        return received;
+    }
+
+    /**
+     * 빈 자리로 기록한 ID 중 그 사이에 커밋된 로그를 읽음
+     */
+    private void receiveGaps(String nodeId, List<Invalidation> received) {
+        List<Long> pending = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < pending.size(); from += receiveLimit) {
+            List<Long> chunk = pending.subList(from, Math.min(from + receiveLimit, pending.size()));
+            String sql = String.format(RECEIVE_GAPS_SQL, String.join(",", Collections.nCopies(chunk.size(), "?")));
+            jdbcTemplate.query(sql, rs -> {
+                gaps.remove(rs.getLong("id"));
+                if (!nodeId.equals(rs.getString("origin_node"))) {
+                    received.add(new Invalidation(rs.getString("region"), rs.getString("cache_key")));
+                }
+            }, chunk.toArray());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 무효화 로그 삭제
+     */
+    @Scheduled(fixedDelayString = "${cache.invalidation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int deleted = jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+        if (deleted > 0) {
+            log.debug("캐시 무효화 로그 삭제 - deleted: {}", deleted);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.zerobase.zbpaymentstudy.cache.offheap;
+
+import java.util.Arrays;
+
+/**
+ * long 키 → long 값 오픈 어드레싱 해시 테이블 (선형 탐사)
+ * <p>
+ * 키와 값을 두 개의 원시 배열에 보관하므로 항목마다 객체(박싱된 Long, Map.Entry)가 생기지 않음
+ * 삭제 시 뒤따르는 항목을 앞으로 당겨(backward shift) 묘비(tombstone) 없이 탐사 길이를 유지
+ * 값 -1은 빈 칸 표시로 사용하므로 저장할 수 없음. 스레드 안전하지 않음 (호출하는 쪽에서 잠금)
+ */
+final class LongLongIndex {
+
+    static final long NONE = -1L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongLongIndex(int initialCapacity) {
+        int capacity = 16;
+        while (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * @return 키의 값, 없으면 {@link #NONE}
+     */
+    long get(long key) {
+        int i = home(key);
+        while (values[i] != NONE) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return NONE;
+    }
+
+    /**
+     * @return 이전 값, 없었으면 {@link #NONE}
+     */
+    long put(long key, long value) {
+        if (value == NONE) {
+            throw new IllegalArgumentException("저장할 수 없는 값입니다.");
+        }
+        if ((size + 1) * 2 > values.length) {
+            rehash(values.length * 2);
+        }
+
+        int i = home(key);
+        while (values[i] != NONE) {
+            if (keys[i] == key) {
+                long previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        return NONE;
+    }
+
+    /**
+     * @return 제거된 값, 없었으면 {@link #NONE}
+     */
+    long remove(long key) {
+        int i = home(key);
+        while (values[i] != NONE) {
+            if (keys[i] == key) {
+                long removed = values[i];
+                shiftBack(i);
+                size--;
+                return removed;
+            }
+            i = (i + 1) & mask;
+        }
+        return NONE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 모든 항목을 방문 (방문 중에 변경하면 안 됨)
+     */
+    <E extends Exception> void forEach(Visitor<E> visitor) throws E {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != NONE) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor<E extends Exception> {
+        void visit(long key, long value) throws E;
+    }
+
+    /**
+     * 비운 칸 뒤의 항목 중 원래 위치가 비운 칸 이전인 항목을 당겨 탐사가 끊기지 않도록 함
+     */
+    private void shiftBack(int gap) {
+        values[gap] = NONE;
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == NONE) {
+                return;
+            }
+            int home = home(keys[j]);
+            // home이 순환 구간 (gap, j]에 있으면 그대로 두고, 아니면 빈 칸으로 이동
+            boolean inRange = gap <= j ? (gap < home && home <= j) : (gap < home || home <= j);
+            if (!inRange) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                values[j] = NONE;
+                gap = j;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != NONE) {
+                int j = home(oldKeys[i]);
+                while (values[j] != NONE) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(values, NONE);
+        mask = capacity - 1;
+    }
+
+    private int home(long key) {
+        long z = key * 0x9E3779B97F4A7C15L;
+        return (int) (z ^ (z >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,335 @@
+package com.zerobase.zbpaymentstudy.cache.offheap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 직렬화된 값을 힙 밖(direct ByteBuffer 슬랩)에 보관하는 long 키 캐시
+ * <p>
+ * 값은 크기 등급(256B ~ 8KB)별 고정 크기 슬롯에 저장하고, 키 → 슬롯 위치는 원시 배열 기반 해시 테이블로 찾으므로
+ * 항목 수가 늘어도 힙에는 객체가 생기지 않아 GC 대상이 늘지 않음
+ * 메모리 상한에 도달하면 크기 등급 안에서 클럭(second chance) 알고리즘으로 최근에 읽히지 않은 슬롯을 교체
+ * <p>
+ * 조회는 읽기 잠금 안에서 슬롯을 스레드별 버퍼로 복사한 뒤, 잠금을 놓고 버퍼를 그대로 전달하므로
+ * 역직렬화나 조회마다의 배열 할당이 없음. 등록/제거는 쓰기 잠금으로 처리
+ * 슬롯보다 큰 값은 저장하지 않으며, 슬랩은 크기 등급 사이에서 재배치되지 않음
+ */
+public final class OffHeapSlabCache {
+
+    private static final int[] SLOT_SIZES = {256, 512, 1024, 2048, 4096, 8192};
+
+    /**
+     * 가장 큰 슬롯 크기 (이보다 큰 값은 저장하지 않음)
+     */
+    public static final int MAX_VALUE_SIZE = SLOT_SIZES[SLOT_SIZES.length - 1];
+
+    private final int slabBytes;
+    private final int maxSlabs;
+    private final SizeClass[] classes = new SizeClass[SLOT_SIZES.length];
+    private final LongLongIndex index = new LongLongIndex(1024);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[MAX_VALUE_SIZE]);
+
+    /**
+     * 할당된 슬랩 수 (쓰기 잠금 안에서만 변경)
+     */
+    private int slabCount;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxBytes  슬랩 전체 크기 상한
+     * @param slabBytes 슬랩 하나의 크기 (가장 큰 슬롯 크기 이상)
+     */
+    public OffHeapSlabCache(long maxBytes, int slabBytes) {
+        if (slabBytes < MAX_VALUE_SIZE || maxBytes < slabBytes) {
+            throw new IllegalArgumentException("잘못된 오프힙 캐시 설정입니다.");
+        }
+        this.slabBytes = slabBytes;
+        this.maxSlabs = (int) Math.min(Integer.MAX_VALUE, maxBytes / slabBytes);
+        for (int i = 0; i < SLOT_SIZES.length; i++) {
+            classes[i] = new SizeClass(i, SLOT_SIZES[i]);
+        }
+    }
+
+    /**
+     * 값을 저장 (같은 키의 이전 값은 교체)
+     *
+     * @param key   키
+     * @param value 직렬화된 값
+     * @return 저장했으면 true, 값이 너무 크거나 해당 크기 등급에 슬랩을 할당할 수 없으면 false
+     */
+    public boolean put(long key, byte[] value) {
+        SizeClass sizeClass = classFor(value.length);
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (sizeClass == null) {
+                return false;
+            }
+            int slot = sizeClass.allocate();
+            if (slot < 0) {
+                return false;
+            }
+            sizeClass.write(slot, key, value);
+            index.put(key, encode(sizeClass.id, value.length, slot));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 값을 sink에 전달
+     * 전달되는 배열은 스레드별로 재사용되므로 sink 밖으로 참조를 남기면 안 됨
+     *
+     * @param key  키
+     * @param sink 값을 받을 대상 (잠금 밖에서 호출)
+     * @return 값이 있으면 true
+     */
+    public boolean read(long key, Sink sink) throws IOException {
+        byte[] buffer = scratch.get();
+        int length;
+        lock.readLock().lock();
+        try {
+            long location = index.get(key);
+            if (location == LongLongIndex.NONE) {
+                misses.increment();
+                return false;
+            }
+            length = lengthOf(location);
+            classes[classOf(location)].read(slotOf(location), buffer, length);
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.increment();
+        sink.accept(buffer, 0, length);
+        return true;
+    }
+
+    /**
+     * 저장된 모든 항목을 visitor에 전달 (스냅샷 기록용)
+     * 읽기 잠금을 유지한 채 방문하므로 방문하는 동안 등록/제거가 대기함
+     *
+     * @param visitor 항목을 받을 대상 (전달되는 배열은 재사용되므로 참조를 남기면 안 됨)
+     */
+    public void forEach(EntryVisitor visitor) throws IOException {
+        byte[] buffer = scratch.get();
+        lock.readLock().lock();
+        try {
+            index.forEach((key, location) -> {
+                int length = lengthOf(location);
+                classes[classOf(location)].copy(slotOf(location), buffer, length);
+                visitor.accept(key, buffer, 0, length);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 값을 제거
+     *
+     * @return 제거했으면 true
+     */
+    public boolean remove(long key) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 할당된 슬랩의 전체 크기 (힙 밖 메모리 사용량)
+     */
+    public long allocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) slabCount * slabBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private boolean removeLocked(long key) {
+        long location = index.remove(key);
+        if (location == LongLongIndex.NONE) {
+            return false;
+        }
+        classes[classOf(location)].free(slotOf(location));
+        return true;
+    }
+
+    private SizeClass classFor(int length) {
+        for (SizeClass sizeClass : classes) {
+            if (length <= sizeClass.slotSize) {
+                return sizeClass;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 슬롯 위치 인코딩: 크기 등급(8비트) | 값 길이(24비트) | 슬롯 번호(32비트)
+     */
+    private static long encode(int classId, int length, int slot) {
+        return ((long) classId << 56) | ((long) length << 32) | (slot & 0xFFFFFFFFL);
+    }
+
+    private static int classOf(long location) {
+        return (int) (location >>> 56);
+    }
+
+    private static int lengthOf(long location) {
+        return (int) ((location >>> 32) & 0xFFFFFF);
+    }
+
+    private static int slotOf(long location) {
+        return (int) location;
+    }
+
+    /**
+     * 조회된 값을 받는 대상
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void accept(byte[] buffer, int offset, int length) throws IOException;
+    }
+
+    /**
+     * 저장된 항목을 받는 대상
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        void accept(long key, byte[] buffer, int offset, int length) throws IOException;
+    }
+
+    /**
+     * 같은 크기의 슬롯으로 나뉜 슬랩 묶음
+     * 슬롯별 키, 사용 여부, 참조 비트는 원시 배열로 관리 (쓰기 잠금 안에서 변경, 참조 비트만 읽기 잠금에서 설정)
+     */
+    private final class SizeClass {
+        private final int id;
+        private final int slotSize;
+        private final int slotsPerSlab;
+        private final List<ByteBuffer> slabs = new ArrayList<>();
+
+        private long[] keys = new long[0];
+        private boolean[] referenced = new boolean[0];
+        private int[] freeSlots = new int[0];
+        private int freeCount;
+
+        /**
+         * 클럭 바늘 (다음에 교체 후보로 검사할 슬롯)
+         */
+        private int hand;
+
+        private SizeClass(int id, int slotSize) {
+            this.id = id;
+            this.slotSize = slotSize;
+            this.slotsPerSlab = slabBytes / slotSize;
+        }
+
+        /**
+         * 빈 슬롯, 새 슬랩, 클럭 교체 순으로 슬롯을 확보
+         *
+         * @return 슬롯 번호, 확보할 수 없으면 -1
+         */
+        private int allocate() {
+            if (freeCount == 0 && slabCount < maxSlabs) {
+                addSlab();
+            }
+            if (freeCount > 0) {
+                return freeSlots[--freeCount];
+            }
+            return evict();
+        }
+
+        /**
+         * 참조 비트가 꺼진 슬롯을 찾을 때까지 바늘을 돌리며 지나간 슬롯의 참조 비트를 끔
+         * 한 바퀴 안에 찾지 못하면 두 번째 바퀴에서는 반드시 찾음
+         */
+        private int evict() {
+            int total = keys.length;
+            if (total == 0) {
+                return -1;
+            }
+            while (true) {
+                int slot = hand;
+                hand = (hand + 1) % total;
+                if (referenced[slot]) {
+                    referenced[slot] = false;
+                    continue;
+                }
+                index.remove(keys[slot]);
+                evictions.increment();
+                return slot;
+            }
+        }
+
+        private void addSlab() {
+            slabs.add(ByteBuffer.allocateDirect(slotsPerSlab * slotSize));
+            slabCount++;
+
+            int base = keys.length;
+            keys = Arrays.copyOf(keys, base + slotsPerSlab);
+            referenced = Arrays.copyOf(referenced, base + slotsPerSlab);
+            freeSlots = Arrays.copyOf(freeSlots, base + slotsPerSlab);
+            // 앞쪽 슬롯부터 사용하도록 역순으로 적재
+            for (int slot = base + slotsPerSlab - 1; slot >= base; slot--) {
+                freeSlots[freeCount++] = slot;
+            }
+        }
+
+        private void write(int slot, long key, byte[] value) {
+            slabs.get(slot / slotsPerSlab).put((slot % slotsPerSlab) * slotSize, value, 0, value.length);
+            keys[slot] = key;
+            referenced[slot] = false;
+        }
+
+        private void read(int slot, byte[] destination, int length) {
+            copy(slot, destination, length);
+            // 여러 읽기 스레드가 동시에 true로 설정해도 결과가 같으므로 경합해도 무방
+            referenced[slot] = true;
+        }
+
+        private void copy(int slot, byte[] destination, int length) {
+            slabs.get(slot / slotsPerSlab).get((slot % slotsPerSlab) * slotSize, destination, 0, length);
+        }
+
+        private void free(int slot) {
+            referenced[slot] = false;
+            freeSlots[freeCount++] = slot;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.zerobase.zbpaymentstudy.cache.snapshot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 종료 시 캐시 내용을 바이너리 스냅샷 파일로 기록하고, 시작 시 백그라운드에서 복원하는 컴포넌트
+ * <p>
+ * 배포 직후 모든 노드가 빈 캐시로 시작하여 DB 부하가 몰리는 것을 줄이기 위해 사용
+ * 파일은 메모리 매핑하여 읽고, 항목은 섹션별로 묶음 단위로 검증하여 스냅샷 이후 변경된 데이터의 항목은 버림
+ * 스냅샷 기록 이후에도 종료 전까지 요청이 처리될 수 있으므로 워터마크는 기록 시각에서 허용 시계 오차를 뺀 시각
+ * <p>
+ * 파일 형식: magic(int) version(int) takenAt(long, epoch millis) sectionCount(int) 이후 섹션마다
+ * 이름(short 길이 + UTF-8) 헤더(int 길이 + 바이트) 항목들(int 길이 + 키, int 길이 + 값) 종료 표시(int -1)
+ * 복원한 파일은 삭제하여 오래된 스냅샷이 다음 재시작에서 다시 읽히지 않도록 함
+ */
+@Slf4j
+@Component
+public class CacheSnapshotManager {
+
+    private static final int MAGIC = 0x5A42_4353;
+    // 섹션의 키/값 형식이 바뀌면 올려서 이전 형식의 스냅샷은 복원하지 않음
+    private static final int VERSION = 2;
+    private static final int END_OF_SECTION = -1;
+
+    private final Map<String, CacheSnapshotSection> sections;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path path;
+    private final Duration maxAge;
+    private final Duration clockSkew;
+    private final int batchSize;
+
+    public CacheSnapshotManager(
+        List<CacheSnapshotSection> sections,
+        MeterRegistry meterRegistry,
+        @Value("${cache.snapshot.enabled:true}") boolean enabled,
+        @Value("${cache.snapshot.path:cache-snapshot.bin}") Path path,
+        @Value("${cache.snapshot.max-age:1h}") Duration maxAge,
+        @Value("${cache.snapshot.clock-skew:5s}") Duration clockSkew,
+        @Value("${cache.snapshot.batch-size:500}") int batchSize
+    ) {
+        this.sections = sections.stream()
+            .collect(Collectors.toMap(CacheSnapshotSection::name, Function.identity()));
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.path = path;
+        this.maxAge = maxAge;
+        this.clockSkew = clockSkew;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 컨텍스트가 시작되면 시작 예열(ApplicationRunner)과 겹쳐 실행되도록 별도 스레드에서 스냅샷을 복원
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void restoreInBackground() {
+        if (!enabled || !Files.exists(path)) {
+            return;
+        }
+        Thread loader = new Thread(this::restore, "cache-snapshot-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * 종료가 시작되면 (빈이 제거되기 전에) 현재 캐시 내용을 스냅샷으로 기록
+     * 임시 파일에 모두 쓴 뒤 교체하므로 기록 도중 종료되어도 손상된 파일이 남지 않음
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void write() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(sections.size());
+            for (CacheSnapshotSection section : sections.values()) {
+                writeSection(out, section);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("캐시 스냅샷 기록 실패 - path: {}", path, e);
+            deleteQuietly(temp);
+            return;
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("캐시 스냅샷 기록 완료 - path: {}, bytes: {}, elapsedMs: {}",
+                path, Files.size(path), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } catch (IOException e) {
+            log.warn("캐시 스냅샷 파일 교체 실패 - path: {}", path, e);
+            deleteQuietly(temp);
+        }
+    }
+
+    private void writeSection(DataOutputStream out, CacheSnapshotSection section) throws IOException {
+        byte[] name = section.name().getBytes(StandardCharsets.UTF_8);
+        out.writeShort(name.length);
+        out.write(name);
+        byte[] header = section.header();
+        out.writeInt(header.length);
+        out.write(header);
+        section.dump((key, value, offset, length) -> {
+            out.writeInt(key.length);
+            out.write(key);
+            out.writeInt(length);
+            out.write(value, offset, length);
+        });
+        out.writeInt(END_OF_SECTION);
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑하여 섹션별로 복원
+     * 형식이 맞지 않거나 최대 보관 기간을 넘긴 파일은 무시
+     */
+    void restore() {
+        long startedAt = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                log.warn("캐시 스냅샷 파일이 너무 커서 무시 - path: {}, bytes: {}", path, channel.size());
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.warn("캐시 스냅샷 형식이 맞지 않아 무시 - path: {}", path);
+                return;
+            }
+
+            Instant takenAt = Instant.ofEpochMilli(buffer.getLong());
+            if (takenAt.isBefore(Instant.now().minus(maxAge))) {
+                log.info("오래된 캐시 스냅샷 무시 - takenAt: {}", takenAt);
+                return;
+            }
+            LocalDateTime watermark = LocalDateTime.ofInstant(takenAt.minus(clockSkew), ZoneId.systemDefault());
+
+            int sectionCount = buffer.getInt();
+            for (int i = 0; i < sectionCount; i++) {
+                restoreSection(buffer, watermark);
+            }
+            log.info("캐시 스냅샷 복원 완료 - takenAt: {}, elapsedMs: {}",
+                takenAt, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } catch (IOException | BufferUnderflowException e) {
+            log.warn("캐시 스냅샷 읽기 실패 - path: {}", path, e);
+        } catch (RuntimeException e) {
+            log.warn("캐시 스냅샷 복원 중 오류 발생 - path: {}", path, e);
+        } finally {
+            deleteQuietly(path);
+        }
+    }
+
+    private void restoreSection(ByteBuffer buffer, LocalDateTime watermark) {
+        String name = new String(bytes(buffer, buffer.getShort()), StandardCharsets.UTF_8);
+        byte[] header = bytes(buffer, buffer.getInt());
+        CacheSnapshotSection section = sections.get(name);
+        CacheSnapshotSection.Restorer restorer = section != null ? section.restorer(header, watermark) : null;
+
+        long read = 0;
+        long restored = 0;
+        List<SnapshotEntry> batch = new ArrayList<>(batchSize);
+        int keyLength;
+        while ((keyLength = buffer.getInt()) != END_OF_SECTION) {
+            byte[] key = bytes(buffer, keyLength);
+            byte[] value = bytes(buffer, buffer.getInt());
+            read++;
+            if (restorer == null) {
+                continue;
+            }
+            batch.add(new SnapshotEntry(key, value));
+            if (batch.size() == batchSize) {
+                restored += restorer.restore(batch);
+                batch.clear();
+            }
+        }
+        if (restorer != null && !batch.isEmpty()) {
+            restored += restorer.restore(batch);
+        }
+
+        Counter.builder("cache.snapshot.entries").tags("section", name, "outcome", "restored")
+            .register(meterRegistry).increment(restored);
+        Counter.builder("cache.snapshot.entries").tags("section", name, "outcome", "dropped")
+            .register(meterRegistry).increment(read - restored);
+        log.info("캐시 스냅샷 섹션 복원 - section: {}, read: {}, restored: {}", name, read, restored);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("캐시 스냅샷 파일 삭제 실패 - path: {}", file, e);
+        }
+    }
+}
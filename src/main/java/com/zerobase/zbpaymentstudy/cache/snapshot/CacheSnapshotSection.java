@@ -0,0 +1,60 @@
+package com.zerobase.zbpaymentstudy.cache.snapshot;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캐시 스냅샷에 기록되고 재시작 시 복원되는 캐시 하나
+ * <p>
+ * 키와 값의 직렬화 형식은 섹션이 정하며, 복원할 때는 항목이 나타내는 데이터의 updatedAt이
+ * 스냅샷 워터마크 이후이면(스냅샷 이후에 변경되었으면) 버리고 나머지만 캐시에 넣음
+ */
+public interface CacheSnapshotSection {
+
+    /**
+     * 스냅샷 파일에서 섹션을 구분하는 이름
+     */
+    String name();
+
+    /**
+     * 섹션 전체의 검증에 필요한 정보 (종료 시 항목보다 먼저 기록, 없으면 빈 배열)
+     */
+    byte[] header();
+
+    /**
+     * 현재 캐시 항목을 기록 (종료 시 호출)
+     *
+     * @param sink 항목을 받을 대상
+     */
+    void dump(EntrySink sink) throws IOException;
+
+    /**
+     * 섹션 복원을 시작
+     *
+     * @param header    기록할 때의 {@link #header()}
+     * @param watermark 이 시각 이후에 변경된 데이터의 항목은 버림
+     * @return 항목 묶음을 검증하여 복원하는 대상
+     */
+    Restorer restorer(byte[] header, LocalDateTime watermark);
+
+    /**
+     * 기록할 항목을 받는 대상
+     */
+    @FunctionalInterface
+    interface EntrySink {
+        void accept(byte[] key, byte[] value, int offset, int length) throws IOException;
+    }
+
+    /**
+     * 스냅샷에서 읽은 항목 묶음을 검증하여 캐시에 넣는 대상
+     */
+    @FunctionalInterface
+    interface Restorer {
+        /**
+         * @param entries 항목 묶음
+         * @return 캐시에 넣은 항목 수 (나머지는 오래되어 버려짐)
+         */
+        int restore(List<SnapshotEntry> entries);
+    }
+}
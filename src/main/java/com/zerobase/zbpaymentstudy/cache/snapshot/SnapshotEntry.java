@@ -0,0 +1,10 @@
+package com.zerobase.zbpaymentstudy.cache.snapshot;
+
+/**
+ * 스냅샷 파일에서 읽은 캐시 항목 (키와 값은 섹션이 정한 형식으로 직렬화된 바이트)
+ */
+public record SnapshotEntry(
+    byte[] key,     // 직렬화된 캐시 키
+    byte[] value    // 직렬화된 캐시 값
+) {
+}
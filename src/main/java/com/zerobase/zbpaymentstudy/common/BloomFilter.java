@@ -0,0 +1,131 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 128비트 해시 값을 원소로 사용하는 스레드 안전한 블록 Bloom 필터
+ * <p>
+ * "포함되지 않음" 응답은 항상 정확하며, "포함될 수 있음" 응답은 설정한 오탐률 부근으로 틀릴 수 있음
+ * 원소는 이미 균일하게 분포된 해시(예: SHA-256 다이제스트)라고 가정
+ * <p>
+ * 비트 배열을 64바이트(long 8개, 512비트) 블록으로 나누고, 상위 64비트로 블록 하나를 고른 뒤
+ * k개의 비트 위치는 모두 그 블록 안에서 하위 64비트와 상위 64비트를 조합(h1 + i × h2)하여 계산 (Kirsch-Mitzenmacher)
+ * 조회 한 번이 연속된 64바이트 안에서 끝나므로 k와 무관하게 캐시 라인 한두 개만 읽음
+ * (JVM은 배열 시작 주소를 캐시 라인에 맞춰 주지 않으므로 블록이 두 캐시 라인에 걸칠 수 있음)
+ * 같은 크기의 일반 Bloom 필터보다 오탐률이 높아지므로 필요한 비트 수를 20% 늘려 목표 오탐률 이내로 보정
+ * 원소를 삭제할 수 없으므로 삭제가 필요하면 살아 있는 원소로 새 필터를 만들어 교체
+ */
+public final class BloomFilter {
+
+    /**
+     * 블록 하나의 long 개수 (64바이트)
+     */
+    private static final int WORDS_PER_BLOCK = 8;
+
+    /**
+     * 블록 안의 비트 위치를 나타내는 비트 수 (2^9 = 512)
+     */
+    private static final int BLOCK_BITS_SHIFT = 9;
+
+    /**
+     * 블록 단위 배치로 늘어나는 오탐률을 보정하기 위해 곱하는 비트 수 배율
+     */
+    private static final double BLOCKED_SIZE_FACTOR = 1.2;
+
+    private final AtomicLongArray bits;
+    private final int blockCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 오탐률 (0 초과 1 미만)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("잘못된 Bloom 필터 설정입니다.");
+        }
+        long optimalBits = (long) Math.ceil(
+            -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long blockBits = (long) WORDS_PER_BLOCK * Long.SIZE;
+        long blocks = Math.max(1, (long) Math.ceil(optimalBits * BLOCKED_SIZE_FACTOR / blockBits));
+        if (blocks * WORDS_PER_BLOCK > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom 필터가 너무 큽니다.");
+        }
+        this.blockCount = (int) blocks;
+        this.bits = new AtomicLongArray(blockCount * WORDS_PER_BLOCK);
+        // k는 블록 크기가 아닌 원소당 비트 수로 정하고, 한 블록의 비트 수를 넘지 않게 제한
+        this.hashCount = (int) Math.min(blockBits,
+            Math.max(1, Math.round((double) optimalBits / expectedInsertions * Math.log(2))));
+    }
+
+    /**
+     * 원소 추가
+     *
+     * @param high 해시 상위 64비트
+     * @param low  해시 하위 64비트
+     */
+    public void put(long high, long low) {
+        int base = blockBase(high);
+        long step = step(high);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitInBlock(low, step, i);
+            int word = base + (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 원소가 포함될 수 있는지 확인
+     *
+     * @param high 해시 상위 64비트
+     * @param low  해시 하위 64비트
+     * @return 포함되지 않았으면 false (정확), 포함될 수 있으면 true
+     */
+    public boolean mightContain(long high, long low) {
+        int base = blockBase(high);
+        long step = step(high);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitInBlock(low, step, i);
+            if ((bits.get(base + (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 사용하는 해시 함수 개수
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 원소가 속한 블록의 첫 번째 long 위치
+     */
+    private int blockBase(long high) {
+        return (int) Math.floorMod(high, (long) blockCount) * WORDS_PER_BLOCK;
+    }
+
+    /**
+     * 블록 안 비트 위치의 증가량 (블록 선택에 쓰인 하위 비트와 겹치지 않도록 회전, 0이 되지 않도록 홀수로 만듦)
+     */
+    private static long step(long high) {
+        return Long.rotateLeft(high, 32) | 1;
+    }
+
+    /**
+     * i번째 해시의 블록 안 비트 위치 (0 ~ 511)
+     * 곱셈 결과의 상위 비트가 하위 비트보다 고르게 섞이므로 상위 9비트를 사용
+     */
+    private static int bitInBlock(long low, long step, int i) {
+        return (int) ((low + i * step) >>> (Long.SIZE - BLOCK_BITS_SHIFT));
+    }
+}
@@ -0,0 +1,86 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 128비트 해시 값을 원소로 사용하는 스레드 안전한 Count-Min Sketch
+ * <p>
+ * 고정된 메모리(depth × width 카운터)로 원소별 출현 횟수를 추정하며, 추정값은 실제 횟수보다 작지 않음
+ * 행마다 다른 위치의 카운터를 증가시키고 그중 최솟값을 추정값으로 사용하므로
+ * 다른 원소와 충돌한 만큼만 과대 추정됨. 위치는 BloomFilter와 같이 h1 + i × h2로 계산
+ * 주기적으로 {@link #decay()}를 호출하면 오래된 출현 횟수의 비중이 절반씩 줄어 최근 빈도를 반영
+ */
+public final class CountMinSketch {
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int depth;
+
+    /**
+     * @param width 행별 카운터 수 (2의 거듭제곱으로 올림, 클수록 과대 추정이 줄어듦)
+     * @param depth 행 수 (클수록 과대 추정이 일어날 확률이 줄어듦)
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0 || width > (1 << 24)) {
+            throw new IllegalArgumentException("잘못된 Count-Min Sketch 설정입니다.");
+        }
+        int size = 1;
+        while (size < width) {
+            size <<= 1;
+        }
+        this.width = size;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(size * depth);
+    }
+
+    /**
+     * 원소의 출현 횟수를 1 증가
+     *
+     * @param high 해시 상위 64비트
+     * @param low  해시 하위 64비트
+     * @return 증가 후 추정 횟수
+     */
+    public long add(long high, long low) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counters.incrementAndGet(index(high, low, i)));
+        }
+        return min;
+    }
+
+    /**
+     * 원소의 출현 횟수 추정
+     *
+     * @param high 해시 상위 64비트
+     * @param low  해시 하위 64비트
+     * @return 추정 횟수 (실제 횟수 이상)
+     */
+    public long estimate(long high, long low) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counters.get(index(high, low, i)));
+        }
+        return min;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄임
+     */
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    /**
+     * 행별 카운터 수
+     */
+    public int width() {
+        return width;
+    }
+
+    private int index(long high, long low, int row) {
+        long combined = high + row * low;
+        return row * width + (int) (combined & (width - 1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합치는 single-flight
+ * <p>
+ * 키별로 처음 도착한 요청만 호출한 스레드에서 직접 조회하고, 조회가 끝나기 전에 도착한 같은 키의 요청은
+ * 그 결과(또는 예외)를 함께 받음. 조회가 끝나면 키를 제거하므로 결과를 보관하지는 않음 (캐시가 아님)
+ *
+ * @param <K> 조회 키 (equals/hashCode로 같은 요청을 판단)
+ * @param <V> 조회 결과
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키의 조회가 진행 중이면 그 결과를 기다리고, 없으면 직접 조회
+     *
+     * @param key    조회 키
+     * @param loader 조회 로직
+     * @return 조회 결과
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 진행 중인 조회 수
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
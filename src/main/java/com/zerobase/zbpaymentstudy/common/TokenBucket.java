@@ -0,0 +1,54 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없이 동작하는 토큰 버킷
+ * <p>
+ * 토큰 수와 마지막 충전 시각을 따로 두지 않고, 다음 토큰이 "이론적으로 도착하는 시각"(GCRA) 하나를
+ * AtomicLong에 보관하여 CAS 한 번으로 판정하므로 동시 요청에도 잠금이 필요 없음
+ * 용량만큼 연속 요청을 허용하고, 이후에는 충전 간격마다 한 번씩 허용
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long capacityNanos;
+
+    /**
+     * 이론적 도착 시각 (System.nanoTime 기준)
+     * 현재 시각과의 차이가 이미 사용한 토큰 수 × 충전 간격을 나타냄
+     */
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param capacity       연속으로 허용하는 최대 요청 수
+     * @param refillInterval 토큰 하나가 충전되는 간격
+     */
+    public TokenBucket(int capacity, Duration refillInterval) {
+        if (capacity <= 0 || refillInterval.isNegative() || refillInterval.isZero()) {
+            throw new IllegalArgumentException("잘못된 토큰 버킷 설정입니다.");
+        }
+        this.intervalNanos = refillInterval.toNanos();
+        this.capacityNanos = intervalNanos * capacity;
+    }
+
+    /**
+     * 토큰 하나를 사용
+     *
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 토큰이 남아 있어 사용했으면 true, 비어 있으면 false
+     */
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, nowNanos) + intervalNanos;
+            if (next - nowNanos > capacityNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 완료 시점에 실행할 작업을 등록하는 유틸리티
+ * 캐시 무효화나 버퍼 적재처럼 커밋된 데이터에만 반응해야 하는 작업에 사용
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 이후에, 아니면 즉시 작업을 실행
+     * 롤백된 경우에는 실행하지 않음
+     *
+     * @param action 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 완료 이후에 커밋 여부와 함께, 아니면 즉시 커밋된 것으로 작업을 실행
+     * 롤백된 경우에도 실행되므로 커밋 전에 예약한 자원을 정리하는 데 사용
+     *
+     * @param action 커밋되었으면 true를 받는 작업
+     */
+    public static void afterCompletion(Consumer<Boolean> action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.accept(status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            action.accept(true);
+        }
+    }
+}
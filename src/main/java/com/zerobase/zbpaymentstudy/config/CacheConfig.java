@@ -1,28 +1,38 @@
 package com.zerobase.zbpaymentstudy.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.zbpaymentstudy.cache.CacheRefreshLoader;
+import com.zerobase.zbpaymentstudy.cache.CacheRemovalListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 캐시 설정을 관리하는 설정 클래스
  * <p>
  * 캐시 관련 Bean 설정 및 캐시 전략을 정의
  * - CacheManager 설정
- * - 캐시 만료 시간 설정
- * - 캐시 키 생성 전략
- * - 캐시 저장소 설정 (예: 메모리, Redis 등)
+ * - 캐시별 크기 제한, 만료 시간, 백그라운드 갱신 설정 (application.yml의 cache.specs)
+ * - 캐시 통계 수집 (Actuator가 CacheManager의 캐시를 Micrometer에 자동 등록하여
+ *   cache.gets, cache.puts, cache.evictions, cache.load.duration 등으로 노출)
  *
  * @Configuration 어노테이션 필요
  * @EnableCaching 어노테이션으로 캐시 기능 활성화
  */
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 /*
   캐시 설정을 관리하는 클래스
   애플리케이션의 성능 향상을 위한 캐시 전략과 설정을 정의
@@ -30,18 +40,73 @@ import java.util.Arrays;
 public class CacheConfig {
 
     /**
-     * 엔티티 매니저 객체
-     * JPA 영속성 컨텍스트를 관리하기 위해 사용
+     * 매장 검색 결과(페이지 내용) 캐시 이름
+     */
+    public static final String STORES = "stores";
+
+    /**
+     * 매장 검색 결과 전체 건수 캐시 이름
+     */
+    public static final String STORE_COUNTS = "store-counts";
+
+    /**
+     * 매장 평점 분포 캐시 이름
+     */
+    public static final String STORE_HISTOGRAMS = "store-histograms";
+
+    /**
+     * 회원 식별 정보 캐시 이름 (키: 이메일)
+     */
+    public static final String MEMBERS = "members";
+
+    private static final List<String> CACHE_NAMES = List.of(STORES, STORE_COUNTS, STORE_HISTOGRAMS, MEMBERS);
+
+    /**
+     * 캐시 매니저 등록
+     * 모든 캐시는 Caffeine(W-TinyLFU 입장 정책)으로 크기를 제한하고 만료 시간을 적용하며 통계를 수집
+     * 백그라운드 갱신 로더(CacheRefreshLoader)가 있는 캐시는 refreshAfterWrite를 지정하면
+     * 만료 전에 미리 다시 읽어 캐시 미스로 인한 지연이 요청에 드러나지 않도록 함
+     * 제거 리스너(CacheRemovalListener)가 있는 캐시는 만료/용량 초과/무효화로 제거된 항목을 리스너에 알림
      *
+     * @param properties 캐시별 Caffeine 명세
+     * @param loaders    캐시별 백그라운드 갱신 로더
+     * @param listeners  캐시별 제거 리스너
      * @return 설정이 완료된 CacheManager 객체
      */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheSpecProperties properties, List<CacheRefreshLoader> loaders,
+                                     List<CacheRemovalListener> listeners) {
+        Map<String, CacheRefreshLoader> loadersByCache = loaders.stream()
+            .collect(Collectors.toMap(CacheRefreshLoader::cacheName, Function.identity()));
+        Map<String, CacheRemovalListener> listenersByCache = listeners.stream()
+            .collect(Collectors.toMap(CacheRemovalListener::cacheName, Function.identity()));
+
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(Arrays.asList(
-            new ConcurrentMapCache("stores"),
-            new ConcurrentMapCache("members")
-        ));
+        cacheManager.setCaches(CACHE_NAMES.stream()
+            .map(name -> buildCache(name, properties.specFor(name), loadersByCache.get(name), listenersByCache.get(name)))
+            .toList());
         return cacheManager;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 명세로 Caffeine 캐시를 생성
+     *
+     * @throws IllegalStateException refreshAfterWrite를 지정했지만 갱신 로더가 없는 경우
+     */
+    private static CaffeineCache buildCache(String name, String spec, CacheRefreshLoader loader,
+                                            CacheRemovalListener listener) {
+        Caffeine<Object, Object> builder = Caffeine.from(spec);
+        if (!spec.contains("recordStats")) {
+            builder.recordStats();
+        }
+        if (listener != null) {
+            builder.removalListener(listener);
+        }
+        log.info("캐시 설정 - name: {}, spec: {}, refreshLoader: {}, removalListener: {}",
+            name, spec, loader != null, listener != null);
+
+        return loader != null
+            ? new CaffeineCache(name, builder.build(loader))
+            : new CaffeineCache(name, builder.build());
+    }
+}
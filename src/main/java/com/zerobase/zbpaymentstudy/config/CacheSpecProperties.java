@@ -0,0 +1,33 @@
+package com.zerobase.zbpaymentstudy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * 캐시별 Caffeine 설정 (application.yml의 cache.specs)
+ * <p>
+ * 값은 Caffeine 명세 문자열이며(예: maximumSize=10000,expireAfterWrite=60s,refreshAfterWrite=30s),
+ * 명세가 없는 캐시에는 cache.default-spec을 적용
+ *
+ * @param defaultSpec 명세가 없는 캐시에 적용할 기본 명세
+ * @param specs       캐시 이름별 명세
+ */
+@ConfigurationProperties(prefix = "cache")
+public record CacheSpecProperties(String defaultSpec, Map<String, String> specs) {
+
+    public CacheSpecProperties {
+        defaultSpec = defaultSpec != null ? defaultSpec : "maximumSize=1000,expireAfterWrite=10m";
+        specs = specs != null ? specs : Map.of();
+    }
+
+    /**
+     * 캐시에 적용할 명세
+     *
+     * @param cacheName 캐시 이름
+     * @return 캐시 이름에 지정된 명세, 없으면 기본 명세
+     */
+    public String specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaultSpec);
+    }
+}
@@ -0,0 +1,16 @@
+package com.zerobase.zbpaymentstudy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정을 관리하는 설정 클래스
+ * <p>
+ * 주기적으로 실행되는 백그라운드 작업(집계 반영, 캐시 정리 등)을 위해 스케줄링 기능을 활성화
+ *
+ * @EnableScheduling 어노테이션으로 @Scheduled 메서드 실행 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
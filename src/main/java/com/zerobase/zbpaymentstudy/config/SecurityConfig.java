@@ -1,5 +1,8 @@
 package com.zerobase.zbpaymentstudy.config;
 
+import com.zerobase.zbpaymentstudy.security.JwtAuthenticationFilter;
+import com.zerobase.zbpaymentstudy.security.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,6 +12,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Spring Security 설정을 담당하는 설정 클래스
@@ -22,12 +26,13 @@ public class SecurityConfig {
      * Spring Security Filter Chain 설정
      * 보안 관련 필터 체인을 구성하고 URL별 접근 권한을 설정
      *
-     * @param http HttpSecurity 객체
+     * @param http             HttpSecurity 객체
+     * @param jwtTokenProvider JWT 토큰 검증에 사용할 제공자
      * @return 구성된 SecurityFilterChain
      * @throws Exception 보안 설정 중 발생할 수 있는 예외
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider) throws Exception {
         return http
             // CSRF 보호 기능 비활성화
             .csrf(AbstractHttpConfigurer::disable)
@@ -36,23 +41,36 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             // URL별 접근 권한 설정
             .authorizeHttpRequests(auth -> auth
+                // 전체 로그아웃은 인증된 사용자만 가능
+                .requestMatchers("/api/auth/logout-all").authenticated()
                 // 인증 관련 엔드포인트는 모든 사용자 접근 허용
                 .requestMatchers("/api/auth/**").permitAll()
                 // 매장 관련 엔드포인트는 PARTNER 역할을 가진 사용자만 접근 가능
                 .requestMatchers("/api/stores/**").hasRole("PARTNER")
+                // 운영 관리 엔드포인트는 ADMIN 역할을 가진 사용자만 접근 가능
+                .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                // 쿠버네티스 프로브는 인증 없이 호출하므로 활성/준비 상태 그룹만 허용
+                .requestMatchers("/actuator/health/liveness", "/actuator/health/readiness").permitAll()
+                // 핫 키 목록에는 검색 조건이 포함되므로 ADMIN만 조회 가능
+                .requestMatchers("/actuator/hotkeys").hasRole("ADMIN")
                 // 그 외 모든 요청은 인증 필요
                 .anyRequest().authenticated())
+            // Bearer 토큰으로 인증 정보를 구성하는 JWT 필터 등록
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                UsernamePasswordAuthenticationFilter.class)
             .build();
     }
 
     /**
      * 비밀번호 암호화를 위한 PasswordEncoder 빈 등록
      * BCrypt 해시 함수를 사용하여 비밀번호를 안전하게 암호화
+     * cost를 올리면 로그인 시 기존 해시가 새 cost로 점진적으로 교체됨
      *
+     * @param strength BCrypt cost (log2 반복 횟수)
      * @return BCryptPasswordEncoder 인스턴스
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
\ No newline at end of file
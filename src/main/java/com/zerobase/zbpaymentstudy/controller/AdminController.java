@@ -0,0 +1,35 @@
+package com.zerobase.zbpaymentstudy.controller;
+
+import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.domain.store.dto.RatingRepairReport;
+import com.zerobase.zbpaymentstudy.domain.store.service.StoreRatingRepairService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 운영 관리 API를 처리하는 컨트롤러
+ * ADMIN 권한을 가진 사용자만 접근 가능
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final StoreRatingRepairService storeRatingRepairService;
+
+    /**
+     * 매장 평점 집계 보정 API
+     * 전체 매장의 리뷰 수/평점 합계/평균 평점/평점 분포를 실제 리뷰와 비교하여 불일치한 행만 보정
+     */
+    @PostMapping("/stores/rating-repair")
+    public ResponseEntity<ApiResponse<RatingRepairReport>> repairStoreRatings() {
+        log.info("매장 평점 집계 보정 요청");
+        return ResponseEntity.ok(ApiResponse.success(
+            "매장 평점 집계 보정이 완료되었습니다.", storeRatingRepairService.repair()));
+    }
+}
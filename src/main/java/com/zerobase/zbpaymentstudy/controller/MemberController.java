@@ -1,17 +1,23 @@
 package com.zerobase.zbpaymentstudy.controller;
 
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.domain.member.dto.EmailAvailabilityDto;
 import com.zerobase.zbpaymentstudy.domain.member.dto.MemberDto;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberLoginDto;
 import com.zerobase.zbpaymentstudy.domain.member.dto.MemberSignUpDto;
+import com.zerobase.zbpaymentstudy.domain.member.dto.TokenDto;
 import com.zerobase.zbpaymentstudy.domain.member.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -37,25 +43,58 @@ public class MemberController {
      * @param signUpDto 회원가입 요청 데이터 (이메일, 비밀번호, 이름, 역할)
      * @return ResponseEntity<ApiResponse < MemberDto>> 회원가입 결과
      * - 성공: 200 OK와 함께 가입된 회원 정보 반환
-     * - 실패: 400 Bad Request (잘못된 입력) 또는 500 Internal Server Error (서버 오류)
-     * @throws IllegalArgumentException 이메일 중복 등 유효성 검증 실패 시
+     * - 실패: 400 Bad Request (잘못된 입력) 또는 409 Conflict (이미 존재하는 이메일)
      */
     @PostMapping("sign-up")
     public ResponseEntity<ApiResponse<MemberDto>> signUp(
         @RequestBody @Valid MemberSignUpDto signUpDto
     ) {
-        try {
-            log.info("회원가입 요청 - email: {}", signUpDto.email());
-            ApiResponse<MemberDto> response = memberService.signUp(signUpDto);
-            return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
-            log.warn("회원가입 실패 - {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                .body(new ApiResponse<>("ERROR", e.getMessage(), null));
-        } catch (Exception e) {
-            log.error("회원가입 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ApiResponse<>("ERROR", "서버 오류가 발생했습니다.", null));
-        }
+        log.info("회원가입 요청 - email: {}", signUpDto.email());
+        return ResponseEntity.ok(memberService.signUp(signUpDto));
     }
-}
\ No newline at end of file
+
+    /**
+     * 이메일 사용 가능 여부 확인 API 엔드포인트
+     *
+     * @param email 확인할 이메일
+     * @return ResponseEntity<ApiResponse < EmailAvailabilityDto>> 사용 가능 여부
+     */
+    @GetMapping("email-availability")
+    public ResponseEntity<ApiResponse<EmailAvailabilityDto>> checkEmailAvailability(
+        @RequestParam String email
+    ) {
+        return ResponseEntity.ok(memberService.checkEmailAvailability(email));
+    }
+
+    /**
+     * 로그인 API 엔드포인트
+     * 이메일과 비밀번호를 검증하고 JWT를 발급
+     *
+     * @param loginDto 로그인 요청 데이터 (이메일, 비밀번호)
+     * @param request  요청 IP 확인용 HTTP 요청
+     *                 (신뢰하는 프록시를 거친 요청은 server.forward-headers-strategy에 따라 X-Forwarded-For의 클라이언트 IP로 바뀜)
+     * @return ResponseEntity<ApiResponse < TokenDto>> 발급된 토큰
+     * - 실패: 401 (잘못된 자격 증명), 429 (시도 횟수 초과), 503 (로그인 요청 폭주)
+     */
+    @PostMapping("login")
+    public ResponseEntity<ApiResponse<TokenDto>> login(
+        @RequestBody @Valid MemberLoginDto loginDto,
+        HttpServletRequest request
+    ) {
+        log.info("로그인 요청 - email: {}", loginDto.email());
+        return ResponseEntity.ok(memberService.login(loginDto, request.getRemoteAddr()));
+    }
+
+    /**
+     * 전체 로그아웃 API 엔드포인트
+     * 인증된 회원에게 이전에 발급된 모든 토큰을 모든 노드에서 무효화
+     *
+     * @param email JWT 토큰에서 추출한 인증된 사용자의 이메일
+     * @return ResponseEntity<ApiResponse < Void>> 처리 결과
+     */
+    @PostMapping("logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal String email) {
+        log.info("전체 로그아웃 요청 - email: {}", email);
+        return ResponseEntity.ok(memberService.logoutAll(email));
+    }
+}
@@ -3,7 +3,10 @@ package com.zerobase.zbpaymentstudy.controller;
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCreateDto;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewDto;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewFeedDto;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewSliceDto;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewUpdateDto;
+import com.zerobase.zbpaymentstudy.domain.review.service.ReviewFeedService;
 import com.zerobase.zbpaymentstudy.domain.review.service.ReviewService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 리뷰 관련 API를 처리하는 컨트롤러
  */
@@ -24,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ReviewFeedService reviewFeedService;
 
     /**
      * 리뷰 작성 API
@@ -73,4 +79,35 @@ public class ReviewController {
         log.info("매장 리뷰 목록 조회 요청 - storeId: {}", storeId);
         return ResponseEntity.ok(reviewService.getStoreReviews(storeId, pageable));
     }
-} 
\ No newline at end of file
+
+    /**
+     * 매장별 리뷰 목록 커서 기반 조회 API
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하여 다음 페이지를 조회
+     */
+    @GetMapping("/stores/{storeId}/slice")
+    public ResponseEntity<ApiResponse<ReviewSliceDto>> getStoreReviewSlice(
+        @PathVariable Long storeId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("매장 리뷰 목록 커서 조회 요청 - storeId: {}", storeId);
+        return ResponseEntity.ok(ApiResponse.success(
+            "리뷰 목록 조회가 완료되었습니다.", reviewService.getStoreReviewSlice(storeId, cursor, size)));
+    }
+
+    /**
+     * 최근 리뷰 피드 조회 API
+     * storeIds를 지정하면 해당 매장들(예: 주변 매장 검색 결과), 생략하면 예약한 적이 있는 매장들의 최근 리뷰를 최신순으로 반환
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<ReviewFeedDto>> getReviewFeed(
+        @AuthenticationPrincipal String memberEmail,
+        @RequestParam(required = false) List<Long> storeIds,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("리뷰 피드 조회 요청 - memberEmail: {}", memberEmail);
+        return ResponseEntity.ok(ApiResponse.success(
+            "리뷰 피드 조회가 완료되었습니다.", reviewFeedService.getFeed(memberEmail, storeIds, cursor, size)));
+    }
+}
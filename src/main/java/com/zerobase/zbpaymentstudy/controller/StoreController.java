@@ -1,20 +1,29 @@
 package com.zerobase.zbpaymentstudy.controller;
 
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreJsonCache;
 import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
 import com.zerobase.zbpaymentstudy.domain.store.dto.StoreRegisterDto;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreSummaryDto;
 import com.zerobase.zbpaymentstudy.domain.store.service.StoreService;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 /**
  * 매장 관련 API를 처리하는 컨트롤러
  * 매장 등록, 조회 등 매장 관리 관련 엔드포인트를 관리
@@ -32,6 +41,11 @@ public class StoreController {
      */
     private final StoreService storeService;
 
+    /**
+     * 직렬화된 매장 응답 캐시
+     */
+    private final StoreJsonCache storeJsonCache;
+
     /**
      * 매장 등록 API 엔드포인트
      * PARTNER 권한을 가진 회원이 새로운 매장을 등록
@@ -62,4 +76,37 @@ public class StoreController {
                 .body(new ApiResponse<>("ERROR", "서버 오류가 발생했습니다.", null));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 매장 요약 정보 조회 API 엔드포인트
+     * 평균 평점, 리뷰 수, 1~5점 평점 분포를 반환
+     *
+     * @param storeId 조회할 매장 ID
+     * @return ResponseEntity<ApiResponse < StoreSummaryDto>> 매장 요약 정보
+     */
+    @GetMapping("/{storeId}/summary")
+    public ResponseEntity<ApiResponse<StoreSummaryDto>> getStoreSummary(@PathVariable Long storeId) {
+        return ResponseEntity.ok(ApiResponse.success(
+            "매장 요약 정보 조회가 완료되었습니다.", storeService.getStoreSummary(storeId)));
+    }
+
+    /**
+     * 매장 정보 조회 API 엔드포인트
+     * 캐시에 직렬화된 매장 정보가 있으면 역직렬화 없이 응답 스트림에 바로 쓰고,
+     * 없으면 조회하여 캐시에 저장한 뒤 응답
+     *
+     * @param storeId  조회할 매장 ID
+     * @param response 응답 (ApiResponse<StoreDto> 형식의 JSON)
+     */
+    @GetMapping("/{storeId}")
+    public void getStore(@PathVariable Long storeId, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        ServletOutputStream out = response.getOutputStream();
+        if (storeJsonCache.writeTo(storeId, out)) {
+            return;
+        }
+        // 매장이 없으면 아무것도 쓰기 전에 예외가 발생하므로 공통 예외 처리로 응답
+        storeJsonCache.write(storeService.getStore(storeId), out);
+    }
+}
@@ -0,0 +1,155 @@
+package com.zerobase.zbpaymentstudy.domain.member.cache;
+
+import com.zerobase.zbpaymentstudy.common.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가입된 이메일의 Bloom 필터
+ * <p>
+ * "포함되지 않음" 응답은 정확하므로 이메일 사용 가능 여부 확인의 대부분을 쿼리 없이 처리하고,
+ * "포함될 수 있음"인 경우에만 DB를 조회
+ * 시작 시 회원 테이블 전체를 스트리밍으로 읽어 만들고, 이후에는 마지막으로 읽은 회원 ID 이후만 주기적으로 읽어
+ * 다른 노드에서 가입한 이메일도 반영. 로드가 끝나기 전에는 항상 "포함될 수 있음"으로 응답
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private static final String SCAN_SQL = "SELECT id, email FROM member WHERE id > ? ORDER BY id";
+
+    /**
+     * 자동 증가 ID는 커밋 순서와 다를 수 있으므로 이만큼 이전 ID부터 다시 읽어 늦게 커밋된 가입을 놓치지 않음
+     * (같은 이메일을 다시 넣어도 필터는 변하지 않음)
+     */
+    private static final long ID_LOOKBACK = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    /**
+     * 현재 필터 (로드 전에는 null)
+     */
+    private volatile BloomFilter filter;
+
+    /**
+     * 필터에 반영된 회원 수 (예상 개수를 넘으면 더 큰 필터로 다시 만듦)
+     */
+    private final AtomicLong entries = new AtomicLong();
+
+    /**
+     * 마지막으로 읽은 회원 ID (refresh는 스케줄러 스레드 하나에서만 실행)
+     */
+    private long lastMemberId;
+
+    public EmailBloomFilter(
+        JdbcTemplate jdbcTemplate,
+        @Value("${member.email-filter.expected-entries:1000000}") long expectedEntries,
+        @Value("${member.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 이메일이 가입되어 있을 수 있는지 확인
+     *
+     * @param email 확인할 이메일
+     * @return 가입되어 있지 않으면 false (정확), 가입되어 있을 수 있으면 true
+     */
+    public boolean mightExist(String email) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return true;
+        }
+        long[] hash = hash(email);
+        return current.mightContain(hash[0], hash[1]);
+    }
+
+    /**
+     * 가입된 이메일을 필터에 추가 (가입을 처리한 노드에서 즉시 반영)
+     *
+     * @param email 가입된 이메일
+     */
+    public void add(String email) {
+        BloomFilter current = filter;
+        if (current != null) {
+            long[] hash = hash(email);
+            current.put(hash[0], hash[1]);
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 회원 이후에 가입한 이메일을 반영
+     * 필터가 없거나 예상 개수를 넘었으면 전체를 다시 읽어 새 필터로 교체
+     * 스키마 생성 이후에 실행되도록 초기 로드도 스케줄러의 첫 실행에서 처리
+     */
+    @Scheduled(fixedDelayString = "${member.email-filter.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        BloomFilter current = filter;
+        if (current == null || entries.get() > expectedEntries) {
+            long size = Math.max(expectedEntries, entries.get() * 2);
+            BloomFilter rebuilt = new BloomFilter(size, falsePositiveRate);
+            lastMemberId = 0;
+            long loaded = scan(rebuilt, 0);
+            entries.set(loaded);
+            filter = rebuilt;
+            log.info("이메일 Bloom 필터 로드 완료 - entries: {}, hashCount: {}", loaded, rebuilt.hashCount());
+            return;
+        }
+
+        entries.addAndGet(scan(current, Math.max(0, lastMemberId - ID_LOOKBACK)));
+    }
+
+    /**
+     * 주어진 ID 이후의 회원 이메일을 스트리밍으로 읽어 필터에 추가
+     *
+     * @return 처음 읽은 회원 수 (다시 읽은 구간은 제외)
+     */
+    private long scan(BloomFilter target, long afterId) {
+        long previousLastId = lastMemberId;
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SCAN_SQL);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, afterId);
+            return ps;
+        }, rs -> {
+            long[] hash = hash(rs.getString("email"));
+            target.put(hash[0], hash[1]);
+            long id = rs.getLong("id");
+            if (id > previousLastId) {
+                count[0]++;
+            }
+            lastMemberId = Math.max(lastMemberId, id);
+        });
+        return count[0];
+    }
+
+    /**
+     * 대소문자를 구분하지 않는 DB 정렬 규칙에 맞춰 소문자로 바꾼 이메일의 128비트 해시
+     */
+    private static long[] hash(String email) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new long[]{buffer.getLong(), buffer.getLong()};
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
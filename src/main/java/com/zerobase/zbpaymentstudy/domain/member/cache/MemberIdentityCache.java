@@ -0,0 +1,117 @@
+package com.zerobase.zbpaymentstudy.domain.member.cache;
+
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberIdentity;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 이메일을 키로 하는 회원 식별 정보 캐시
+ * <p>
+ * 인증된 요청마다 실행되던 회원 조회를 캐시로 대체하며, 크기 제한과 유휴 만료는 CacheConfig에서 설정
+ * 존재하지 않는 회원은 캐시하지 않아 이후 가입한 회원이 곧바로 조회되도록 함
+ * 회원 정보가 변경되면 커밋 이후 해당 항목을 무효화하고, 무효화 버스로 다른 노드에도 전파
+ */
+@Component
+public class MemberIdentityCache {
+
+    private static final String REGION = "members";
+
+    private final Cache memberCache;
+
+    /**
+     * 로더가 null을 반환하면 저장하지 않는 Caffeine 원본 캐시
+     * (Spring Cache 추상화는 null을 NullValue로 저장하므로 조회에는 원본 캐시를 사용)
+     */
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache;
+    private final MemberRepository memberRepository;
+    private final CacheInvalidationBus invalidationBus;
+
+    /**
+     * 무효화할 때마다 증가하는 세대 (스냅샷 복원 도중 무효화된 항목을 되살리지 않도록 확인)
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    public MemberIdentityCache(
+        CacheManager cacheManager,
+        MemberRepository memberRepository,
+        CacheInvalidationBus invalidationBus
+    ) {
+        this.memberCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.MEMBERS));
+        this.nativeCache = (com.github.benmanes.caffeine.cache.Cache<Object, Object>) memberCache.getNativeCache();
+        this.memberRepository = memberRepository;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(REGION, this::evictLocal);
+    }
+
+    /**
+     * 회원 식별 정보를 조회하고, 캐시에 없으면 DB에서 조회하여 저장
+     *
+     * @param email 회원 이메일
+     * @return 회원 식별 정보, 존재하지 않는 회원이면 Optional.empty()
+     */
+    public Optional<MemberIdentity> find(String email) {
+        return Optional.ofNullable((MemberIdentity) nativeCache.get(email,
+            key -> memberRepository.findIdentityByEmail(email).orElse(null)));
+    }
+
+    /**
+     * 커밋 이후 회원 식별 정보 캐시를 무효화
+     *
+     * @param email 회원 이메일
+     */
+    public void evict(String email) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictLocal(email);
+            invalidationBus.publish(REGION, email);
+        });
+    }
+
+    /**
+     * 현재 무효화 세대 (스냅샷 복원에서 검증을 시작하기 전에 확인)
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시된 모든 회원 식별 정보를 전달 (스냅샷 기록에서 사용)
+     */
+    void forEach(BiConsumer<String, MemberIdentity> consumer) {
+        nativeCache.asMap().forEach((email, identity) -> consumer.accept((String) email, (MemberIdentity) identity));
+    }
+
+    /**
+     * 스냅샷에서 검증한 회원 식별 정보를 저장 (이미 캐시된 회원은 유지)
+     * 검증을 시작한 뒤 무효화가 있었으면 저장하지 않고, 저장하는 사이에 무효화되었다면 방금 저장한 값을 제거
+     *
+     * @return 저장했으면 true
+     */
+    boolean restore(String email, MemberIdentity identity, long expectedGeneration) {
+        Map<Object, Object> entries = nativeCache.asMap();
+        if (generation.get() != expectedGeneration || entries.putIfAbsent(email, identity) != null) {
+            return false;
+        }
+        if (generation.get() != expectedGeneration) {
+            entries.remove(email, identity);
+            return false;
+        }
+        return true;
+    }
+
+    private void evictLocal(String email) {
+        generation.incrementAndGet();
+        memberCache.evict(email);
+    }
+}
@@ -0,0 +1,28 @@
+package com.zerobase.zbpaymentstudy.domain.member.cache;
+
+import com.zerobase.zbpaymentstudy.cache.CacheRefreshLoader;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 식별 정보 캐시의 백그라운드 갱신 로더
+ * 탈퇴 등으로 회원이 없어지면 null을 반환하여 항목을 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberIdentityLoader implements CacheRefreshLoader {
+
+    private final MemberRepository memberRepository;
+
+    @Override
+    public String cacheName() {
+        return CacheConfig.MEMBERS;
+    }
+
+    @Override
+    public Object load(Object email) {
+        return memberRepository.findIdentityByEmail((String) email).orElse(null);
+    }
+}
@@ -0,0 +1,93 @@
+package com.zerobase.zbpaymentstudy.domain.member.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.zbpaymentstudy.cache.snapshot.CacheSnapshotSection;
+import com.zerobase.zbpaymentstudy.cache.snapshot.SnapshotEntry;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberIdentity;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberTokenEpoch;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 회원 식별 정보 캐시의 스냅샷 섹션
+ * 키는 이메일(UTF-8), 값은 회원 식별 정보 JSON
+ * 복원할 때 회원의 수정 일시가 워터마크 이후이거나 회원이 더 이상 없으면 버림
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSnapshotSection implements CacheSnapshotSection {
+
+    private final MemberIdentityCache memberIdentityCache;
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "members";
+    }
+
+    @Override
+    public byte[] header() {
+        return new byte[0];
+    }
+
+    @Override
+    public void dump(EntrySink sink) throws IOException {
+        List<Map.Entry<String, MemberIdentity>> entries = new ArrayList<>();
+        memberIdentityCache.forEach((email, identity) -> entries.add(Map.entry(email, identity)));
+        for (Map.Entry<String, MemberIdentity> entry : entries) {
+            byte[] value = objectMapper.writeValueAsBytes(entry.getValue());
+            sink.accept(entry.getKey().getBytes(StandardCharsets.UTF_8), value, 0, value.length);
+        }
+    }
+
+    @Override
+    public Restorer restorer(byte[] header, LocalDateTime watermark) {
+        return entries -> {
+            long generation = memberIdentityCache.generation();
+            Map<String, MemberIdentity> identities = new HashMap<>();
+            for (SnapshotEntry entry : entries) {
+                identities.put(new String(entry.key(), StandardCharsets.UTF_8), read(entry.value()));
+            }
+
+            // 이메일 비교는 DB 정렬 규칙과 같이 대소문자를 구분하지 않음
+            Map<String, LocalDateTime> updatedAt = new HashMap<>();
+            for (MemberTokenEpoch epoch : memberRepository.findTokenEpochsByEmailIn(identities.keySet())) {
+                updatedAt.put(epoch.email().toLowerCase(Locale.ROOT), epoch.updatedAt());
+            }
+
+            int restored = 0;
+            for (Map.Entry<String, MemberIdentity> entry : identities.entrySet()) {
+                String email = entry.getKey().toLowerCase(Locale.ROOT);
+                if (!updatedAt.containsKey(email)) {
+                    continue;
+                }
+                LocalDateTime modifiedAt = updatedAt.get(email);
+                if ((modifiedAt == null || !modifiedAt.isAfter(watermark))
+                    && memberIdentityCache.restore(entry.getKey(), entry.getValue(), generation)) {
+                    restored++;
+                }
+            }
+            return restored;
+        };
+    }
+
+    private MemberIdentity read(byte[] json) {
+        try {
+            return objectMapper.readValue(json, MemberIdentity.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
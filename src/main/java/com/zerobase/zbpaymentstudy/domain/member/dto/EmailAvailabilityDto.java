@@ -0,0 +1,10 @@
+package com.zerobase.zbpaymentstudy.domain.member.dto;
+
+/**
+ * 이메일 사용 가능 여부 확인 결과
+ */
+public record EmailAvailabilityDto(
+    String email,       // 확인한 이메일
+    boolean available   // 가입에 사용할 수 있으면 true
+) {
+}
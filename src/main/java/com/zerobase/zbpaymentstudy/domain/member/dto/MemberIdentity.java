@@ -0,0 +1,15 @@
+package com.zerobase.zbpaymentstudy.domain.member.dto;
+
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+
+/**
+ * 인증된 요청 처리에 필요한 회원 식별 정보의 불변 스냅샷
+ * 회원 캐시에 저장되며, 연관 관계 설정에는 id로 만든 참조(getReferenceById)를 사용
+ */
+public record MemberIdentity(
+    Long id,          // 회원 ID
+    String email,     // 회원 이메일
+    String name,      // 회원 이름
+    MemberRole role   // 회원 역할
+) {
+}
@@ -0,0 +1,23 @@
+package com.zerobase.zbpaymentstudy.domain.member.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/*
+ * 로그인 요청 데이터를 전달하기 위한 DTO
+ */
+public record MemberLoginDto(
+    /*
+     * 회원 이메일 주소
+     */
+    @NotBlank(message = "이메일은 필수입니다")
+    @Email(message = "올바른 이메일 형식이 아닙니다")
+    String email,
+
+    /*
+     * 회원 비밀번호
+     */
+    @NotBlank(message = "비밀번호는 필수입니다")
+    String password
+) {
+}
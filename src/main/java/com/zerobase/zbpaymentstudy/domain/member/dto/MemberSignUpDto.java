@@ -39,6 +39,7 @@ public record MemberSignUpDto(
      * 회원 역할
      * USER: 일반 사용자
      * PARTNER: 매장 파트너(점장)
+     * ADMIN은 가입 시 선택할 수 없음 (MemberServiceImpl.signUp에서 거부)
      * null 허용하지 않음
      */
     @NotNull(message = "회원 유형은 필수입니다")
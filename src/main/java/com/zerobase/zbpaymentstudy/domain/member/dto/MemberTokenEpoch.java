@@ -0,0 +1,14 @@
+package com.zerobase.zbpaymentstudy.domain.member.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 토큰 세대 번호 조회 결과
+ */
+public record MemberTokenEpoch(
+    Long memberId,            // 회원 ID
+    String email,             // 회원 이메일 (토큰 주체)
+    Integer tokenVersion,     // 토큰 세대 번호
+    LocalDateTime updatedAt   // 회원 정보 수정 일시 (동기화 커서)
+) {
+}
@@ -0,0 +1,13 @@
+package com.zerobase.zbpaymentstudy.domain.member.dto;
+
+/**
+ * 로그인 성공 시 발급되는 토큰 정보
+ */
+public record TokenDto(
+    String accessToken,  // 발급된 JWT
+    String tokenType     // Authorization 헤더에 사용할 토큰 유형 (Bearer)
+) {
+    public static TokenDto bearer(String accessToken) {
+        return new TokenDto(accessToken, "Bearer");
+    }
+}
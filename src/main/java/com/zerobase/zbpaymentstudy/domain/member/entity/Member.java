@@ -6,19 +6,26 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 /**
  * 회원 정보를 저장하는 엔티티 클래스
  * 회원의 기본 정보와 인증/인가에 필요한 정보를 관리
+ * 매장 소유자 지연 로딩과 로그인 조회가 DB를 거치지 않도록 Hibernate 2차 캐시(read-write)에 저장
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "member")
+@Table(name = "member", indexes = {
+    @Index(name = "idx_member_updated_at", columnList = "updated_at, id")
+})
 public class Member {
     /**
      * 회원 고유 식별자
@@ -60,6 +67,14 @@ public class Member {
     @Enumerated(EnumType.STRING)
     private MemberRole role;
 
+    /**
+     * 토큰 세대 번호
+     * 발급되는 JWT에 ver 클레임으로 포함되며, 값이 증가하면 이전에 발급된 모든 토큰이 무효화됨 (전체 로그아웃)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
     /**
      * 회원 생성 일시
      * 회원가입 시점의 시간이 자동으로 저장
@@ -1,9 +1,22 @@
 package com.zerobase.zbpaymentstudy.domain.member.repository;
 
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberIdentity;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberTokenEpoch;
 import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,6 +26,11 @@ import java.util.Optional;
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
+    /**
+     * 회원 조회 쿼리 캐시 영역
+     */
+    String QUERY_CACHE_REGION = "member-queries";
+
     /**
      * 주어진 이메일로 회원이 존재하는지 확인
      *
@@ -23,9 +41,88 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     /**
      * 주어진 이메일로 회원 정보를 조회
+     * 쿼리 캐시에는 회원 ID만 저장되고 회원 엔티티는 2차 캐시에서 읽음
+     * (회원 테이블이 변경되면 Hibernate가 이 쿼리 캐시 결과를 무효화)
      *
      * @param email 조회할 회원의 이메일
      * @return 회원 정보를 Optional로 감싸서 반환, 존재하지 않을 경우 Optional.empty() 반환
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     Optional<Member> findByEmail(String email);
-} 
\ No newline at end of file
+
+    /**
+     * 이메일로 회원 식별 정보만 조회 (회원 캐시 로더)
+     *
+     * @param email 조회할 회원의 이메일
+     * @return 회원 식별 정보, 존재하지 않을 경우 Optional.empty()
+     */
+    @Query("SELECT new com.zerobase.zbpaymentstudy.domain.member.dto.MemberIdentity(" +
+           "m.id, m.email, m.name, m.role) FROM Member m WHERE m.email = :email")
+    Optional<MemberIdentity> findIdentityByEmail(@Param("email") String email);
+
+    /**
+     * 회원의 토큰 세대 번호를 증가시켜 이전에 발급된 모든 토큰을 무효화
+     *
+     * @param email 회원 이메일
+     * @param now   갱신 시각 (토큰 세대 동기화 커서로 사용)
+     * @return 갱신된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Member m SET m.tokenVersion = m.tokenVersion + 1, m.updatedAt = :now WHERE m.email = :email")
+    int incrementTokenVersion(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    /**
+     * 회원의 토큰 세대 번호를 DB에서 직접 조회
+     * 엔티티를 읽지 않는 조회이므로 2차 캐시를 거치지 않아, 다른 노드의 전체 로그아웃이 캐시에 전파되기 전에도 최신 값을 읽음
+     *
+     * @param id 회원 ID
+     * @return 토큰 세대 번호, 회원이 없으면 Optional.empty()
+     */
+    @Query("SELECT m.tokenVersion FROM Member m WHERE m.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * 비밀번호 해시를 새 cost의 해시로 교체
+     * 그 사이 비밀번호가 변경되었으면 갱신하지 않도록 기존 해시를 조건으로 사용
+     *
+     * @param id          회원 ID
+     * @param oldPassword 검증에 사용한 기존 해시
+     * @param newPassword 새 해시
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :newPassword WHERE m.id = :id AND m.password = :oldPassword")
+    int upgradePassword(@Param("id") Long id,
+                        @Param("oldPassword") String oldPassword,
+                        @Param("newPassword") String newPassword);
+
+    /**
+     * 토큰 세대 번호가 0보다 큰 회원 중 (수정 시각, ID) 커서 이후에 수정된 회원을 조회
+     *
+     * @param updatedAt 커서 수정 시각
+     * @param id        커서 회원 ID
+     * @param pageable  조회 건수
+     * @return (수정 시각, ID) 순으로 정렬된 토큰 세대 목록
+     */
+    @Query("SELECT new com.zerobase.zbpaymentstudy.domain.member.dto.MemberTokenEpoch(" +
+           "m.id, m.email, m.tokenVersion, m.updatedAt) FROM Member m " +
+           "WHERE m.tokenVersion > 0 AND (m.updatedAt > :updatedAt OR (m.updatedAt = :updatedAt AND m.id > :id)) " +
+           "ORDER BY m.updatedAt, m.id")
+    List<MemberTokenEpoch> findTokenEpochsAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * 이메일 목록에 해당하는 회원의 토큰 세대 번호와 수정 일시 조회 (캐시 스냅샷 복원 시 검증용)
+     *
+     * @param emails 회원 이메일 목록
+     * @return 존재하는 회원의 토큰 세대 목록
+     */
+    @Query("SELECT new com.zerobase.zbpaymentstudy.domain.member.dto.MemberTokenEpoch(" +
+           "m.id, m.email, m.tokenVersion, m.updatedAt) FROM Member m WHERE m.email IN :emails")
+    List<MemberTokenEpoch> findTokenEpochsByEmailIn(@Param("emails") Collection<String> emails);
+}
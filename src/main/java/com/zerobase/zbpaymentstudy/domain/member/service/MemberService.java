@@ -1,8 +1,11 @@
 package com.zerobase.zbpaymentstudy.domain.member.service;
 
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.domain.member.dto.EmailAvailabilityDto;
 import com.zerobase.zbpaymentstudy.domain.member.dto.MemberDto;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberLoginDto;
 import com.zerobase.zbpaymentstudy.domain.member.dto.MemberSignUpDto;
+import com.zerobase.zbpaymentstudy.domain.member.dto.TokenDto;
 
 /**
  * 회원 관련 비즈니스 로직을 처리하는 서비스 인터페이스
@@ -19,4 +22,29 @@ public interface MemberService {
      * - 실패 시: 적절한 에러 메시지와 함께 실패 응답 반환
      */
     ApiResponse<MemberDto> signUp(MemberSignUpDto signUpDto);
+
+    /**
+     * 이메일 사용 가능 여부 확인
+     *
+     * @param email 확인할 이메일
+     * @return 사용 가능 여부
+     */
+    ApiResponse<EmailAvailabilityDto> checkEmailAvailability(String email);
+
+    /**
+     * 회원의 모든 기기에서 로그아웃 (이전에 발급된 모든 토큰 무효화)
+     *
+     * @param email 로그아웃할 회원의 이메일
+     * @return 처리 결과
+     */
+    ApiResponse<Void> logoutAll(String email);
+
+    /**
+     * 로그인 처리 및 토큰 발급
+     *
+     * @param loginDto 로그인 요청 정보
+     * @param clientIp 요청 IP (시도 횟수 제한에 사용)
+     * @return 발급된 토큰
+     */
+    ApiResponse<TokenDto> login(MemberLoginDto loginDto, String clientIp);
 } 
\ No newline at end of file
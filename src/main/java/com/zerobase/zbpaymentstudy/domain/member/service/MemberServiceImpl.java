@@ -1,17 +1,37 @@
 package com.zerobase.zbpaymentstudy.domain.member.service;
 
+import com.zerobase.zbpaymentstudy.cache.invalidation.EntityCacheInvalidator;
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import com.zerobase.zbpaymentstudy.domain.member.cache.EmailBloomFilter;
+import com.zerobase.zbpaymentstudy.domain.member.cache.MemberIdentityCache;
+import com.zerobase.zbpaymentstudy.domain.member.dto.EmailAvailabilityDto;
 import com.zerobase.zbpaymentstudy.domain.member.dto.MemberDto;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberLoginDto;
 import com.zerobase.zbpaymentstudy.domain.member.dto.MemberSignUpDto;
+import com.zerobase.zbpaymentstudy.domain.member.dto.TokenDto;
 import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
 import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import com.zerobase.zbpaymentstudy.exception.BusinessException;
+import com.zerobase.zbpaymentstudy.exception.ErrorCode;
+import com.zerobase.zbpaymentstudy.security.JwtTokenProvider;
+import com.zerobase.zbpaymentstudy.security.LoginThrottle;
+import com.zerobase.zbpaymentstudy.security.PasswordVerifier;
+import com.zerobase.zbpaymentstudy.security.TokenEpochRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 회원 서비스의 구현체 클래스
@@ -33,43 +53,183 @@ public class MemberServiceImpl implements MemberService {
      */
     private final PasswordEncoder passwordEncoder;
 
+    /**
+     * 토큰 세대 번호 레지스트리 (전체 로그아웃을 로컬 노드에 즉시 반영)
+     */
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    /**
+     * 비밀번호 검증 전용 풀
+     */
+    private final PasswordVerifier passwordVerifier;
+
+    /**
+     * 계정별, IP별 로그인 시도 제한
+     */
+    private final LoginThrottle loginThrottle;
+
+    /**
+     * 로그인 성공 시 토큰 발급
+     */
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 가입된 이메일의 Bloom 필터 (사용 가능 여부 확인 시 쿼리 생략)
+     */
+    private final EmailBloomFilter emailBloomFilter;
+
+    /**
+     * 회원 식별 정보 캐시 (회원 정보 변경 시 무효화)
+     */
+    private final MemberIdentityCache memberIdentityCache;
+
+    /**
+     * 회원 2차 캐시 무효화 (JPQL 일괄 갱신은 다른 노드에 자동으로 전파되지 않음)
+     */
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
     /**
      * 회원가입 처리를 수행하는 메서드
+     * 중복 확인 쿼리 없이 바로 INSERT하고, 이메일 유니크 제약 위반을 "이미 존재하는 이메일" 오류로 변환
+     * 동시에 같은 이메일로 가입해도 한 건만 성공하며, 가입 시도마다 문장 하나로 처리됨
      *
      * @param signUpDto 회원가입 요청 정보를 담은 DTO
      * @return ApiResponse<MemberDto> 회원가입 결과 및 생성된 회원 정보
-     * @throws IllegalArgumentException 이미 존재하는 이메일로 가입 시도할 경우
-     * @throws RuntimeException         회원가입 처리 중 예외 발생 시
-     *                                  <p>
-     *                                  처리 과정:
-     *                                  1. 이메일 중복 체크
-     *                                  2. 회원 엔티티 생성 (비밀번호 암호화 포함)
-     *                                  3. 데이터베이스에 회원 정보 저장
-     *                                  4. 저장된 회원 정보를 DTO로 변환하여 반환
+     * @throws BusinessException 이미 존재하는 이메일로 가입 시도할 경우 (EMAIL_ALREADY_EXISTS),
+     *                           관리자 권한으로 가입을 시도할 경우 (INVALID_MEMBER_ROLE)
      */
     @Override
     public ApiResponse<MemberDto> signUp(MemberSignUpDto signUpDto) {
+        // 관리자 계정은 공개 가입 경로로 만들 수 없음 (운영 DB 마이그레이션/시드로만 부여)
+        if (signUpDto.role() == MemberRole.ADMIN) {
+            log.warn("회원가입 거부 - 관리자 권한 요청: {}", signUpDto.email());
+            throw new BusinessException(ErrorCode.INVALID_MEMBER_ROLE);
+        }
+
+        Member member = Member.builder()
+            .email(signUpDto.email())
+            .password(passwordEncoder.encode(signUpDto.password()))
+            .name(signUpDto.name())
+            .role(signUpDto.role())
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+
+        Member savedMember;
         try {
-            if (memberRepository.existsByEmail(signUpDto.email())) {
-                throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
+            savedMember = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            // 회원 테이블의 유니크 제약은 이메일뿐이므로 유니크 위반만 이메일 중복으로 응답하고 나머지는 그대로 전파
+            if (!isUniqueViolation(e)) {
+                throw e;
             }
+            log.warn("회원가입 실패 - 이미 존재하는 이메일: {}", signUpDto.email());
+            throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+
+        // 커밋 전에 추가하여 가입 직후 사용 가능 여부 확인이 "사용 가능"으로 응답하는 구간이 없도록 함
+        // (롤백되면 오탐이 하나 늘 뿐 결과는 여전히 정확)
+        emailBloomFilter.add(savedMember.getEmail());
+        log.info("회원가입 완료 - email: {}, role: {}", member.getEmail(), member.getRole());
+        return new ApiResponse<>("SUCCESS", "회원가입이 완료되었습니다.",
+            new MemberDto(savedMember));
+    }
+
+    /**
+     * 이메일 사용 가능 여부를 확인하는 메서드
+     * Bloom 필터가 "포함되지 않음"으로 응답하면 쿼리 없이 사용 가능으로 처리
+     *
+     * @param email 확인할 이메일
+     * @return 사용 가능 여부
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<EmailAvailabilityDto> checkEmailAvailability(String email) {
+        boolean available = !emailBloomFilter.mightExist(email) || !memberRepository.existsByEmail(email);
+        return ApiResponse.success("이메일 사용 가능 여부 확인이 완료되었습니다.",
+            new EmailAvailabilityDto(email, available));
+    }
 
-            Member member = Member.builder()
-                .email(signUpDto.email())
-                .password(passwordEncoder.encode(signUpDto.password()))
-                .name(signUpDto.name())
-                .role(signUpDto.role())
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-            Member savedMember = memberRepository.save(member);
-            log.info("회원가입 완료 - email: {}, role: {}", member.getEmail(), member.getRole());
-            return new ApiResponse<>("SUCCESS", "회원가입이 완료되었습니다.",
-                new MemberDto(savedMember));
-        } catch (Exception e) {
-            log.error("회원가입 중 오류 발생", e);
-            throw new RuntimeException("회원가입 중 오류가 발생했습니다.", e);
+    /**
+     * 전체 로그아웃을 처리하는 메서드
+     * 토큰 세대 번호를 증가시키는 한 행 갱신으로 처리하며, 다른 노드는 주기적인 동기화로 반영
+     *
+     * @param email 로그아웃할 회원의 이메일
+     * @return 처리 결과
+     * @throws BusinessException 존재하지 않는 회원인 경우
+     */
+    @Override
+    public ApiResponse<Void> logoutAll(String email) {
+        if (memberRepository.incrementTokenVersion(email, LocalDateTime.now()) == 0) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+
+        Member member = memberRepository.findByEmail(email)
+            .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        int tokenVersion = memberRepository.findTokenVersionById(member.getId())
+            .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        TransactionCallbacks.afterCommit(() -> tokenEpochRegistry.advance(email, tokenVersion));
+        memberIdentityCache.evict(email);
+        entityCacheInvalidator.evict(Member.class, member.getId());
+
+        log.info("전체 로그아웃 완료 - email: {}, tokenVersion: {}", email, tokenVersion);
+        return ApiResponse.success("모든 기기에서 로그아웃되었습니다.", null);
+    }
+
+    /**
+     * 로그인을 처리하는 메서드
+     * 해시 검증 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     *
+     * @param loginDto 로그인 요청 정보
+     * @param clientIp 요청 IP
+     * @return 발급된 토큰
+     * @throws BusinessException 시도 횟수를 초과했거나(TOO_MANY_LOGIN_ATTEMPTS), 해시 풀이 포화되었거나(LOGIN_BUSY),
+     *                           이메일 또는 비밀번호가 올바르지 않은 경우(INVALID_CREDENTIALS)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApiResponse<TokenDto> login(MemberLoginDto loginDto, String clientIp) {
+        if (!loginThrottle.tryAcquire(loginDto.email(), clientIp)) {
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+
+        Member member = memberRepository.findByEmail(loginDto.email()).orElse(null);
+        PasswordVerifier.Result result = passwordVerifier.verify(
+            loginDto.password(), member != null ? member.getPassword() : null);
+        if (member == null || !result.matched()) {
+            log.warn("로그인 실패 - email: {}, ip: {}", loginDto.email(), clientIp);
+            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
+        }
+
+        if (result.upgradedHash() != null) {
+            memberRepository.upgradePassword(member.getId(), member.getPassword(), result.upgradedHash());
+            entityCacheInvalidator.evict(Member.class, member.getId());
+        }
+
+        // 회원 엔티티는 2차 캐시에서 읽었을 수 있으므로 토큰 세대 번호는 DB에서 다시 읽고,
+        // 이 노드의 세대 번호도 함께 올려 전체 로그아웃 이전 토큰을 동기화 주기를 기다리지 않고 거부
+        int tokenVersion = memberRepository.findTokenVersionById(member.getId())
+            .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
+        tokenEpochRegistry.advance(member.getEmail(), tokenVersion);
+        String token = jwtTokenProvider.createToken(member.getEmail(),
+            List.of(new SimpleGrantedAuthority(member.getRole().name())), tokenVersion);
+        log.info("로그인 완료 - email: {}", member.getEmail());
+        return ApiResponse.success("로그인이 완료되었습니다.", TokenDto.bearer(token));
+    }
+
+    /**
+     * 무결성 위반이 유니크 제약 위반인지 확인
+     * Hibernate가 DB 오류 코드로 판별한 제약 종류를 사용 (MySQL 1062, H2 23505 등)
+     */
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+            }
         }
+        return false;
     }
-} 
\ No newline at end of file
+}
@@ -6,5 +6,6 @@ package com.zerobase.zbpaymentstudy.domain.member.type;
  */
 public enum MemberRole {
     USER,      // 일반 사용자
-    PARTNER    // 매장 파트너(점장)
+    PARTNER,   // 매장 파트너(점장)
+    ADMIN      // 운영 관리자 (회원가입으로는 만들 수 없고 DB 마이그레이션/시드로만 부여)
 } 
\ No newline at end of file
@@ -63,11 +63,22 @@ public record ReservationDto(
      * @return 변환된 ReservationDto 객체
      */
     public static ReservationDto from(Reservation reservation) {
+        return from(reservation, Optional.ofNullable(reservation.getMember()).map(Member::getEmail).orElse(null));
+    }
+
+    /**
+     * 예약자 이메일을 이미 알고 있을 때 회원 엔티티를 로딩하지 않고 변환
+     *
+     * @param reservation 변환할 Reservation 엔티티
+     * @param memberEmail 예약자 이메일
+     * @return 변환된 ReservationDto 객체
+     */
+    public static ReservationDto from(Reservation reservation, String memberEmail) {
         return new ReservationDto(
             reservation.getId(),
             Optional.ofNullable(reservation.getStore()).map(Store::getId).orElse(null),
             Optional.ofNullable(reservation.getStore()).map(Store::getName).orElse(null),
-            Optional.ofNullable(reservation.getMember()).map(Member::getEmail).orElse(null),
+            memberEmail,
             reservation.getReservationTime(),
             reservation.getStatus(),
             reservation.getCheckInTime(),
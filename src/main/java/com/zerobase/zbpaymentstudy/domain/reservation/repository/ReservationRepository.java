@@ -4,9 +4,12 @@ import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
 import com.zerobase.zbpaymentstudy.domain.reservation.entity.Reservation;
 import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 예약 정보에 대한 데이터 접근을 담당하는 리포지토리 인터페이스
@@ -42,4 +45,13 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
         LocalDateTime start,
         LocalDateTime end
     );
-}
\ No newline at end of file
+
+    /**
+     * 회원이 예약한 적이 있는 매장 ID 목록 조회
+     *
+     * @param email 회원 이메일
+     * @return 매장 ID 목록
+     */
+    @Query("SELECT DISTINCT r.store.id FROM Reservation r WHERE r.member.email = :email")
+    List<Long> findBookedStoreIds(@Param("email") String email);
+}
@@ -1,6 +1,8 @@
 package com.zerobase.zbpaymentstudy.domain.reservation.service;
 
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.domain.member.cache.MemberIdentityCache;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberIdentity;
 import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
 import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
 import com.zerobase.zbpaymentstudy.domain.reservation.dto.ReservationCreateDto;
@@ -34,6 +36,7 @@ public class ReservationServiceImpl implements ReservationService {
     private final ReservationRepository reservationRepository;
     private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
+    private final MemberIdentityCache memberIdentityCache;
 
     /**
      * 새로운 예약을 생성하는 메서드
@@ -47,8 +50,10 @@ public class ReservationServiceImpl implements ReservationService {
     @Override
     public ApiResponse<ReservationDto> createReservation(String memberEmail, ReservationCreateDto dto) {
         try {
-            Member member = memberRepository.findByEmail(memberEmail)
+            MemberIdentity identity = memberIdentityCache.find(memberEmail)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+            // 외래 키 설정과 중복 예약 조회에는 ID만 필요하므로 회원 엔티티를 로딩하지 않음
+            Member member = memberRepository.getReferenceById(identity.id());
 
             Store store = storeRepository.findById(dto.storeId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
@@ -66,7 +71,8 @@ public class ReservationServiceImpl implements ReservationService {
                 .build();
 
             Reservation savedReservation = reservationRepository.save(reservation);
-            return new ApiResponse<>("SUCCESS", "예약이 생성되었습니다.", ReservationDto.from(savedReservation));
+            return new ApiResponse<>("SUCCESS", "예약이 생성되었습니다.",
+                ReservationDto.from(savedReservation, identity.email()));
         } catch (BusinessException e) {
             log.warn("예약 생성 실패 - {}", e.getMessage());
             throw e;
@@ -296,8 +302,11 @@ public class ReservationServiceImpl implements ReservationService {
             Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
 
-            // 매장 소유자 검증
-            if (!reservation.getStore().getOwner().getEmail().equals(ownerEmail)) {
+            // 매장 소유자 검증 (소유자 참조의 ID만 비교하여 회원 엔티티를 로딩하지 않음)
+            Long ownerId = memberIdentityCache.find(ownerEmail)
+                .map(MemberIdentity::id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_STORE_OWNER));
+            if (!reservation.getStore().getOwner().getId().equals(ownerId)) {
                 throw new BusinessException(ErrorCode.INVALID_STORE_OWNER);
             }
 
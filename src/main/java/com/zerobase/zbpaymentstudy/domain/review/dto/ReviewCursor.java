@@ -0,0 +1,63 @@
+package com.zerobase.zbpaymentstudy.domain.review.dto;
+
+import com.zerobase.zbpaymentstudy.exception.BusinessException;
+import com.zerobase.zbpaymentstudy.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 리뷰 목록 커서
+ * 마지막으로 조회한 리뷰의 (작성 시간, ID)를 담으며, 다음 페이지는 이 위치 이후부터 인덱스를 탐색
+ * 클라이언트에는 URL-safe Base64로 인코딩한 불투명 문자열로 전달
+ */
+public record ReviewCursor(
+    LocalDateTime createdAt,  // 마지막 리뷰의 작성 시간
+    Long id                   // 마지막 리뷰의 ID
+) {
+    private static final String DELIMITER = "|";
+
+    /**
+     * 리뷰 정보로부터 커서 생성
+     *
+     * @param review 마지막으로 조회한 리뷰
+     * @return 다음 페이지 커서
+     */
+    public static ReviewCursor of(ReviewDto review) {
+        return new ReviewCursor(review.createdAt(), review.id());
+    }
+
+    /**
+     * 커서를 문자열로 인코딩
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열 커서를 해석
+     *
+     * @param encoded 인코딩된 커서 (없으면 첫 페이지)
+     * @return 해석된 커서, 첫 페이지인 경우 null
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static ReviewCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new ReviewCursor(
+                LocalDateTime.parse(raw.substring(0, index)),
+                Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+}
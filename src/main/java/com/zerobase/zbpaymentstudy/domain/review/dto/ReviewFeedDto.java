@@ -0,0 +1,13 @@
+package com.zerobase.zbpaymentstudy.domain.review.dto;
+
+import java.util.List;
+
+/**
+ * 여러 매장의 최근 리뷰 피드 응답 DTO
+ */
+public record ReviewFeedDto(
+    List<ReviewDto> content,  // 리뷰 목록 (최신순)
+    String nextCursor,        // 다음 페이지 커서 (마지막 페이지면 null)
+    boolean hasNext           // 다음 페이지 존재 여부
+) {
+}
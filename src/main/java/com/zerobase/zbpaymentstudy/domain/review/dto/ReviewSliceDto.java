@@ -0,0 +1,14 @@
+package com.zerobase.zbpaymentstudy.domain.review.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 리뷰 목록 응답 DTO
+ */
+public record ReviewSliceDto(
+    List<ReviewDto> content,  // 리뷰 목록 (최신순)
+    String nextCursor,        // 다음 페이지 커서 (마지막 페이지면 null)
+    boolean hasNext,          // 다음 페이지 존재 여부
+    long totalCount           // 매장의 전체 리뷰 수 (매장 집계 컬럼 기준)
+) {
+}
@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "review")
+@Table(name = "review", indexes = {
+    @Index(name = "idx_review_store_created", columnList = "store_id, created_at, id")
+})
 public class Review {
     /**
      * 리뷰의 고유 식별자
@@ -35,6 +37,13 @@ public class Review {
     @JoinColumn(name = "reservation_id")
     private Reservation reservation;
 
+    /**
+     * 리뷰가 작성된 매장 ID
+     * 예약의 매장 ID를 비정규화하여 저장하며, 매장별 리뷰 목록을 (작성 시간, ID) 순서의 인덱스로 조회하는 데 사용
+     */
+    @Column(name = "store_id")
+    private Long storeId;
+
     /**
      * 매장에 대한 평점 (1-5점)
      * null 값을 허용하지 않음
@@ -0,0 +1,34 @@
+package com.zerobase.zbpaymentstudy.domain.review.feed;
+
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCursor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 피드 병합에 사용하는 리뷰 위치 정보 (작성 시간, 리뷰 ID)
+ */
+public record FeedEntry(
+    Long reviewId,            // 리뷰 ID
+    LocalDateTime createdAt   // 리뷰 작성 시간
+) {
+    /**
+     * 최신순 정렬 (작성 시간 내림차순, 같으면 ID 내림차순)
+     */
+    public static final Comparator<FeedEntry> NEWEST_FIRST = Comparator
+        .comparing(FeedEntry::createdAt, Comparator.reverseOrder())
+        .thenComparing(FeedEntry::reviewId, Comparator.reverseOrder());
+
+    /**
+     * 최신순 정렬에서 커서보다 뒤에 위치하는지 여부
+     *
+     * @param cursor 커서 (null이면 항상 true)
+     */
+    public boolean isAfter(ReviewCursor cursor) {
+        if (cursor == null) {
+            return true;
+        }
+        int compare = createdAt.compareTo(cursor.createdAt());
+        return compare < 0 || (compare == 0 && reviewId < cursor.id());
+    }
+}
@@ -0,0 +1,80 @@
+package com.zerobase.zbpaymentstudy.domain.review.feed;
+
+import java.util.List;
+
+/**
+ * 한 매장의 최근 리뷰 위치를 고정 크기로 보관하는 링 버퍼
+ * 가장 오래된 항목을 덮어쓰며, 항상 최신순으로 정렬된 상태를 유지
+ */
+public final class RecentReviewBuffer {
+
+    private final FeedEntry[] entries;
+    private int head;   // 가장 최근 항목의 위치
+    private int size;
+
+    /**
+     * 최신순으로 정렬된 항목으로 버퍼 생성
+     *
+     * @param capacity 최대 항목 수
+     * @param newest   최신순으로 정렬된 초기 항목
+     */
+    public RecentReviewBuffer(int capacity, List<FeedEntry> newest) {
+        this.entries = new FeedEntry[capacity];
+        this.head = 0;
+        this.size = 0;
+        for (int i = Math.min(newest.size(), capacity) - 1; i >= 0; i--) {
+            push(newest.get(i));
+        }
+    }
+
+    /**
+     * 새 리뷰 추가
+     * 작성 순서가 뒤바뀌어 도착한 경우에도 정렬이 유지되도록 알맞은 위치에 삽입
+     *
+     * @param entry 추가할 리뷰 위치
+     */
+    public synchronized void push(FeedEntry entry) {
+        for (int i = 0; i < size; i++) {
+            if (get(i).reviewId().equals(entry.reviewId())) {
+                return; // 버퍼를 DB에서 읽는 동안 커밋된 리뷰는 이미 포함되어 있을 수 있음
+            }
+        }
+        if (size == entries.length && FeedEntry.NEWEST_FIRST.compare(entry, get(size - 1)) > 0) {
+            return; // 버퍼의 가장 오래된 항목보다도 오래된 리뷰
+        }
+
+        head = (head - 1 + entries.length) % entries.length;
+        if (size < entries.length) {
+            size++;
+        }
+
+        // 새 항목을 맨 앞에 두고 더 최신 항목이 있으면 뒤로 밀어냄 (대부분 즉시 종료)
+        int i = 0;
+        while (i + 1 < size && FeedEntry.NEWEST_FIRST.compare(get(i + 1), entry) < 0) {
+            set(i, get(i + 1));
+            i++;
+        }
+        set(i, entry);
+    }
+
+    /**
+     * 최신순 복사본
+     *
+     * @return 최신순으로 정렬된 항목 배열
+     */
+    public synchronized FeedEntry[] snapshot() {
+        FeedEntry[] copy = new FeedEntry[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = get(i);
+        }
+        return copy;
+    }
+
+    private FeedEntry get(int index) {
+        return entries[(head + index) % entries.length];
+    }
+
+    private void set(int index, FeedEntry entry) {
+        entries[(head + index) % entries.length] = entry;
+    }
+}
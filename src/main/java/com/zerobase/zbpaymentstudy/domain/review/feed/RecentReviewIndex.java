@@ -0,0 +1,113 @@
+package com.zerobase.zbpaymentstudy.domain.review.feed;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import com.zerobase.zbpaymentstudy.domain.review.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 최근 리뷰 링 버퍼를 관리하는 인메모리 인덱스
+ * <p>
+ * 버퍼는 처음 조회될 때 (store_id, created_at, id) 인덱스에서 최근 리뷰 위치만 읽어 채우고,
+ * 이후에는 리뷰 작성이 커밋될 때마다 증분으로 갱신
+ * 리뷰가 삭제되면 해당 매장의 버퍼를 버리고 다음 조회 시 다시 채움
+ * <p>
+ * 버퍼는 노드마다 따로 가지므로 리뷰 작성/삭제는 무효화 버스로 다른 노드에 전파
+ * 작성은 리뷰 위치 자체를 전달하여 다른 노드도 버퍼에 증분으로 추가하고(중복 추가는 무시됨),
+ * 삭제는 해당 매장의 버퍼를 버린 뒤 다음 조회 시 DB에서 다시 채움
+ */
+@Component
+public class RecentReviewIndex {
+
+    private static final String CREATED_REGION = "review-feed-created";
+    private static final String DELETED_REGION = "review-feed-deleted";
+    private static final char SEPARATOR = '|';
+
+    private final ReviewRepository reviewRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final int capacity;
+    private final Cache<Long, RecentReviewBuffer> buffers;
+
+    public RecentReviewIndex(
+        ReviewRepository reviewRepository,
+        CacheInvalidationBus invalidationBus,
+        @Value("${review.feed.buffer-size:50}") int capacity,
+        @Value("${review.feed.max-stores:10000}") long maxStores
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.invalidationBus = invalidationBus;
+        this.capacity = capacity;
+        this.buffers = Caffeine.newBuilder()
+            .maximumSize(maxStores)
+            .build();
+        invalidationBus.subscribe(CREATED_REGION, this::applyCreated);
+        invalidationBus.subscribe(DELETED_REGION, storeId -> buffers.invalidate(Long.valueOf(storeId)));
+    }
+
+    /**
+     * 매장의 최근 리뷰 위치를 최신순으로 반환
+     *
+     * @param storeId 매장 ID
+     * @return 최신순 리뷰 위치 배열
+     */
+    public FeedEntry[] recent(Long storeId) {
+        return buffers.get(storeId, id ->
+            new RecentReviewBuffer(capacity, reviewRepository.findRecentFeedEntries(id, capacity))
+        ).snapshot();
+    }
+
+    /**
+     * 리뷰 작성 커밋 이후 이 노드와 다른 노드의 매장 버퍼에 추가
+     * 버퍼를 채우는 중이면 채우기가 끝난 뒤 추가되며, 버퍼가 없으면 다음 조회 시 DB에서 읽음
+     *
+     * @param storeId   매장 ID
+     * @param reviewId  리뷰 ID
+     * @param createdAt 리뷰 작성 시간
+     */
+    public void onCreated(Long storeId, Long reviewId, LocalDateTime createdAt) {
+        FeedEntry entry = new FeedEntry(reviewId, createdAt);
+        TransactionCallbacks.afterCommit(() -> {
+            push(storeId, entry);
+            invalidationBus.publish(CREATED_REGION,
+                storeId.toString() + SEPARATOR + reviewId + SEPARATOR + createdAt);
+        });
+    }
+
+    /**
+     * 리뷰 삭제 커밋 이후 모든 노드에서 매장 버퍼를 제거
+     *
+     * @param storeId 매장 ID
+     */
+    public void onDeleted(Long storeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            buffers.invalidate(storeId);
+            invalidationBus.publish(DELETED_REGION, storeId.toString());
+        });
+    }
+
+    /**
+     * 다른 노드에서 작성된 리뷰를 버퍼에 추가 (키: 매장 ID|리뷰 ID|작성 시간)
+     */
+    private void applyCreated(String key) {
+        int first = key.indexOf(SEPARATOR);
+        int second = key.indexOf(SEPARATOR, first + 1);
+        push(Long.valueOf(key.substring(0, first)), new FeedEntry(
+            Long.valueOf(key.substring(first + 1, second)),
+            LocalDateTime.parse(key.substring(second + 1))));
+    }
+
+    /**
+     * 버퍼가 있으면 리뷰 위치를 추가 (없으면 다음 조회 시 DB에서 함께 읽힘)
+     */
+    private void push(Long storeId, FeedEntry entry) {
+        buffers.asMap().computeIfPresent(storeId, (id, buffer) -> {
+            buffer.push(entry);
+            return buffer;
+        });
+    }
+}
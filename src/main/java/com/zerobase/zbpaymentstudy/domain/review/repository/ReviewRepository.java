@@ -1,17 +1,22 @@
 package com.zerobase.zbpaymentstudy.domain.review.repository;
 
 import com.zerobase.zbpaymentstudy.domain.review.entity.Review;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 /**
  * 리뷰 정보에 대한 데이터 접근을 담당하는 리포지토리 인터페이스
  */
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
     /**
      * 특정 예약에 대한 리뷰 존재 여부 확인
      *
@@ -20,18 +25,31 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     boolean existsByReservationId(Long reservationId);
 
+    /**
+     * 리뷰를 쓰기 잠금(SELECT ... FOR UPDATE)으로 조회
+     * 수정/삭제 시 변경 전 평점을 잠근 행에서 읽어, 같은 리뷰를 동시에 수정해도 평점 집계 변화량이 겹치지 않도록 함
+     *
+     * @param id 조회할 리뷰 ID
+     * @return 잠근 리뷰
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id")
+    Optional<Review> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * 특정 매장의 모든 리뷰를 조회
      * N+1 문제를 방지하기 위해 연관 엔티티를 함께 조회
+     * fetch join 쿼리로부터 건수 쿼리를 유도하지 않도록 조인 없는 건수 쿼리를 별도로 지정
      *
      * @param storeId  조회할 매장 ID
      * @param pageable 페이징 정보
      * @return 매장의 리뷰 목록
      */
-    @Query("SELECT r FROM Review r " +
+    @Query(value = "SELECT r FROM Review r " +
         "JOIN FETCH r.reservation res " +
         "JOIN FETCH res.member " +
         "JOIN FETCH res.store s " +
-        "WHERE s.id = :storeId")
+        "WHERE s.id = :storeId",
+        countQuery = "SELECT COUNT(r) FROM Review r JOIN r.reservation res WHERE res.store.id = :storeId")
     Page<Review> findByStoreId(Long storeId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.zerobase.zbpaymentstudy.domain.review.repository;
+
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCursor;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewDto;
+import com.zerobase.zbpaymentstudy.domain.review.feed.FeedEntry;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰 조회를 위한 커스텀 리포지토리 인터페이스
+ * QueryDSL을 사용한 커서 기반 조회 기능을 정의
+ */
+public interface ReviewRepositoryCustom {
+
+    /**
+     * 매장의 리뷰를 최신순으로 커서 위치 이후부터 조회하여 DTO로 바로 변환
+     *
+     * @param storeId   매장 ID
+     * @param storeName 매장명 (모든 행에 동일하므로 조인하지 않고 전달받음)
+     * @param cursor    마지막으로 조회한 리뷰 위치 (첫 페이지면 null)
+     * @param limit     조회할 최대 건수
+     * @return 리뷰 목록
+     */
+    List<ReviewDto> findStoreReviewsAfter(Long storeId, String storeName, ReviewCursor cursor, int limit);
+
+    /**
+     * 매장의 최근 리뷰 위치(ID, 작성 시간)를 최신순으로 조회
+     *
+     * @param storeId 매장 ID
+     * @param limit   조회할 최대 건수
+     * @return 최신순 리뷰 위치 목록
+     */
+    List<FeedEntry> findRecentFeedEntries(Long storeId, int limit);
+
+    /**
+     * 리뷰 ID 목록으로 리뷰를 조회하여 DTO로 바로 변환 (반환 순서는 보장하지 않음)
+     *
+     * @param reviewIds 리뷰 ID 목록
+     * @return 리뷰 목록
+     */
+    List<ReviewDto> findReviewDtosByIds(Collection<Long> reviewIds);
+}
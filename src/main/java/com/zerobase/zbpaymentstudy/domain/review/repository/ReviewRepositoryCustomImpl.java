@@ -0,0 +1,115 @@
+package com.zerobase.zbpaymentstudy.domain.review.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.zerobase.zbpaymentstudy.domain.member.entity.QMember;
+import com.zerobase.zbpaymentstudy.domain.reservation.entity.QReservation;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCursor;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewDto;
+import com.zerobase.zbpaymentstudy.domain.review.entity.QReview;
+import com.zerobase.zbpaymentstudy.domain.review.feed.FeedEntry;
+import com.zerobase.zbpaymentstudy.domain.store.entity.QStore;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰 조회를 위한 커스텀 리포지토리 구현 클래스
+ * QueryDSL을 사용하여 커서 기반 조회를 구현
+ */
+@RequiredArgsConstructor
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+    private final QReview review = QReview.review;
+    private final QReservation reservation = QReservation.reservation;
+    private final QMember member = QMember.member;
+    private final QStore store = QStore.store;
+
+    /**
+     * idx_review_store_created (store_id, created_at, id) 인덱스를 역순으로 탐색하여
+     * OFFSET 없이 커서 위치부터 limit 건만 읽음
+     * 엔티티 대신 필요한 컬럼만 조회하여 ReviewDto로 바로 변환하므로 영속성 컨텍스트에 적재되지 않음
+     */
+    @Override
+    public List<ReviewDto> findStoreReviewsAfter(Long storeId, String storeName, ReviewCursor cursor, int limit) {
+        return queryFactory
+            .select(review.id, reservation.id, member.email, review.rating, review.content, review.createdAt)
+            .from(review)
+            .join(review.reservation, reservation)
+            .join(reservation.member, member)
+            .where(
+                review.storeId.eq(storeId),
+                after(cursor)
+            )
+            .orderBy(review.createdAt.desc(), review.id.desc())
+            .limit(limit)
+            .fetch()
+            .stream()
+            .map(row -> new ReviewDto(
+                row.get(review.id),
+                row.get(reservation.id),
+                row.get(member.email),
+                storeName,
+                row.get(review.rating),
+                row.get(review.content),
+                row.get(review.createdAt)
+            ))
+            .toList();
+    }
+
+    /**
+     * 인덱스만으로 처리되는 (store_id, created_at, id) 조회
+     */
+    @Override
+    public List<FeedEntry> findRecentFeedEntries(Long storeId, int limit) {
+        return queryFactory
+            .select(review.id, review.createdAt)
+            .from(review)
+            .where(review.storeId.eq(storeId))
+            .orderBy(review.createdAt.desc(), review.id.desc())
+            .limit(limit)
+            .fetch()
+            .stream()
+            .map(row -> new FeedEntry(row.get(review.id), row.get(review.createdAt)))
+            .toList();
+    }
+
+    @Override
+    public List<ReviewDto> findReviewDtosByIds(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+            .select(review.id, reservation.id, member.email, store.name,
+                review.rating, review.content, review.createdAt)
+            .from(review)
+            .join(review.reservation, reservation)
+            .join(reservation.member, member)
+            .join(reservation.store, store)
+            .where(review.id.in(reviewIds))
+            .fetch()
+            .stream()
+            .map(row -> new ReviewDto(
+                row.get(review.id),
+                row.get(reservation.id),
+                row.get(member.email),
+                row.get(store.name),
+                row.get(review.rating),
+                row.get(review.content),
+                row.get(review.createdAt)
+            ))
+            .toList();
+    }
+
+    /**
+     * 최신순 정렬에서 커서 이후 위치 조건: (created_at, id) < (커서 작성 시간, 커서 ID)
+     */
+    private BooleanExpression after(ReviewCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return review.createdAt.lt(cursor.createdAt())
+            .or(review.createdAt.eq(cursor.createdAt()).and(review.id.lt(cursor.id())));
+    }
+}
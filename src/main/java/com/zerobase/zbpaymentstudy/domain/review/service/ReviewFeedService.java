@@ -0,0 +1,158 @@
+package com.zerobase.zbpaymentstudy.domain.review.service;
+
+import com.zerobase.zbpaymentstudy.domain.reservation.repository.ReservationRepository;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCursor;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewDto;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewFeedDto;
+import com.zerobase.zbpaymentstudy.domain.review.feed.FeedEntry;
+import com.zerobase.zbpaymentstudy.domain.review.feed.RecentReviewIndex;
+import com.zerobase.zbpaymentstudy.domain.review.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 매장의 최근 리뷰를 하나의 최신순 피드로 제공하는 서비스
+ * <p>
+ * 매장별 최근 리뷰 링 버퍼(이미 최신순 정렬)를 힙으로 k-way 병합하여 페이지에 들어갈 리뷰 ID만 고르고,
+ * 최종 페이지의 리뷰만 DB에서 조회
+ * 피드의 깊이는 매장별 버퍼 크기로 제한되며, 그보다 오래된 리뷰는 매장별 리뷰 목록에서 조회
+ */
+@Service
+@Transactional(readOnly = true)
+public class ReviewFeedService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final RecentReviewIndex recentReviewIndex;
+    private final ReviewRepository reviewRepository;
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * 한 번의 피드 요청에서 병합할 최대 매장 수
+     */
+    private final int maxStores;
+
+    public ReviewFeedService(
+        RecentReviewIndex recentReviewIndex,
+        ReviewRepository reviewRepository,
+        ReservationRepository reservationRepository,
+        @Value("${review.feed.max-feed-stores:200}") int maxStores
+    ) {
+        this.recentReviewIndex = recentReviewIndex;
+        this.reviewRepository = reviewRepository;
+        this.reservationRepository = reservationRepository;
+        this.maxStores = maxStores;
+    }
+
+    /**
+     * 최근 리뷰 피드 조회
+     *
+     * @param memberEmail 요청한 회원의 이메일
+     * @param storeIds    피드에 포함할 매장 ID 목록 (비어 있으면 회원이 예약한 적이 있는 매장)
+     * @param cursor      이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size        조회할 리뷰 수
+     * @return 최신순 리뷰 피드
+     */
+    public ReviewFeedDto getFeed(String memberEmail, Collection<Long> storeIds, String cursor, int size) {
+        List<Long> targets = (storeIds == null || storeIds.isEmpty()
+            ? reservationRepository.findBookedStoreIds(memberEmail)
+            : new ArrayList<>(storeIds))
+            .stream()
+            .distinct()
+            .limit(maxStores)
+            .toList();
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<FeedEntry> page = merge(targets, ReviewCursor.decode(cursor), limit + 1);
+
+        boolean hasNext = page.size() > limit;
+        if (hasNext) {
+            page = page.subList(0, limit);
+        }
+
+        List<ReviewDto> content = hydrate(page);
+        String nextCursor = null;
+        if (hasNext) {
+            FeedEntry last = page.get(page.size() - 1);
+            nextCursor = new ReviewCursor(last.createdAt(), last.reviewId()).encode();
+        }
+        return new ReviewFeedDto(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 매장별 최신순 버퍼를 힙으로 병합하여 커서 이후의 리뷰 위치를 최대 limit개 선택
+     * 힙에는 매장마다 아직 꺼내지 않은 가장 최신 항목 하나만 들어가므로 O(limit × log k)
+     */
+    private List<FeedEntry> merge(List<Long> storeIds, ReviewCursor cursor, int limit) {
+        PriorityQueue<Head> heap = new PriorityQueue<>(
+            Math.max(1, storeIds.size()), (a, b) -> FeedEntry.NEWEST_FIRST.compare(a.current(), b.current()));
+
+        for (Long storeId : storeIds) {
+            FeedEntry[] entries = recentReviewIndex.recent(storeId);
+            int start = 0;
+            while (start < entries.length && !entries[start].isAfter(cursor)) {
+                start++;
+            }
+            if (start < entries.length) {
+                heap.add(new Head(entries, start));
+            }
+        }
+
+        List<FeedEntry> result = new ArrayList<>(limit);
+        while (result.size() < limit && !heap.isEmpty()) {
+            Head head = heap.poll();
+            result.add(head.current());
+            if (head.advance()) {
+                heap.add(head);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 선택된 리뷰만 DB에서 조회하고 병합 순서대로 정렬
+     * 병합 이후 삭제된 리뷰는 제외
+     */
+    private List<ReviewDto> hydrate(List<FeedEntry> page) {
+        Map<Long, ReviewDto> byId = reviewRepository.findReviewDtosByIds(
+                page.stream().map(FeedEntry::reviewId).toList())
+            .stream()
+            .collect(Collectors.toMap(ReviewDto::id, Function.identity()));
+
+        return page.stream()
+            .map(entry -> byId.get(entry.reviewId()))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * 병합 중인 매장 버퍼와 현재 위치
+     */
+    private static final class Head {
+        private final FeedEntry[] entries;
+        private int index;
+
+        private Head(FeedEntry[] entries, int index) {
+            this.entries = entries;
+            this.index = index;
+        }
+
+        private FeedEntry current() {
+            return entries[index];
+        }
+
+        private boolean advance() {
+            return ++index < entries.length;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.zerobase.zbpaymentstudy.domain.review.service;
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCreateDto;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewDto;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewSliceDto;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewUpdateDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -50,4 +51,15 @@ public interface ReviewService {
      * @return 매장의 리뷰 목록과 페이징 정보
      */
     Page<ReviewDto> getStoreReviews(Long storeId, Pageable pageable);
+
+    /**
+     * 특정 매장의 리뷰 목록을 커서 기반으로 조회하는 메서드
+     * 최신순으로 정렬되며, 리뷰가 많은 매장의 뒤쪽 페이지도 일정한 비용으로 조회
+     *
+     * @param storeId 리뷰를 조회할 매장의 ID
+     * @param cursor  이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size    조회할 리뷰 수
+     * @return 리뷰 목록과 다음 페이지 커서
+     */
+    ReviewSliceDto getStoreReviewSlice(Long storeId, String cursor, int size);
 }
\ No newline at end of file
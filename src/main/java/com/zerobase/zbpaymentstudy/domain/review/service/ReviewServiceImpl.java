@@ -1,14 +1,22 @@
 package com.zerobase.zbpaymentstudy.domain.review.service;
 
+import com.zerobase.zbpaymentstudy.cache.ResponseByteCache;
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.common.SingleFlight;
 import com.zerobase.zbpaymentstudy.domain.reservation.entity.Reservation;
 import com.zerobase.zbpaymentstudy.domain.reservation.repository.ReservationRepository;
 import com.zerobase.zbpaymentstudy.domain.reservation.type.ReservationStatus;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCreateDto;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCursor;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewDto;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewSliceDto;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewUpdateDto;
 import com.zerobase.zbpaymentstudy.domain.review.entity.Review;
+import com.zerobase.zbpaymentstudy.domain.review.feed.RecentReviewIndex;
 import com.zerobase.zbpaymentstudy.domain.review.repository.ReviewRepository;
+import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
+import com.zerobase.zbpaymentstudy.domain.store.service.StoreRatingAggregator;
 import com.zerobase.zbpaymentstudy.exception.BusinessException;
 import com.zerobase.zbpaymentstudy.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -16,9 +24,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 리뷰 서비스의 구현 클래스
@@ -31,6 +43,21 @@ import java.time.LocalDateTime;
 public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
+    private final StoreRepository storeRepository;
+    private final StoreRatingAggregator storeRatingAggregator;
+    private final ResponseByteCache responseByteCache;
+    private final RecentReviewIndex recentReviewIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 커서 기반 리뷰 목록의 최대 페이지 크기
+     */
+    private static final int MAX_SLICE_SIZE = 100;
+
+    /**
+     * 같은 매장, 같은 페이지의 동시 리뷰 목록 조회를 하나로 합침
+     */
+    private final SingleFlight<ReviewPageKey, Page<ReviewDto>> reviewPageFlight = new SingleFlight<>();
 
     /**
      * 새로운 리뷰를 생성하는 메서드
@@ -51,12 +78,17 @@ public class ReviewServiceImpl implements ReviewService {
 
             Review review = Review.builder()
                 .reservation(reservation)
+                .storeId(reservation.getStore().getId())
                 .rating(dto.rating())
                 .content(dto.content())
                 .createdAt(LocalDateTime.now())
                 .build();
 
             Review savedReview = reviewRepository.save(review);
+            storeRatingAggregator.recordCreated(reservation.getStore().getId(), dto.rating());
+            responseByteCache.purge(ResponseByteCache.storeKey(reservation.getStore().getId()));
+            recentReviewIndex.onCreated(
+                reservation.getStore().getId(), savedReview.getId(), savedReview.getCreatedAt());
             return new ApiResponse<>("SUCCESS", "리뷰가 작성되었습니다.",
                 ReviewDto.from(savedReview));
         } catch (BusinessException e) {
@@ -67,6 +99,7 @@ public class ReviewServiceImpl implements ReviewService {
     /**
      * 기존 리뷰를 수정하는 메서드
      * 리뷰 존재 여부를 확인하고 내용을 업데이트
+     * 리뷰 행을 잠근 뒤 변경 전 평점을 읽으므로, 동시 수정은 앞선 수정이 커밋된 평점을 기준으로 변화량을 계산
      *
      * @param memberEmail 수정 요청자의 이메일
      * @param reviewId 수정할 리뷰의 ID
@@ -78,7 +111,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional
     public ApiResponse<ReviewDto> updateReview(String memberEmail, Long reviewId, ReviewUpdateDto dto) {
         try {
-            Review review = reviewRepository.findById(reviewId)
+            Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
 
             // 리뷰 작성자만 수정 가능하도록 검증
@@ -86,11 +119,15 @@ public class ReviewServiceImpl implements ReviewService {
                 throw new BusinessException(ErrorCode.UNAUTHORIZED_REVIEW_UPDATE);
             }
 
+            int oldRating = review.getRating();
             review.setRating(dto.rating());
             review.setContent(dto.content());
             review.setUpdatedAt(LocalDateTime.now());
 
             Review updatedReview = reviewRepository.save(review);
+            storeRatingAggregator.recordUpdated(
+                review.getReservation().getStore().getId(), oldRating, dto.rating());
+            responseByteCache.purge(ResponseByteCache.storeKey(review.getReservation().getStore().getId()));
             return new ApiResponse<>("SUCCESS", "리뷰가 수정되었습니다.", ReviewDto.from(updatedReview));
         } catch (BusinessException e) {
             log.warn("리뷰 수정 실패 - {}", e.getMessage());
@@ -101,6 +138,7 @@ public class ReviewServiceImpl implements ReviewService {
     /**
      * 리뷰를 삭제하는 메서드
      * 리뷰 존재 여부를 확인하고 삭제 처리
+     * 리뷰 행을 잠가 동시 삭제/수정이 같은 평점을 두 번 빼지 않도록 함
      *
      * @param memberEmail 삭제 요청자의 이메일
      * @param reviewId 삭제할 리뷰의 ID
@@ -111,7 +149,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional
     public ApiResponse<Void> deleteReview(String memberEmail, Long reviewId) {
         try {
-            Review review = reviewRepository.findById(reviewId)
+            Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND));
 
             // 리뷰 작성자 또는 매장 관리자인지 확인
@@ -123,6 +161,9 @@ public class ReviewServiceImpl implements ReviewService {
             }
 
             reviewRepository.delete(review);
+            storeRatingAggregator.recordDeleted(review.getReservation().getStore().getId(), review.getRating());
+            responseByteCache.purge(ResponseByteCache.storeKey(review.getReservation().getStore().getId()));
+            recentReviewIndex.onDeleted(review.getReservation().getStore().getId());
             return new ApiResponse<>("SUCCESS", "리뷰가 삭제되었습니다.", null);
         } catch (BusinessException e) {
             log.warn("리뷰 삭제 실패 - {}", e.getMessage());
@@ -133,6 +174,9 @@ public class ReviewServiceImpl implements ReviewService {
     /**
      * 특정 매장의 리뷰 목록을 조회하는 메서드
      * 페이징 처리된 리뷰 목록을 반환
+     * 응답 캐시가 비어 있는 동안 같은 페이지로 동시에 들어온 요청은 조회 한 번의 결과를 함께 사용
+     * 키에 응답 캐시의 세대 번호를 포함하여, 리뷰 변경이 커밋된 뒤의 요청이 그 전에 시작된 조회에 합류하지 않도록 함
+     * 트랜잭션은 합쳐진 조회를 실행하는 요청만 시작하므로, 결과를 기다리는 요청은 커넥션을 잡고 있지 않음
      *
      * @param storeId  리뷰를 조회할 매장의 ID
      * @param pageable 페이징 정보
@@ -140,17 +184,53 @@ public class ReviewServiceImpl implements ReviewService {
      * @throws BusinessException 조회 중 오류가 발생한 경우
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ReviewDto> getStoreReviews(Long storeId, Pageable pageable) {
         try {
-            Page<Review> reviews = reviewRepository.findByStoreId(storeId, pageable);
-            return reviews.map(ReviewDto::from);
+            ReviewPageKey key = new ReviewPageKey(storeId, pageable,
+                responseByteCache.generation(ResponseByteCache.storeKey(storeId)));
+            return reviewPageFlight.execute(key, () -> {
+                TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+                readOnly.setReadOnly(true);
+                return readOnly.execute(status ->
+                    reviewRepository.findByStoreId(storeId, pageable).map(ReviewDto::from));
+            });
         } catch (Exception e) {
             log.error("리뷰 조회 중 오류 발생", e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 특정 매장의 리뷰 목록을 커서 기반으로 조회하는 메서드
+     * OFFSET 없이 (작성 시간, ID) 커서 이후부터 조회하므로 뒤쪽 페이지도 일정한 비용으로 조회
+     * 전체 리뷰 수는 건수 쿼리 대신 매장의 리뷰 수 집계 컬럼을 사용
+     *
+     * @param storeId 리뷰를 조회할 매장의 ID
+     * @param cursor  이전 응답의 다음 페이지 커서 (첫 페이지면 null)
+     * @param size    조회할 리뷰 수
+     * @return 리뷰 목록과 다음 페이지 커서
+     * @throws BusinessException 매장이 존재하지 않거나 커서 형식이 올바르지 않은 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewSliceDto getStoreReviewSlice(Long storeId, String cursor, int size) {
+        Store store = storeRepository.findById(storeId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+
+        // 한 건을 더 조회하여 다음 페이지 존재 여부를 건수 쿼리 없이 판단
+        List<ReviewDto> rows = reviewRepository.findStoreReviewsAfter(
+            storeId, store.getName(), ReviewCursor.decode(cursor), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<ReviewDto> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? ReviewCursor.of(content.get(content.size() - 1)).encode() : null;
+
+        return new ReviewSliceDto(content, nextCursor, hasNext, store.getReviewCount());
+    }
+
     /**
      * 리뷰 생성 가능 여부를 검증하는 메서드
      * 예약 소유자 확인, 예약 상태 확인, 중복 리뷰 확인 등을 수행
@@ -172,4 +252,14 @@ public class ReviewServiceImpl implements ReviewService {
             throw new BusinessException(ErrorCode.REVIEW_ALREADY_EXISTS);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 리뷰 목록 조회 합치기 키
+     */
+    private record ReviewPageKey(
+        Long storeId,       // 매장 ID
+        Pageable pageable,  // 페이징 정보
+        long generation     // 조회 시작 시점의 응답 캐시 세대 번호
+    ) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.cache.offheap.OffHeapSlabCache;
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 매장 상세 응답용 직렬화 캐시
+ * <p>
+ * 매장 정보를 JSON으로 직렬화한 바이트를 힙 밖 슬랩에 보관하고, 조회 시 역직렬화 없이
+ * ApiResponse 형식의 앞뒤 바이트와 함께 응답 스트림에 그대로 씀
+ * 매장 수만큼 DTO 객체를 힙에 유지하지 않으므로 캐시 크기가 GC 부담으로 이어지지 않음
+ * <p>
+ * 평점 집계 등으로 매장이 변경된 트랜잭션이 커밋된 뒤 해당 매장만 무효화하고 무효화 버스로 다른 노드에도 전파
+ * 조회와 무효화가 겹쳐 변경 이전 값이 다시 저장되지 않도록 매장별 세대(스트라이프)를 확인한 뒤에만 저장
+ */
+@Component
+public class StoreJsonCache {
+
+    private static final String REGION = "store-json";
+    private static final String MESSAGE = "매장 정보 조회가 완료되었습니다.";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final OffHeapSlabCache slabCache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /**
+     * 응답 형식 {"result":"SUCCESS","message":"...","data":<매장 JSON>} 의 앞부분과 뒷부분
+     */
+    private final byte[] prefix;
+    private final byte[] suffix = "}".getBytes(StandardCharsets.UTF_8);
+
+    public StoreJsonCache(
+        ObjectMapper objectMapper,
+        CacheInvalidationBus invalidationBus,
+        MeterRegistry meterRegistry,
+        @Value("${cache.store-json.maximum-bytes:67108864}") long maximumBytes,
+        @Value("${cache.store-json.slab-bytes:1048576}") int slabBytes
+    ) throws JsonProcessingException {
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.slabCache = new OffHeapSlabCache(maximumBytes, slabBytes);
+        this.prefix = ("{\"result\":\"SUCCESS\",\"message\":" + objectMapper.writeValueAsString(MESSAGE) + ",\"data\":")
+            .getBytes(StandardCharsets.UTF_8);
+        invalidationBus.subscribe(REGION, storeId -> evictLocal(Long.parseLong(storeId)));
+
+        Gauge.builder("cache.offheap.entries", slabCache, OffHeapSlabCache::size)
+            .tag("cache", REGION)
+            .register(meterRegistry);
+        Gauge.builder("cache.offheap.allocated", slabCache, OffHeapSlabCache::allocatedBytes)
+            .tag("cache", REGION)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.offheap.gets", slabCache, OffHeapSlabCache::hitCount)
+            .tags("cache", REGION, "result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.offheap.gets", slabCache, OffHeapSlabCache::missCount)
+            .tags("cache", REGION, "result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("cache.offheap.evictions", slabCache, OffHeapSlabCache::evictionCount)
+            .tag("cache", REGION)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 매장 응답을 스트림에 씀
+     * 캐시 미스이면 아무것도 쓰지 않으므로 호출한 쪽에서 조회 후 다시 응답할 수 있음
+     *
+     * @param storeId 매장 ID
+     * @param out     응답 스트림
+     * @return 캐시에서 응답했으면 true
+     */
+    public boolean writeTo(Long storeId, OutputStream out) throws IOException {
+        return slabCache.read(storeId, (buffer, offset, length) -> {
+            out.write(prefix);
+            out.write(buffer, offset, length);
+            out.write(suffix);
+        });
+    }
+
+    /**
+     * 매장 응답을 스트림에 씀 (캐시 미스 후 조회한 매장을 응답할 때 사용)
+     *
+     * @param store 매장 정보
+     * @param out   응답 스트림
+     */
+    public void write(StoreDto store, OutputStream out) throws IOException {
+        out.write(prefix);
+        out.write(objectMapper.writeValueAsBytes(store));
+        out.write(suffix);
+    }
+
+    /**
+     * 조회를 시작하기 전의 세대 (조회 결과를 저장할 때 전달)
+     *
+     * @param storeId 매장 ID
+     * @return 현재 세대
+     */
+    public long generation(Long storeId) {
+        return generations.get(stripe(storeId));
+    }
+
+    /**
+     * 조회한 매장 정보를 직렬화하여 저장
+     * 조회하는 동안 무효화되었으면 저장하지 않음
+     *
+     * @param store      매장 정보
+     * @param generation 조회를 시작하기 전의 세대
+     */
+    public void put(StoreDto store, long generation) {
+        try {
+            put(store.id(), objectMapper.writeValueAsBytes(store), generation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("매장 정보를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 직렬화된 매장 정보를 저장 (스냅샷 복원에서 사용)
+     * 검증을 시작한 뒤 무효화되었으면 저장하지 않음
+     *
+     * @param storeId    매장 ID
+     * @param json       직렬화된 매장 정보
+     * @param generation 검증을 시작하기 전의 세대
+     * @return 저장했으면 true
+     */
+    boolean put(long storeId, byte[] json, long generation) {
+        int stripe = stripe(storeId);
+        if (generations.get(stripe) != generation || !slabCache.put(storeId, json)) {
+            return false;
+        }
+        // 저장하는 사이에 무효화되었다면 방금 저장한 값을 제거
+        if (generations.get(stripe) != generation) {
+            slabCache.remove(storeId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 저장된 모든 매장 정보를 visitor에 전달 (스냅샷 기록에서 사용)
+     */
+    void forEach(OffHeapSlabCache.EntryVisitor visitor) throws IOException {
+        slabCache.forEach(visitor);
+    }
+
+    /**
+     * 커밋 이후 매장의 캐시된 응답을 무효화
+     *
+     * @param storeId 매장 ID
+     */
+    public void evict(Long storeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictLocal(storeId);
+            invalidationBus.publish(REGION, storeId.toString());
+        });
+    }
+
+    private void evictLocal(long storeId) {
+        generations.incrementAndGet(stripe(storeId));
+        slabCache.remove(storeId);
+    }
+
+    private static int stripe(long storeId) {
+        return (int) ((storeId ^ (storeId >>> 32)) & (GENERATION_STRIPES - 1));
+    }
+}
@@ -0,0 +1,66 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.zerobase.zbpaymentstudy.cache.snapshot.CacheSnapshotSection;
+import com.zerobase.zbpaymentstudy.cache.snapshot.SnapshotEntry;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 직렬화된 매장 응답 캐시의 스냅샷 섹션
+ * 키는 매장 ID(8바이트), 값은 캐시에 저장된 매장 JSON을 그대로 기록하므로 기록/복원 시 직렬화가 없음
+ * 복원할 때 매장의 수정 일시가 워터마크 이후이거나 매장이 더 이상 없으면 버림
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreJsonSnapshotSection implements CacheSnapshotSection {
+
+    private final StoreJsonCache storeJsonCache;
+    private final StoreRepository storeRepository;
+
+    @Override
+    public String name() {
+        return "store-json";
+    }
+
+    @Override
+    public byte[] header() {
+        return new byte[0];
+    }
+
+    @Override
+    public void dump(EntrySink sink) throws IOException {
+        storeJsonCache.forEach((storeId, buffer, offset, length) ->
+            sink.accept(ByteBuffer.allocate(Long.BYTES).putLong(storeId).array(), buffer, offset, length));
+    }
+
+    @Override
+    public Restorer restorer(byte[] header, LocalDateTime watermark) {
+        return entries -> {
+            Map<Long, byte[]> payloads = new LinkedHashMap<>();
+            Map<Long, Long> generations = new LinkedHashMap<>();
+            for (SnapshotEntry entry : entries) {
+                long storeId = ByteBuffer.wrap(entry.key()).getLong();
+                payloads.put(storeId, entry.value());
+                generations.put(storeId, storeJsonCache.generation(storeId));
+            }
+
+            Map<Long, LocalDateTime> updatedAt = storeRepository.findUpdatedAt(payloads.keySet());
+            int restored = 0;
+            for (Map.Entry<Long, byte[]> payload : payloads.entrySet()) {
+                LocalDateTime modifiedAt = updatedAt.get(payload.getKey());
+                if (modifiedAt != null && !modifiedAt.isAfter(watermark)
+                    && storeJsonCache.put(payload.getKey(), payload.getValue(), generations.get(payload.getKey()))) {
+                    restored++;
+                }
+            }
+            return restored;
+        };
+    }
+}
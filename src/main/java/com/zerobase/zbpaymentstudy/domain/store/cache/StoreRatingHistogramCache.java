@@ -0,0 +1,68 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.zerobase.zbpaymentstudy.cache.hotkey.HotKeyRegistry;
+import com.zerobase.zbpaymentstudy.cache.hotkey.PinnedNearCache;
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.store.dto.RatingHistogramDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 매장 평점 분포 캐시
+ * 평점 분포가 변경된 트랜잭션이 커밋된 뒤 해당 매장의 항목만 무효화하고, 무효화 버스로 다른 노드에도 전파
+ * 요청이 몰리는 매장은 핫 키로 감지하여 별도의 근접 캐시에 고정
+ */
+@Component
+public class StoreRatingHistogramCache {
+
+    private static final String REGION = "store-histograms";
+
+    private final Cache histogramCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final PinnedNearCache<Long, RatingHistogramDto> hotStores;
+
+    public StoreRatingHistogramCache(
+        CacheManager cacheManager,
+        CacheInvalidationBus invalidationBus,
+        HotKeyRegistry hotKeyRegistry
+    ) {
+        this.histogramCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.STORE_HISTOGRAMS));
+        this.invalidationBus = invalidationBus;
+        this.hotStores = hotKeyRegistry.nearCache("store-histograms");
+        invalidationBus.subscribe(REGION, storeId -> evictLocal(Long.valueOf(storeId)));
+    }
+
+    /**
+     * 캐시된 평점 분포를 반환하고, 없으면 조회 후 캐시
+     *
+     * @param storeId 매장 ID
+     * @param loader  캐시 미스 시 평점 분포를 조회하는 함수
+     * @return 평점 분포
+     */
+    public RatingHistogramDto get(Long storeId, Supplier<RatingHistogramDto> loader) {
+        return hotStores.get(storeId, loader, () -> histogramCache.get(storeId, loader::get));
+    }
+
+    /**
+     * 커밋 이후 매장의 평점 분포 캐시를 무효화
+     *
+     * @param storeId 매장 ID
+     */
+    public void evict(Long storeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictLocal(storeId);
+            invalidationBus.publish(REGION, storeId.toString());
+        });
+    }
+
+    private void evictLocal(Long storeId) {
+        histogramCache.evict(storeId);
+        hotStores.remove(storeId);
+    }
+}
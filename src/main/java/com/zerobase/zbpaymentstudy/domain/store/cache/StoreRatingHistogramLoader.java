@@ -0,0 +1,30 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.zerobase.zbpaymentstudy.cache.CacheRefreshLoader;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.store.dto.RatingHistogramDto;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingHistogramRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 평점 분포 캐시의 백그라운드 갱신 로더
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreRatingHistogramLoader implements CacheRefreshLoader {
+
+    private final StoreRatingHistogramRepository histogramRepository;
+
+    @Override
+    public String cacheName() {
+        return CacheConfig.STORE_HISTOGRAMS;
+    }
+
+    @Override
+    public Object load(Object storeId) {
+        return histogramRepository.findById((Long) storeId)
+            .map(RatingHistogramDto::from)
+            .orElse(RatingHistogramDto.empty());
+    }
+}
@@ -0,0 +1,237 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.zerobase.zbpaymentstudy.cache.EarlyRefresh;
+import com.zerobase.zbpaymentstudy.cache.hotkey.HotKeyRegistry;
+import com.zerobase.zbpaymentstudy.cache.hotkey.PinnedNearCache;
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 매장 검색 결과 캐시
+ * 검색 페이지 내용과 전체 건수를 서로 다른 TTL을 가진 캐시에 분리하여 저장하고,
+ * 매장 등록/평점 변경 시 영향을 받는 항목만 선별하여 무효화
+ * 평점 변경은 매장 ID 역인덱스({@link StoreSearchIndex})로 대상 페이지를 바로 찾으므로 캐시 크기와 관계없이 처리
+ * <p>
+ * 캐시의 크기 제한과 TTL은 CacheConfig에서 설정하며,
+ * 무효화는 트랜잭션 커밋 이후에 수행하여 커밋 전 데이터가 다시 캐시되는 것을 방지하며,
+ * 같은 조건의 무효화를 무효화 버스로 다른 노드에도 전파
+ * <p>
+ * 같은 검색의 동시 캐시 미스는 조회 한 번으로 합쳐지고, 자주 읽히는 항목은 만료 전에
+ * 백그라운드에서 미리 갱신되어 인기 검색이 만료되는 순간 같은 쿼리가 몰리지 않음 ({@link EarlyRefresh})
+ * 요청이 특히 몰리는 검색 페이지는 핫 키로 감지하여 별도의 근접 캐시에 고정 ({@link PinnedNearCache})
+ */
+@Slf4j
+@Component
+public class StoreSearchCache {
+
+    private static final String NEW_STORE_REGION = "store-search-new";
+    private static final String STORE_REGION = "store-search-store";
+
+    /**
+     * 신규 매장 무효화 키의 필드 구분자 (매장명/위치/이메일에 쓰이지 않는 제어 문자)
+     */
+    private static final String FIELD_SEPARATOR = "\u001F";
+
+    private final Cache pageCache;
+    private final Cache countCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final EarlyRefresh earlyRefresh;
+    private final PinnedNearCache<StoreSearchKey, List<StoreDto>> hotPages;
+    private final StoreSearchIndex storeSearchIndex;
+
+    /**
+     * 무효화할 때마다 증가하는 세대 (스냅샷 복원 도중 무효화된 항목을 되살리지 않도록 확인)
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public StoreSearchCache(
+        CacheManager cacheManager,
+        CacheInvalidationBus invalidationBus,
+        EarlyRefresh earlyRefresh,
+        HotKeyRegistry hotKeyRegistry,
+        StoreSearchIndex storeSearchIndex
+    ) {
+        this.pageCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.STORES));
+        this.countCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.STORE_COUNTS));
+        this.invalidationBus = invalidationBus;
+        this.earlyRefresh = earlyRefresh;
+        this.hotPages = hotKeyRegistry.nearCache("store-search");
+        this.storeSearchIndex = storeSearchIndex;
+        invalidationBus.subscribe(NEW_STORE_REGION, key -> {
+            String[] fields = key.split(FIELD_SEPARATOR, -1);
+            removeForNewStore(fields[0], fields[1], fields[2]);
+        });
+        invalidationBus.subscribe(STORE_REGION, storeId -> removeStore(Long.valueOf(storeId)));
+    }
+
+    /**
+     * 검색 페이지 내용을 조회하고, 캐시에 없으면 로더를 실행하여 저장
+     *
+     * @param key    정규화된 검색 키
+     * @param loader 캐시 미스 또는 조기 갱신 시 실행할 조회 로직
+     * @return 검색 페이지 내용
+     */
+    public List<StoreDto> getPage(StoreSearchKey key, Supplier<List<StoreDto>> loader) {
+        return hotPages.get(key, loader, () -> earlyRefresh.get(nativeCache(pageCache), key, indexing(key, loader)));
+    }
+
+    /**
+     * 불러온 페이지를 캐시에 저장하기 전에 역인덱스에 기록하는 로더
+     * 저장 도중의 무효화는 같은 키의 저장이 끝날 때까지 기다리므로 기록된 페이지를 놓치지 않음
+     */
+    private Supplier<List<StoreDto>> indexing(StoreSearchKey key, Supplier<List<StoreDto>> loader) {
+        return () -> {
+            List<StoreDto> page = loader.get();
+            storeSearchIndex.index(key, page);
+            return page;
+        };
+    }
+
+    /**
+     * 검색 결과 전체 건수를 조회하고, 캐시에 없으면 로더를 실행하여 저장
+     *
+     * @param key    건수 캐시 키
+     * @param loader 캐시 미스 또는 조기 갱신 시 실행할 건수 조회 로직
+     * @return 전체 건수
+     */
+    public long getCount(StoreSearchKey.CountKey key, Supplier<Long> loader) {
+        Long count = earlyRefresh.get(nativeCache(countCache), key, loader);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 신규 매장 등록 시 해당 매장이 포함될 수 있는 검색 결과만 무효화
+     *
+     * @param name       등록된 매장명
+     * @param location   등록된 매장 위치
+     * @param ownerEmail 점주 이메일
+     */
+    public void evictForNewStore(String name, String location, String ownerEmail) {
+        TransactionCallbacks.afterCommit(() -> {
+            removeForNewStore(name, location, ownerEmail);
+            invalidationBus.publish(NEW_STORE_REGION, String.join(FIELD_SEPARATOR, name, location, ownerEmail));
+        });
+    }
+
+    /**
+     * 매장의 평점 정보 변경 시 영향을 받는 검색 결과만 무효화
+     * 해당 매장을 포함한 페이지와 평점 정렬 페이지(순서가 바뀔 수 있음)만 제거하며, 건수는 변하지 않으므로 유지
+     *
+     * @param storeId 평점 정보가 변경된 매장 ID
+     */
+    public void evictStore(Long storeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            removeStore(storeId);
+            invalidationBus.publish(STORE_REGION, storeId.toString());
+        });
+    }
+
+    /**
+     * 현재 무효화 세대 (스냅샷 복원에서 검증을 시작하기 전에 확인)
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시된 모든 검색 페이지를 전달 (스냅샷 기록에서 사용)
+     */
+    @SuppressWarnings("unchecked")
+    void forEachPage(BiConsumer<StoreSearchKey, EarlyRefresh.Loaded<List<StoreDto>>> consumer) {
+        nativeCache(pageCache).asMap().forEach((key, value) ->
+            consumer.accept((StoreSearchKey) key, (EarlyRefresh.Loaded<List<StoreDto>>) value));
+    }
+
+    /**
+     * 캐시된 모든 검색 건수를 전달 (스냅샷 기록에서 사용)
+     */
+    @SuppressWarnings("unchecked")
+    void forEachCount(BiConsumer<StoreSearchKey.CountKey, EarlyRefresh.Loaded<Long>> consumer) {
+        nativeCache(countCache).asMap().forEach((key, value) ->
+            consumer.accept((StoreSearchKey.CountKey) key, (EarlyRefresh.Loaded<Long>) value));
+    }
+
+    /**
+     * 스냅샷에서 검증한 검색 페이지를 저장 (이미 캐시된 페이지는 유지)
+     *
+     * @return 저장했으면 true
+     */
+    boolean restorePage(StoreSearchKey key, EarlyRefresh.Loaded<List<StoreDto>> page, long expectedGeneration) {
+        return restore(pageCache, key, page, expectedGeneration, () -> storeSearchIndex.index(key, page.value()));
+    }
+
+    /**
+     * 스냅샷에서 검증한 검색 건수를 저장 (이미 캐시된 건수는 유지)
+     *
+     * @return 저장했으면 true
+     */
+    boolean restoreCount(StoreSearchKey.CountKey key, EarlyRefresh.Loaded<Long> count, long expectedGeneration) {
+        return restore(countCache, key, count, expectedGeneration, () -> {
+        });
+    }
+
+    /**
+     * 검증을 시작한 뒤 무효화가 없었을 때만 저장하고, 저장하는 사이에 무효화되었다면 방금 저장한 값을 제거
+     * 저장한 뒤 다시 확인하기 전에 후처리(역인덱스 기록)를 실행하여, 그 사이의 무효화가 놓친 항목도 제거되도록 함
+     */
+    private boolean restore(Cache cache, Object key, Object value, long expectedGeneration, Runnable onStored) {
+        Map<Object, Object> entries = nativeCache(cache).asMap();
+        if (generation.get() != expectedGeneration || entries.putIfAbsent(key, value) != null) {
+            return false;
+        }
+        onStored.run();
+        if (generation.get() != expectedGeneration) {
+            entries.remove(key, value);
+            return false;
+        }
+        return true;
+    }
+
+    private void removeForNewStore(String name, String location, String ownerEmail) {
+        generation.incrementAndGet();
+        int pages = removeIf(pageCache, entry ->
+            ((StoreSearchKey) entry.getKey()).mayContain(name, location, ownerEmail));
+        int counts = removeIf(countCache, entry ->
+            ((StoreSearchKey.CountKey) entry.getKey()).mayContain(name, location, ownerEmail));
+        pages += hotPages.removeIf((key, page) -> key.mayContain(name, location, ownerEmail));
+        log.debug("매장 등록에 따른 검색 캐시 무효화 - pages: {}, counts: {}", pages, counts);
+    }
+
+    private void removeStore(Long storeId) {
+        generation.incrementAndGet();
+        Set<StoreSearchKey> keys = storeSearchIndex.keysAffectedBy(storeId);
+        nativeCache(pageCache).invalidateAll(keys);
+        // 고정된 핫 페이지는 상위 몇 개뿐이므로 직접 확인
+        int hot = hotPages.removeIf((key, page) ->
+            key.isRatingSort() || page.stream().anyMatch(dto -> storeId.equals(dto.id())));
+        log.debug("매장 평점 변경에 따른 검색 캐시 무효화 - storeId: {}, pages: {}, hotPages: {}",
+            storeId, keys.size(), hot);
+    }
+
+    private int removeIf(Cache cache, Predicate<Map.Entry<Object, Object>> predicate) {
+        Map<Object, Object> entries = nativeCache(cache).asMap();
+        int before = entries.size();
+        entries.entrySet().removeIf(predicate);
+        return before - entries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+}
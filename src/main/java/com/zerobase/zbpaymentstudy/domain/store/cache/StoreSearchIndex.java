@@ -0,0 +1,110 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.zerobase.zbpaymentstudy.cache.CacheRemovalListener;
+import com.zerobase.zbpaymentstudy.cache.EarlyRefresh;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 검색 결과 캐시의 매장 ID 역인덱스
+ * <p>
+ * 캐시된 검색 페이지마다 포함된 매장 ID를 기록하여, 매장 평점이 바뀌었을 때 모든 페이지를 훑지 않고
+ * 그 매장을 포함한 페이지만 찾아 무효화할 수 있도록 함
+ * 평점 정렬 페이지는 어느 매장의 평점이 바뀌어도 순서가 바뀔 수 있으므로 매장과 관계없이 따로 모아 둠
+ * <p>
+ * 페이지를 불러올 때 캐시에 저장되기 전에 기록하고, 캐시에서 제거되면 제거 리스너로 정리
+ * 같은 키로 다시 불러온 페이지의 기록을 지우지 않도록 기록한 페이지와 제거된 페이지가 같은 객체일 때만 정리하며,
+ * 키 하나의 기록과 정리는 키별 원자적 연산 안에서 처리
+ */
+@Component
+class StoreSearchIndex implements CacheRemovalListener {
+
+    private final ConcurrentMap<StoreSearchKey, Indexed> pagesByKey = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<StoreSearchKey>> keysByStore = new ConcurrentHashMap<>();
+    private final Set<StoreSearchKey> ratingKeys = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String cacheName() {
+        return CacheConfig.STORES;
+    }
+
+    /**
+     * 불러온 검색 페이지에 포함된 매장을 기록 (같은 키의 이전 기록은 교체)
+     */
+    void index(StoreSearchKey key, List<StoreDto> page) {
+        pagesByKey.compute(key, (k, previous) -> {
+            if (previous != null) {
+                unlink(k, previous);
+            }
+            Indexed indexed = new Indexed(page, k.isRatingSort()
+                ? Set.of()
+                : page.stream().map(StoreDto::id).collect(Collectors.toUnmodifiableSet()));
+            link(k, indexed);
+            return indexed;
+        });
+    }
+
+    /**
+     * 매장의 평점 변경으로 무효화해야 하는 검색 키 (그 매장을 포함한 페이지와 평점 정렬 페이지)
+     */
+    Set<StoreSearchKey> keysAffectedBy(Long storeId) {
+        Set<StoreSearchKey> keys = new HashSet<>(ratingKeys);
+        Set<StoreSearchKey> containing = keysByStore.get(storeId);
+        if (containing != null) {
+            keys.addAll(containing);
+        }
+        return keys;
+    }
+
+    @Override
+    public void onRemoval(Object key, Object value, RemovalCause cause) {
+        if (!(key instanceof StoreSearchKey searchKey) || !(value instanceof EarlyRefresh.Loaded<?> loaded)) {
+            return;
+        }
+        pagesByKey.computeIfPresent(searchKey, (k, current) -> {
+            if (current.page() != loaded.value()) {
+                return current;
+            }
+            unlink(k, current);
+            return null;
+        });
+    }
+
+    private void link(StoreSearchKey key, Indexed indexed) {
+        if (key.isRatingSort()) {
+            ratingKeys.add(key);
+            return;
+        }
+        indexed.storeIds().forEach(storeId -> keysByStore.compute(storeId, (id, keys) -> {
+            Set<StoreSearchKey> linked = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            linked.add(key);
+            return linked;
+        }));
+    }
+
+    private void unlink(StoreSearchKey key, Indexed indexed) {
+        if (key.isRatingSort()) {
+            ratingKeys.remove(key);
+            return;
+        }
+        indexed.storeIds().forEach(storeId -> keysByStore.computeIfPresent(storeId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        }));
+    }
+
+    /**
+     * 기록한 페이지와 그 페이지에 포함된 매장 ID
+     */
+    private record Indexed(List<StoreDto> page, Set<Long> storeIds) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreSearchCriteria;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 검색 결과 캐시의 키
+ * 결과에 영향을 주지 않는 차이(대소문자, 공백, 같은 순서가 되는 정렬 조건)를 제거한 정규화된 검색 조건과 페이지 정보로 구성
+ * <p>
+ * 정렬은 검색 쿼리와 같은 규칙(StoreSearchCriteria.resolveSort)으로 결정한 실제 정렬을 사용하므로
+ * 검색 조건의 정렬 기준과 Pageable의 Sort가 달라도 같은 순서가 되면 같은 키가 됨
+ * 위도/경도는 현재 검색 쿼리에서 사용되지 않으므로 키에서 제외하여 적중률을 높인다.
+ */
+public record StoreSearchKey(
+    String keyword,          // 소문자로 정규화된 검색 키워드 (없으면 null)
+    String ownerEmail,       // 소문자로 정규화된 점주 이메일 (없으면 null)
+    String sort,             // 실제 적용되는 정렬 (예: "weightedRating:DESC,id:DESC")
+    int page,                // 페이지 번호
+    int size                 // 페이지 크기
+) {
+
+    private static final String RATING_SORT_PREFIX = "weightedRating:";
+
+    /**
+     * 검색 조건과 페이징 정보로부터 정규화된 캐시 키를 생성
+     *
+     * @param criteria 검색 조건
+     * @param pageable 페이징 정보
+     * @return 정규화된 캐시 키
+     */
+    public static StoreSearchKey of(StoreSearchCriteria criteria, Pageable pageable) {
+        String sort = criteria.resolveSort(pageable.getSort()).stream()
+            .map(order -> order.getProperty() + ":" + order.getDirection())
+            .collect(Collectors.joining(","));
+
+        return new StoreSearchKey(
+            normalize(criteria.keyword()),
+            normalize(criteria.ownerEmail()),
+            sort,
+            pageable.getPageNumber(),
+            pageable.getPageSize()
+        );
+    }
+
+    /**
+     * 전체 건수 캐시의 키
+     * 건수는 필터 조건에만 의존하므로 정렬/페이지 정보를 제외
+     *
+     * @return 건수 캐시 키
+     */
+    public CountKey countKey() {
+        return new CountKey(keyword, ownerEmail);
+    }
+
+    /**
+     * 정렬 기준이 평점인지 여부
+     *
+     * @return 평점 정렬이면 true
+     */
+    public boolean isRatingSort() {
+        return sort.startsWith(RATING_SORT_PREFIX);
+    }
+
+    /**
+     * 주어진 매장이 이 검색 조건의 결과에 포함될 수 있는지 확인
+     * 신규 매장 등록 시 영향을 받는 캐시 항목만 선별하여 무효화하는 데 사용
+     *
+     * @param name       매장명
+     * @param location   매장 위치
+     * @param ownerEmail 점주 이메일
+     * @return 결과에 포함될 수 있으면 true
+     */
+    public boolean mayContain(String name, String location, String ownerEmail) {
+        return countKey().mayContain(name, location, ownerEmail);
+    }
+
+    private static String normalize(String value) {
+        return StringUtils.hasText(value) ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * 매장 검색 전체 건수 캐시의 키
+     */
+    public record CountKey(
+        String keyword,
+        String ownerEmail
+    ) {
+        /**
+         * 주어진 매장이 이 필터 조건에 일치할 수 있는지 확인
+         *
+         * @param name       매장명
+         * @param location   매장 위치
+         * @param ownerEmail 점주 이메일
+         * @return 일치할 수 있으면 true
+         */
+        public boolean mayContain(String name, String location, String ownerEmail) {
+            boolean keywordMatches = keyword == null
+                || (name != null && name.toLowerCase(Locale.ROOT).contains(keyword))
+                || (location != null && location.toLowerCase(Locale.ROOT).contains(keyword));
+            boolean ownerMatches = this.ownerEmail == null
+                || (ownerEmail != null && this.ownerEmail.equals(ownerEmail.toLowerCase(Locale.ROOT)));
+            return keywordMatches && ownerMatches;
+        }
+    }
+}
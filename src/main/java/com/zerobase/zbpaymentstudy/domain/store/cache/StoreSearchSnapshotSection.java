@@ -0,0 +1,204 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.zbpaymentstudy.cache.EarlyRefresh;
+import com.zerobase.zbpaymentstudy.cache.snapshot.CacheSnapshotSection;
+import com.zerobase.zbpaymentstudy.cache.snapshot.SnapshotEntry;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreJdbcRepository.RegisteredStore;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매장 검색 결과 캐시의 스냅샷 섹션
+ * <p>
+ * 키는 종류(페이지/건수)와 정규화된 검색 조건을 바이너리로 기록하고, 값은 조회 시간과 함께
+ * 페이지는 매장 목록 JSON, 건수는 long으로 기록
+ * 헤더에는 기록 시점의 최대 매장 ID를 두고, 복원할 때 그 이후에 등록된 매장이 포함될 수 있는 항목은 버림
+ * 페이지는 포함된 매장 중 하나라도 워터마크 이후에 수정되었거나 더 이상 없으면 버리며,
+ * 평점 정렬 페이지는 다른 매장의 평점 변경으로도 순서가 바뀔 수 있어 검증할 수 없으므로 복원하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchSnapshotSection implements CacheSnapshotSection {
+
+    private static final byte PAGE = 'P';
+    private static final byte COUNT = 'C';
+    private static final TypeReference<List<StoreDto>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final StoreSearchCache storeSearchCache;
+    private final StoreRepository storeRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return "store-search";
+    }
+
+    @Override
+    public byte[] header() {
+        try {
+            return ByteBuffer.allocate(Long.BYTES).putLong(storeRepository.findMaxId()).array();
+        } catch (DataAccessException e) {
+            // 신규 매장을 확인할 기준이 없으면 복원할 때 섹션 전체를 버림
+            log.warn("검색 캐시 스냅샷 기준 매장 ID 조회 실패", e);
+            return new byte[0];
+        }
+    }
+
+    @Override
+    public void dump(EntrySink sink) throws IOException {
+        List<Map.Entry<StoreSearchKey, EarlyRefresh.Loaded<List<StoreDto>>>> pages = new ArrayList<>();
+        storeSearchCache.forEachPage((key, page) -> pages.add(Map.entry(key, page)));
+        for (Map.Entry<StoreSearchKey, EarlyRefresh.Loaded<List<StoreDto>>> page : pages) {
+            byte[] json = objectMapper.writeValueAsBytes(page.getValue().value());
+            byte[] value = ByteBuffer.allocate(Long.BYTES + json.length)
+                .putLong(page.getValue().loadNanos())
+                .put(json)
+                .array();
+            sink.accept(pageKey(page.getKey()), value, 0, value.length);
+        }
+
+        List<Map.Entry<StoreSearchKey.CountKey, EarlyRefresh.Loaded<Long>>> counts = new ArrayList<>();
+        storeSearchCache.forEachCount((key, count) -> counts.add(Map.entry(key, count)));
+        for (Map.Entry<StoreSearchKey.CountKey, EarlyRefresh.Loaded<Long>> count : counts) {
+            byte[] value = ByteBuffer.allocate(Long.BYTES * 2)
+                .putLong(count.getValue().loadNanos())
+                .putLong(count.getValue().value())
+                .array();
+            sink.accept(countKey(count.getKey()), value, 0, value.length);
+        }
+    }
+
+    @Override
+    public Restorer restorer(byte[] header, LocalDateTime watermark) {
+        if (header.length != Long.BYTES) {
+            return entries -> 0;
+        }
+        List<RegisteredStore> registered = storeRepository.findRegisteredAfter(ByteBuffer.wrap(header).getLong());
+
+        return entries -> {
+            long generation = storeSearchCache.generation();
+            List<StoreSearchKey> pageKeys = new ArrayList<>();
+            List<List<StoreDto>> pages = new ArrayList<>();
+            List<Long> pageLoadNanos = new ArrayList<>();
+            Set<Long> storeIds = new HashSet<>();
+            int restored = 0;
+
+            for (SnapshotEntry entry : entries) {
+                ByteBuffer value = ByteBuffer.wrap(entry.value());
+                long loadNanos = value.getLong();
+                if (entry.key()[0] == COUNT) {
+                    StoreSearchKey.CountKey key = readCountKey(entry.key());
+                    if (registered.stream().noneMatch(store -> key.mayContain(store.name(), store.location(), store.ownerEmail()))
+                        && storeSearchCache.restoreCount(key, new EarlyRefresh.Loaded<>(value.getLong(), loadNanos), generation)) {
+                        restored++;
+                    }
+                    continue;
+                }
+
+                StoreSearchKey key = readPageKey(entry.key());
+                if (key.isRatingSort()
+                    || registered.stream().anyMatch(store -> key.mayContain(store.name(), store.location(), store.ownerEmail()))) {
+                    continue;
+                }
+                List<StoreDto> page = readPage(value);
+                pageKeys.add(key);
+                pages.add(page);
+                pageLoadNanos.add(loadNanos);
+                page.forEach(store -> storeIds.add(store.id()));
+            }
+
+            Map<Long, LocalDateTime> updatedAt = storeRepository.findUpdatedAt(storeIds);
+            for (int i = 0; i < pageKeys.size(); i++) {
+                boolean unchanged = pages.get(i).stream().allMatch(store -> {
+                    LocalDateTime modifiedAt = updatedAt.get(store.id());
+                    return modifiedAt != null && !modifiedAt.isAfter(watermark);
+                });
+                if (unchanged && storeSearchCache.restorePage(pageKeys.get(i),
+                    new EarlyRefresh.Loaded<>(pages.get(i), pageLoadNanos.get(i)), generation)) {
+                    restored++;
+                }
+            }
+            return restored;
+        };
+    }
+
+    private static byte[] pageKey(StoreSearchKey key) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(PAGE);
+        writeNullable(out, key.keyword());
+        writeNullable(out, key.ownerEmail());
+        out.writeUTF(key.sort());
+        out.writeInt(key.page());
+        out.writeInt(key.size());
+        return bytes.toByteArray();
+    }
+
+    private static byte[] countKey(StoreSearchKey.CountKey key) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(COUNT);
+        writeNullable(out, key.keyword());
+        writeNullable(out, key.ownerEmail());
+        return bytes.toByteArray();
+    }
+
+    private static StoreSearchKey readPageKey(byte[] key) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(key, 1, key.length - 1));
+            return new StoreSearchKey(readNullable(in), readNullable(in), in.readUTF(), in.readInt(), in.readInt());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static StoreSearchKey.CountKey readCountKey(byte[] key) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(key, 1, key.length - 1));
+            return new StoreSearchKey.CountKey(readNullable(in), readNullable(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<StoreDto> readPage(ByteBuffer value) {
+        try {
+            return objectMapper.readValue(value.array(), value.position(), value.remaining(), PAGE_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.zerobase.zbpaymentstudy.domain.store.dto;
+
+import com.zerobase.zbpaymentstudy.domain.store.entity.StoreRatingHistogram;
+
+/**
+ * 매장 평점 분포(1~5점 리뷰 수)를 전달하기 위한 DTO
+ */
+public record RatingHistogramDto(
+    int star1,  // 1점 리뷰 수
+    int star2,  // 2점 리뷰 수
+    int star3,  // 3점 리뷰 수
+    int star4,  // 4점 리뷰 수
+    int star5   // 5점 리뷰 수
+) {
+    private static final RatingHistogramDto EMPTY = new RatingHistogramDto(0, 0, 0, 0, 0);
+
+    /**
+     * 리뷰가 없는 매장의 평점 분포
+     */
+    public static RatingHistogramDto empty() {
+        return EMPTY;
+    }
+
+    /**
+     * StoreRatingHistogram 엔티티를 RatingHistogramDto로 변환
+     *
+     * @param histogram 변환할 엔티티
+     * @return 변환된 DTO
+     */
+    public static RatingHistogramDto from(StoreRatingHistogram histogram) {
+        return new RatingHistogramDto(
+            histogram.getStar1(),
+            histogram.getStar2(),
+            histogram.getStar3(),
+            histogram.getStar4(),
+            histogram.getStar5()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.zerobase.zbpaymentstudy.domain.store.dto;
+
+/**
+ * 매장 평점 집계 보정 작업의 결과 보고서
+ */
+public record RatingRepairReport(
+    long storesScanned,      // 검사한 매장 수
+    long mismatches,         // 집계값이 실제와 달랐던 매장 수
+    long repaired,           // 보정된 매장 수
+    long conflicts,          // 보정 도중 값이 변경되어 건너뛴 매장 수 (다음 실행 시 재검사)
+    long histogramsRebuilt,  // 평점 분포를 다시 계산한 매장 수
+    long reviewsBackfilled,  // 매장 ID를 채운 리뷰 수
+    long elapsedMillis,      // 소요 시간 (밀리초)
+    double storesPerSecond   // 초당 검사한 매장 수
+) {
+}
@@ -83,6 +83,17 @@ public record StoreDto(
      * @return 변환된 StoreDto 객체
      */
     public static StoreDto from(Store store) {
+        return from(store, store.getOwner().getEmail());
+    }
+
+    /**
+     * 소유자 이메일을 이미 알고 있을 때 소유자 엔티티를 로딩하지 않고 변환
+     *
+     * @param store      변환할 Store 엔티티
+     * @param ownerEmail 매장 소유자 이메일
+     * @return 변환된 StoreDto 객체
+     */
+    public static StoreDto from(Store store, String ownerEmail) {
         return new StoreDto(
             store.getId(),
             store.getName(),
@@ -92,7 +103,7 @@ public record StoreDto(
             store.getLongitude(),
             store.getAverageRating(),
             store.getReviewCount(),
-            store.getOwner().getEmail(),
+            ownerEmail,
             store.getCreatedAt(),
             store.getUpdatedAt()
         );
@@ -1,5 +1,11 @@
 package com.zerobase.zbpaymentstudy.domain.store.dto;
 
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 매장 검색 조건을 담는 DTO record
  */
@@ -20,6 +26,9 @@ public record StoreSearchCriteria(
     public static final String SORT_ASC = "ASC";
     public static final String SORT_DESC = "DESC";
 
+    // Pageable의 정렬로 지정할 수 있는 속성 (그 외의 속성은 ID로 정렬)
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "location", "createdAt");
+
     /**
      * 검색 조건 유효성 검증을 위한 컴팩트 생성자
      */
@@ -45,4 +54,29 @@ public record StoreSearchCriteria(
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색 쿼리에 실제로 적용되는 정렬을 결정
+     * 평점 정렬은 가중 평점과 ID만으로 순서가 결정되므로 요청한 정렬을 덧붙이지 않고,
+     * 매장명 정렬은 요청한 정렬을 보조 정렬로 사용하며, 정렬이 하나도 없으면 매장명 오름차순
+     * 검색 쿼리와 검색 결과 캐시 키가 모두 이 결과를 사용하므로 같은 순서의 검색은 같은 키를 가짐
+     *
+     * @param requested Pageable로 요청한 정렬
+     * @return 속성과 방향만 남긴 정렬
+     */
+    public Sort resolveSort(Sort requested) {
+        Sort.Direction direction = SORT_DESC.equals(sortDirection) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        if (SORT_BY_RATING.equals(sortBy)) {
+            return Sort.by(new Sort.Order(direction, "weightedRating"), new Sort.Order(direction, "id"));
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        if (SORT_BY_NAME.equals(sortBy)) {
+            orders.add(new Sort.Order(direction, "name"));
+        }
+        requested.forEach(order -> orders.add(new Sort.Order(order.getDirection(),
+            SORTABLE_PROPERTIES.contains(order.getProperty()) ? order.getProperty() : "id")));
+
+        return orders.isEmpty() ? Sort.by("name") : Sort.by(orders);
+    }
+}
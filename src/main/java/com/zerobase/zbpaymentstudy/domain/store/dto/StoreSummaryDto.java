@@ -0,0 +1,32 @@
+package com.zerobase.zbpaymentstudy.domain.store.dto;
+
+import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+
+/**
+ * 매장 요약 정보(평점 집계 및 평점 분포)를 전달하기 위한 DTO
+ * 모든 값은 비정규화된 집계 컬럼과 평점 분포 보조 테이블에서 읽으며 리뷰를 집계하지 않음
+ */
+public record StoreSummaryDto(
+    Long storeId,                  // 매장 ID
+    String name,                   // 매장명
+    Double averageRating,          // 평균 평점
+    Integer reviewCount,           // 리뷰 수
+    RatingHistogramDto histogram   // 평점 분포
+) {
+    /**
+     * Store 엔티티와 평점 분포로 요약 정보를 생성
+     *
+     * @param store     매장 엔티티
+     * @param histogram 평점 분포
+     * @return 생성된 요약 정보
+     */
+    public static StoreSummaryDto of(Store store, RatingHistogramDto histogram) {
+        return new StoreSummaryDto(
+            store.getId(),
+            store.getName(),
+            store.getAverageRating(),
+            store.getReviewCount(),
+            histogram
+        );
+    }
+}
@@ -6,14 +6,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 /**
  * 매장 정보를 저장하는 엔티티 클래스
  * 매장의 기본 정보와 소유자 정보를 관리
+ * 변경이 드문 엔티티이므로 Hibernate 2차 캐시(read-write)에 저장하며, 평점 집계는 JDBC로 갱신한 뒤 항목을 무효화
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "store")
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,7 +26,8 @@ import java.time.LocalDateTime;
 @Table(name = "store", indexes = {
     @Index(name = "idx_store_name", columnList = "name"),
     @Index(name = "idx_store_location", columnList = "location"),
-    @Index(name = "idx_store_owner", columnList = "owner_id")
+    @Index(name = "idx_store_owner", columnList = "owner_id"),
+    @Index(name = "idx_store_weighted_rating", columnList = "weighted_rating, id")
 })
 public class Store {
     @Id
@@ -51,6 +57,18 @@ public class Store {
     @Builder.Default
     private Integer reviewCount = 0;      // 리뷰 수
 
+    @Column(nullable = false)
+    @Builder.Default
+    private Long ratingSum = 0L;          // 평점 합계 (평균 평점 = 평점 합계 / 리뷰 수)
+
+    /**
+     * 베이지안 가중 평점
+     * 평점 집계와 함께 갱신되며 평점순 정렬에 사용 (계산식은 BayesianRatingPolicy 참고)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Double weightedRating = 0.0;
+
     /**
      * 매장 소유자(점주) 정보
      * 지연 로딩(LAZY)을 사용하여 필요할 때만 소유자 정보를 로드
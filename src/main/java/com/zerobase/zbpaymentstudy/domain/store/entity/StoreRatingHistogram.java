@@ -0,0 +1,46 @@
+package com.zerobase.zbpaymentstudy.domain.store.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장별 평점 분포(1~5점 리뷰 수)를 저장하는 엔티티 클래스
+ * 리뷰 작성/수정/삭제 시 증분 갱신되며, 분포 조회 시 review 테이블을 집계하지 않도록 하는 보조 테이블
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "store_rating_histogram")
+public class StoreRatingHistogram {
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;       // 매장 ID (store.id와 1:1)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer star1 = 0;  // 1점 리뷰 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer star2 = 0;  // 2점 리뷰 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer star3 = 0;  // 3점 리뷰 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer star4 = 0;  // 4점 리뷰 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer star5 = 0;  // 5점 리뷰 수
+}
@@ -0,0 +1,63 @@
+package com.zerobase.zbpaymentstudy.domain.store.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC로 직접 실행하는 매장 쿼리
+ * 영속성 컨텍스트와 2차 캐시를 거치지 않아야 하는 갱신과 캐시 검증용 조회를 검색 쿼리(StoreRepositoryCustom)와 분리
+ */
+public interface StoreJdbcRepository {
+
+    /**
+     * 매장의 평점 집계를 원자적으로 증감
+     * 전체 리뷰를 다시 집계하지 않고 리뷰 수와 평점 합계에 변화량만 더하며, 평균 평점은 합계로부터 계산
+     * 평균 평점과 가중 평점은 변경 전 값을 기준으로 계산되도록 가장 먼저 갱신
+     * JPQL 일괄 갱신은 매장 2차 캐시 영역 전체를 비우므로 JDBC로 갱신하고 해당 매장 항목만 무효화
+     *
+     * @param storeId     매장 ID
+     * @param countDelta  리뷰 수 변화량
+     * @param sumDelta    평점 합계 변화량
+     * @param priorMean   가중 평점의 사전 평균 평점
+     * @param priorWeight 가중 평점의 사전 가중치
+     * @param now         갱신 시각
+     * @return 갱신된 행 수
+     */
+    int applyRatingDelta(Long storeId, int countDelta, long sumDelta,
+                         double priorMean, double priorWeight, LocalDateTime now);
+
+    /**
+     * 매장별 수정 일시 조회 (캐시 스냅샷 복원 시 검증용)
+     *
+     * @param storeIds 매장 ID 목록
+     * @return 매장 ID별 수정 일시 (존재하지 않는 매장은 제외)
+     */
+    Map<Long, LocalDateTime> findUpdatedAt(Collection<Long> storeIds);
+
+    /**
+     * 가장 최근에 등록된 매장의 ID 조회
+     *
+     * @return 최대 매장 ID, 매장이 없으면 0
+     */
+    long findMaxId();
+
+    /**
+     * 주어진 ID 이후에 등록된 매장의 검색 조건 관련 정보 조회
+     *
+     * @param storeId 기준 매장 ID
+     * @return 이후에 등록된 매장 목록
+     */
+    List<RegisteredStore> findRegisteredAfter(long storeId);
+
+    /**
+     * 등록된 매장의 검색 조건 관련 정보
+     */
+    record RegisteredStore(
+        String name,        // 매장명
+        String location,    // 매장 위치
+        String ownerEmail   // 점주 이메일
+    ) {
+    }
+}
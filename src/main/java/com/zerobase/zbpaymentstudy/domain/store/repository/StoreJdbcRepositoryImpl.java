@@ -0,0 +1,88 @@
+package com.zerobase.zbpaymentstudy.domain.store.repository;
+
+import com.zerobase.zbpaymentstudy.cache.invalidation.EntityCacheInvalidator;
+import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC로 직접 실행하는 매장 쿼리 구현 클래스
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreJdbcRepositoryImpl implements StoreJdbcRepository {
+
+    /**
+     * MySQL은 SET 절을 왼쪽부터 적용하므로 평균 평점과 가중 평점을 변경 전 값으로 먼저 계산
+     */
+    private static final String APPLY_RATING_DELTA_SQL =
+        "UPDATE store SET " +
+        "weighted_rating = (? * ? + rating_sum + ?) / (? + review_count + ?), " +
+        "average_rating = CASE WHEN review_count + ? > 0 " +
+        "THEN (rating_sum + ?) * 1.0 / (review_count + ?) ELSE 0.0 END, " +
+        "review_count = review_count + ?, " +
+        "rating_sum = rating_sum + ?, " +
+        "updated_at = ? " +
+        "WHERE id = ?";
+
+    private static final String FIND_REGISTERED_AFTER_SQL =
+        "SELECT s.name, s.location, m.email FROM store s JOIN member m ON m.id = s.owner_id WHERE s.id > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    /**
+     * 매장의 평점 집계를 원자적으로 증감하고 해당 매장의 2차 캐시 항목을 무효화
+     */
+    @Override
+    public int applyRatingDelta(Long storeId, int countDelta, long sumDelta,
+                                double priorMean, double priorWeight, LocalDateTime now) {
+        int updated = jdbcTemplate.update(APPLY_RATING_DELTA_SQL,
+            priorWeight, priorMean, sumDelta, priorWeight, countDelta,
+            countDelta, sumDelta, countDelta,
+            countDelta,
+            sumDelta,
+            Timestamp.valueOf(now),
+            storeId);
+        entityCacheInvalidator.evict(Store.class, storeId);
+        return updated;
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> findUpdatedAt(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(storeIds.size(), "?"));
+        Map<Long, LocalDateTime> updatedAt = new HashMap<>();
+        jdbcTemplate.query("SELECT id, updated_at FROM store WHERE id IN (" + placeholders + ")",
+            rs -> {
+                Timestamp timestamp = rs.getTimestamp("updated_at");
+                updatedAt.put(rs.getLong("id"), timestamp != null ? timestamp.toLocalDateTime() : null);
+            },
+            storeIds.toArray());
+        return updatedAt;
+    }
+
+    @Override
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM store", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Override
+    public List<RegisteredStore> findRegisteredAfter(long storeId) {
+        return jdbcTemplate.query(FIND_REGISTERED_AFTER_SQL,
+            (rs, rowNum) -> new RegisteredStore(rs.getString(1), rs.getString(2), rs.getString(3)),
+            storeId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.zerobase.zbpaymentstudy.domain.store.repository;
+
+import com.zerobase.zbpaymentstudy.domain.store.entity.StoreRatingHistogram;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 매장 평점 분포 보조 테이블에 대한 데이터베이스 접근을 담당하는 리포지토리
+ */
+@Repository
+public interface StoreRatingHistogramRepository extends JpaRepository<StoreRatingHistogram, Long> {
+
+    /**
+     * 평점별 리뷰 수 변화량을 원자적으로 반영
+     * 행이 없으면 변화량으로 새 행을 만들고, 있으면 기존 값에 더함 (MySQL upsert)
+     * 영향받는 테이블을 지정하지 않은 네이티브 갱신은 Hibernate가 2차 캐시 전체를 비우므로 테이블을 명시
+     *
+     * @param storeId 매장 ID
+     * @param star1   1점 리뷰 수 변화량
+     * @param star2   2점 리뷰 수 변화량
+     * @param star3   3점 리뷰 수 변화량
+     * @param star4   4점 리뷰 수 변화량
+     * @param star5   5점 리뷰 수 변화량
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "store_rating_histogram"))
+    @Query(value = "INSERT INTO store_rating_histogram (store_id, star1, star2, star3, star4, star5) " +
+                   "VALUES (:storeId, :star1, :star2, :star3, :star4, :star5) AS d " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "star1 = store_rating_histogram.star1 + d.star1, " +
+                   "star2 = store_rating_histogram.star2 + d.star2, " +
+                   "star3 = store_rating_histogram.star3 + d.star3, " +
+                   "star4 = store_rating_histogram.star4 + d.star4, " +
+                   "star5 = store_rating_histogram.star5 + d.star5",
+           nativeQuery = true)
+    int applyDelta(@Param("storeId") Long storeId,
+                   @Param("star1") int star1,
+                   @Param("star2") int star2,
+                   @Param("star3") int star3,
+                   @Param("star4") int star4,
+                   @Param("star5") int star5);
+}
@@ -0,0 +1,241 @@
+package com.zerobase.zbpaymentstudy.domain.store.repository;
+
+import com.zerobase.zbpaymentstudy.domain.store.service.BayesianRatingPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 매장 평점 집계 보정 작업을 위한 JDBC 리포지토리
+ * 대량의 매장을 스트리밍으로 읽고 불일치 행만 배치로 갱신하기 위해 JPA 대신 JdbcTemplate을 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreRatingRepairRepository {
+
+    /**
+     * 매장 ID 구간별로 저장된 집계값/평점 분포와 review ⋈ reservation 으로부터 다시 계산한 값을 함께 조회
+     */
+    private static final String SCAN_SQL =
+        "SELECT s.id, s.review_count, s.rating_sum, s.average_rating, s.weighted_rating, " +
+        "       h.star1, h.star2, h.star3, h.star4, h.star5, " +
+        "       COUNT(r.id) AS actual_count, COALESCE(SUM(r.rating), 0) AS actual_sum, " +
+        "       COALESCE(SUM(r.rating = 1), 0) AS actual_star1, " +
+        "       COALESCE(SUM(r.rating = 2), 0) AS actual_star2, " +
+        "       COALESCE(SUM(r.rating = 3), 0) AS actual_star3, " +
+        "       COALESCE(SUM(r.rating = 4), 0) AS actual_star4, " +
+        "       COALESCE(SUM(r.rating = 5), 0) AS actual_star5 " +
+        "FROM store s " +
+        "LEFT JOIN store_rating_histogram h ON h.store_id = s.id " +
+        "LEFT JOIN reservation res ON res.store_id = s.id " +
+        "LEFT JOIN review r ON r.reservation_id = res.id " +
+        "WHERE s.id BETWEEN ? AND ? " +
+        "GROUP BY s.id, s.review_count, s.rating_sum, s.average_rating, s.weighted_rating, " +
+        "         h.star1, h.star2, h.star3, h.star4, h.star5 " +
+        "ORDER BY s.id";
+
+    /**
+     * 조회 시점의 집계값이 그대로일 때만 갱신 (보정 도중 증분 갱신된 행은 덮어쓰지 않음)
+     */
+    private static final String REPAIR_SQL =
+        "UPDATE store SET review_count = ?, rating_sum = ?, average_rating = ?, weighted_rating = ?, updated_at = ? " +
+        "WHERE id = ? AND review_count = ? AND rating_sum = ?";
+
+    /**
+     * 매장의 평점 분포를 리뷰로부터 다시 계산하여 덮어씀
+     * 계산과 기록을 한 문장으로 처리하여 조회 이후 작성된 리뷰의 증분 갱신이 유실되지 않도록 함
+     */
+    private static final String REBUILD_HISTOGRAM_SQL =
+        "INSERT INTO store_rating_histogram (store_id, star1, star2, star3, star4, star5) " +
+        "SELECT * FROM (" +
+        "  SELECT res.store_id, " +
+        "         SUM(r.rating = 1) AS star1, SUM(r.rating = 2) AS star2, SUM(r.rating = 3) AS star3, " +
+        "         SUM(r.rating = 4) AS star4, SUM(r.rating = 5) AS star5 " +
+        "  FROM reservation res " +
+        "  JOIN review r ON r.reservation_id = res.id " +
+        "  WHERE res.store_id = ? " +
+        "  GROUP BY res.store_id" +
+        ") AS d " +
+        "ON DUPLICATE KEY UPDATE star1 = d.star1, star2 = d.star2, star3 = d.star3, " +
+        "star4 = d.star4, star5 = d.star5";
+
+    /**
+     * 리뷰가 하나도 없는 매장의 평점 분포를 0으로 초기화
+     */
+    private static final String CLEAR_HISTOGRAM_SQL =
+        "UPDATE store_rating_histogram h SET star1 = 0, star2 = 0, star3 = 0, star4 = 0, star5 = 0 " +
+        "WHERE h.store_id = ? AND NOT EXISTS (" +
+        "  SELECT 1 FROM reservation res JOIN review r ON r.reservation_id = res.id WHERE res.store_id = ?" +
+        ")";
+
+    /**
+     * 매장 ID가 비어 있는 리뷰(비정규화 컬럼 추가 이전에 작성된 리뷰)에 예약의 매장 ID를 채움
+     */
+    private static final String BACKFILL_REVIEW_STORE_SQL =
+        "UPDATE review r JOIN reservation res ON res.id = r.reservation_id " +
+        "SET r.store_id = res.store_id " +
+        "WHERE r.store_id IS NULL AND res.store_id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BayesianRatingPolicy ratingPolicy;
+
+    /**
+     * 매장 ID의 최소/최대값 조회
+     *
+     * @return [최소 ID, 최대 ID], 매장이 없으면 null
+     */
+    public long[] findIdRange() {
+        return jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM store", rs -> {
+            if (!rs.next() || rs.getObject(1) == null) {
+                return null;
+            }
+            return new long[]{rs.getLong(1), rs.getLong(2)};
+        });
+    }
+
+    /**
+     * 주어진 ID 구간의 매장 집계를 스트리밍으로 조회
+     * MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 전송하므로 구간 크기와 무관하게 메모리 사용량이 일정
+     *
+     * @param fromId   구간 시작 ID (포함)
+     * @param toId     구간 끝 ID (포함)
+     * @param consumer 행마다 호출될 콜백
+     */
+    public void scan(long fromId, long toId, Consumer<StoreRatingRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SCAN_SQL);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, fromId);
+            ps.setLong(2, toId);
+            return ps;
+        }, rs -> {
+            consumer.accept(new StoreRatingRow(
+                rs.getLong("id"),
+                rs.getInt("review_count"),
+                rs.getLong("rating_sum"),
+                rs.getDouble("average_rating"),
+                rs.getDouble("weighted_rating"),
+                rs.getInt("actual_count"),
+                rs.getLong("actual_sum"),
+                rs.getObject("star1") == null ? null : new int[]{
+                    rs.getInt("star1"), rs.getInt("star2"), rs.getInt("star3"),
+                    rs.getInt("star4"), rs.getInt("star5")
+                },
+                new int[]{
+                    rs.getInt("actual_star1"), rs.getInt("actual_star2"), rs.getInt("actual_star3"),
+                    rs.getInt("actual_star4"), rs.getInt("actual_star5")
+                }
+            ));
+        });
+    }
+
+    /**
+     * 불일치 행을 배치로 보정
+     *
+     * @param rows 보정할 행 목록
+     * @param now  갱신 시각
+     * @return 행별 갱신 결과 (0이면 조회 이후 값이 변경되어 건너뜀)
+     */
+    public int[] repair(List<StoreRatingRow> rows, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        return jdbcTemplate.batchUpdate(REPAIR_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.actualCount());
+            ps.setLong(2, row.actualSum());
+            ps.setDouble(3, row.expectedAverage());
+            ps.setDouble(4, ratingPolicy.weightedRating(row.actualCount(), row.actualSum()));
+            ps.setTimestamp(5, updatedAt);
+            ps.setLong(6, row.storeId());
+            ps.setInt(7, row.storedCount());
+            ps.setLong(8, row.storedSum());
+        })[0];
+    }
+
+    /**
+     * 매장 ID가 비어 있는 리뷰가 있는지 확인 (idx_review_store_created 인덱스의 NULL 구간만 확인)
+     *
+     * @return 채울 리뷰가 있으면 true
+     */
+    public boolean hasReviewsWithoutStoreId() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM review WHERE store_id IS NULL)", Boolean.class));
+    }
+
+    /**
+     * 주어진 매장 ID 구간에서 매장 ID가 비어 있는 리뷰를 채움
+     *
+     * @param fromId 구간 시작 ID (포함)
+     * @param toId   구간 끝 ID (포함)
+     * @return 채운 리뷰 수
+     */
+    public int backfillReviewStoreIds(long fromId, long toId) {
+        return jdbcTemplate.update(BACKFILL_REVIEW_STORE_SQL, fromId, toId);
+    }
+
+    /**
+     * 매장들의 평점 분포를 리뷰로부터 다시 계산
+     *
+     * @param storeIds 평점 분포를 다시 계산할 매장 ID 목록
+     */
+    public void rebuildHistograms(List<Long> storeIds) {
+        jdbcTemplate.batchUpdate(REBUILD_HISTOGRAM_SQL, storeIds, storeIds.size(),
+            (ps, storeId) -> ps.setLong(1, storeId));
+        jdbcTemplate.batchUpdate(CLEAR_HISTOGRAM_SQL, storeIds, storeIds.size(), (ps, storeId) -> {
+            ps.setLong(1, storeId);
+            ps.setLong(2, storeId);
+        });
+    }
+
+    /**
+     * 매장별 저장된 집계값과 실제 집계값
+     * 평점 분포는 1~5점 순서의 배열이며, 저장된 분포 행이 없으면 storedStars는 null
+     */
+    public record StoreRatingRow(
+        long storeId,
+        int storedCount,
+        long storedSum,
+        double storedAverage,
+        double storedWeighted,
+        int actualCount,
+        long actualSum,
+        int[] storedStars,
+        int[] actualStars
+    ) {
+        /**
+         * 실제 집계값으로부터 계산한 평균 평점
+         */
+        public double expectedAverage() {
+            return actualCount > 0 ? (double) actualSum / actualCount : 0.0;
+        }
+
+        /**
+         * 저장된 집계값이 실제 집계값과 다른지 여부
+         * 가중 평점은 사전 평균/가중치 설정이 바뀐 경우에도 불일치로 판단되어 다시 계산됨
+         *
+         * @param ratingPolicy 가중 평점 계산 정책
+         */
+        public boolean isMismatched(BayesianRatingPolicy ratingPolicy) {
+            return storedCount != actualCount
+                || storedSum != actualSum
+                || Math.abs(storedAverage - expectedAverage()) > 1e-9
+                || Math.abs(storedWeighted - ratingPolicy.weightedRating(actualCount, actualSum)) > 1e-9;
+        }
+
+        /**
+         * 저장된 평점 분포가 실제 분포와 다른지 여부
+         * 리뷰가 없는 매장은 분포 행이 없어도 일치하는 것으로 간주
+         */
+        public boolean isHistogramMismatched() {
+            if (storedStars == null) {
+                return actualCount > 0;
+            }
+            return !Arrays.equals(storedStars, actualStars);
+        }
+    }
+}
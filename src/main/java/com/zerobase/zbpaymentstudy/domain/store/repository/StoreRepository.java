@@ -10,10 +10,10 @@ import java.util.List;
 
 /**
  * 매장 정보에 대한 데이터베이스 접근을 담당하는 리포지토리
- * JpaRepository와 StoreRepositoryCustom을 상속받아 기본 CRUD 및 커스텀 쿼리 기능을 제공
+ * JpaRepository, StoreRepositoryCustom, StoreJdbcRepository를 상속받아 기본 CRUD, 검색 쿼리, JDBC 쿼리 기능을 제공
  */
 @Repository
-public interface StoreRepository extends JpaRepository<Store, Long>, StoreRepositoryCustom {
+public interface StoreRepository extends JpaRepository<Store, Long>, StoreRepositoryCustom, StoreJdbcRepository {
     // 기본 CRUD 메소드는 JpaRepository에서 제공
 
     @Query("SELECT s FROM Store s WHERE s.owner.email = :ownerEmail")
@@ -5,6 +5,8 @@ import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface StoreRepositoryCustom {
     /**
      * 매장 검색 메서드
@@ -14,5 +16,23 @@ public interface StoreRepositoryCustom {
      * @return 검색된 매장 목록
      */
     Page<Store> searchStores(StoreSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * 매장 검색 결과 중 한 페이지의 내용만 조회하는 메서드
+     * 전체 건수는 countStores로 별도 조회하여 따로 캐시할 수 있도록 분리
+     *
+     * @param criteria 검색 조건 (키워드, 위치 등)
+     * @param pageable 페이징 정보
+     * @return 해당 페이지의 매장 목록
+     */
+    List<Store> findStorePage(StoreSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * 검색 조건에 맞는 전체 매장 수를 조회하는 메서드
+     *
+     * @param criteria 검색 조건 (키워드, 위치 등)
+     * @return 조건에 맞는 매장의 총 개수
+     */
+    long countStores(StoreSearchCriteria criteria);
 }
 
@@ -38,6 +38,23 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
      */
     @Override
     public Page<Store> searchStores(StoreSearchCriteria criteria, Pageable pageable) {
+        List<Store> stores = findStorePage(criteria, pageable);
+        long total = countStores(criteria);
+
+        return new PageImpl<>(stores, pageable, total);
+    }
+
+    /**
+     * 주어진 검색 조건에 따라 한 페이지의 매장 목록만 조회하는 메서드
+     *
+     * @param criteria 검색 조건 DTO
+     * @param pageable 페이징 정보
+     * @return 해당 페이지의 매장 목록
+     */
+    @Override
+    public List<Store> findStorePage(StoreSearchCriteria criteria, Pageable pageable) {
+        // 소유자는 다대일 관계이므로 fetch join으로 행이 늘어나지 않아 distinct가 필요 없음
+        // (distinct는 임시 테이블을 만들어 인덱스 순서 조회의 조기 종료를 막음)
         JPAQuery<Store> query = queryFactory
             .selectFrom(store)
             .leftJoin(store.owner).fetchJoin()
@@ -49,14 +66,11 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
             .limit(pageable.getPageSize());
 
         // 정렬 조건 적용
-        for (OrderSpecifier<?> orderSpecifier : getOrderSpecifiers(pageable.getSort())) {
+        for (OrderSpecifier<?> orderSpecifier : getOrderSpecifiers(criteria.resolveSort(pageable.getSort()))) {
             query.orderBy(orderSpecifier);
         }
 
-        List<Store> stores = query.fetch();
-        long total = getCount(criteria);
-
-        return new PageImpl<>(stores, pageable, total);
+        return query.fetch();
     }
 
     /**
@@ -65,8 +79,9 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
      * @param criteria 검색 조건 DTO
      * @return 조건에 맞는 매장의 총 개수
      */
-    private long getCount(StoreSearchCriteria criteria) {
-        return queryFactory
+    @Override
+    public long countStores(StoreSearchCriteria criteria) {
+        Long count = queryFactory
             .select(store.count())
             .from(store)
             .where(
@@ -74,6 +89,7 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
                 ownerEmailEquals(criteria.ownerEmail())
             )
             .fetchOne();
+        return count != null ? count : 0L;
     }
 
     /**
@@ -102,10 +118,10 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
     }
 
     /**
-     * 정렬 조건을 QueryDSL OrderSpecifier로 변환하는 메서드
-     * 매장명, 위치, 생성일시에 대한 정렬을 지원
+     * 검색 조건과 페이징 정보로 결정한 정렬을 QueryDSL OrderSpecifier로 변환하는 메서드
+     * 정렬 규칙은 StoreSearchCriteria.resolveSort에서 결정하며 여기서는 속성만 매핑
      *
-     * @param sort Spring Data의 Sort 객체
+     * @param sort 실제로 적용할 정렬
      * @return QueryDSL OrderSpecifier 리스트
      */
     private List<OrderSpecifier<?>> getOrderSpecifiers(Sort sort) {
@@ -119,6 +135,9 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
                     store.location.asc() : store.location.desc());
                 case "createdAt" -> orders.add(order.isAscending() ?
                     store.createdAt.asc() : store.createdAt.desc());
+                // idx_store_weighted_rating (weighted_rating, id) 순서 그대로 정렬하여 filesort 없이 인덱스 범위 스캔
+                case "weightedRating" -> orders.add(order.isAscending() ?
+                    store.weightedRating.asc() : store.weightedRating.desc());
                 default -> orders.add(order.isAscending() ?
                     store.id.asc() : store.id.desc());
             }
@@ -126,4 +145,4 @@ public class StoreRepositoryCustomImpl implements StoreRepositoryCustom {
 
         return orders;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.zerobase.zbpaymentstudy.domain.store.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 가중 평점(베이지안 평균) 계산 정책
+ * <p>
+ * 가중 평점 = (C × m + 평점 합계) / (C + 리뷰 수)
+ * - m: 사전 평균 평점 (리뷰가 적은 매장이 수렴하는 기준 평점)
+ * - C: 사전 가중치 (사전 평균을 리뷰 몇 개만큼으로 취급할지)
+ * 리뷰가 적은 매장은 사전 평균에 가깝게, 리뷰가 많은 매장은 실제 평균에 가깝게 보정되어
+ * 리뷰 1개짜리 5점 매장이 리뷰가 많은 4.8점 매장보다 앞서지 않음
+ */
+@Getter
+@Component
+public class BayesianRatingPolicy {
+
+    private final double priorMean;
+    private final double priorWeight;
+
+    public BayesianRatingPolicy(
+        @Value("${store.rating.prior-mean:3.5}") double priorMean,
+        @Value("${store.rating.prior-weight:10}") double priorWeight
+    ) {
+        this.priorMean = priorMean;
+        this.priorWeight = priorWeight;
+    }
+
+    /**
+     * 리뷰 수와 평점 합계로부터 가중 평점을 계산
+     *
+     * @param reviewCount 리뷰 수
+     * @param ratingSum   평점 합계
+     * @return 가중 평점
+     */
+    public double weightedRating(long reviewCount, long ratingSum) {
+        return (priorWeight * priorMean + ratingSum) / (priorWeight + reviewCount);
+    }
+}
@@ -0,0 +1,67 @@
+package com.zerobase.zbpaymentstudy.domain.store.service;
+
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingRepairRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 ID가 비어 있는 리뷰를 요청을 받기 전에 채우는 시작 작업
+ * <p>
+ * 리뷰 목록, 최근 리뷰 피드, 평점 보정은 리뷰의 비정규화된 매장 ID(store_id)로 조회하므로
+ * 컬럼을 추가하기 전에 작성된 리뷰는 채우기 전까지 어느 매장의 조회에도 나타나지 않음
+ * ApplicationRunner는 준비 상태(readiness)가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되며, 예열보다 먼저 실행되도록 순서를 지정
+ * 매장 ID 구간별로 나누어 갱신하여 한 번에 잠그는 행 수를 제한하고, 채울 리뷰가 없으면 인덱스 조회 한 번으로 끝남
+ * 실패해도 시작을 막지 않으며, 관리자 평점 보정 작업이 구간마다 같은 작업을 다시 수행
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReviewStoreIdBackfillRunner implements ApplicationRunner {
+
+    private final StoreRatingRepairRepository repairRepository;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public ReviewStoreIdBackfillRunner(
+        StoreRatingRepairRepository repairRepository,
+        @Value("${store.rating.repair.backfill-on-startup:true}") boolean enabled,
+        @Value("${store.rating.repair.chunk-size:1000}") int chunkSize
+    ) {
+        this.repairRepository = repairRepository;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!repairRepository.hasReviewsWithoutStoreId()) {
+                return;
+            }
+            long[] range = repairRepository.findIdRange();
+            if (range == null) {
+                return;
+            }
+
+            long backfilled = 0;
+            for (long fromId = range[0]; fromId <= range[1]; fromId += chunkSize) {
+                backfilled += repairRepository.backfillReviewStoreIds(fromId, Math.min(fromId + chunkSize - 1, range[1]));
+            }
+            log.info("리뷰 매장 ID 채우기 완료 - reviews: {}, elapsed: {} ms",
+                backfilled, (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.error("리뷰 매장 ID 채우기 실패 - 관리자 평점 보정 작업으로 다시 채워야 함", e);
+        }
+    }
+}
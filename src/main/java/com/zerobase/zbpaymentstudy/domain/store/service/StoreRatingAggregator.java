@@ -0,0 +1,345 @@
+package com.zerobase.zbpaymentstudy.domain.store.service;
+
+import com.zerobase.zbpaymentstudy.common.TransactionCallbacks;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreJsonCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreRatingHistogramCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreSearchCache;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingHistogramRepository;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 매장 평점 집계(리뷰 수, 평점 합계, 평균 평점)와 평점 분포(1~5점 리뷰 수)를 리뷰 변경에 맞춰 증분 갱신하는 컴포넌트
+ * <p>
+ * 일반 매장은 리뷰 트랜잭션 안에서 원자적 UPDATE 한 번으로 집계를 반영하고,
+ * 짧은 시간에 리뷰가 몰리는 매장(핫 매장)은 행 잠금 경합을 피하기 위해
+ * 매장별 버퍼에 변화량을 모아 두었다가 주기적으로 한 번에 반영
+ * 버퍼는 적재와 분리를 모두 맵의 원자적 연산으로 처리하므로, 리뷰 하나의 변화량이 두 주기에 나뉘어 반영되지 않음
+ * <p>
+ * 평점 집계 보정 작업은 {@link #runWithoutBuffering}으로 실행하여, 보정이 리뷰 테이블로 다시 계산한 값으로
+ * 집계를 덮어쓴 뒤에 같은 리뷰의 변화량이 버퍼에서 다시 더해지지 않도록 함
+ */
+@Slf4j
+@Component
+public class StoreRatingAggregator {
+
+    private final StoreRepository storeRepository;
+    private final StoreRatingHistogramRepository histogramRepository;
+    private final StoreSearchCache storeSearchCache;
+    private final StoreRatingHistogramCache histogramCache;
+    private final StoreJsonCache storeJsonCache;
+    private final BayesianRatingPolicy ratingPolicy;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 한 반영 주기 동안 이 횟수를 초과하여 리뷰가 변경된 매장은 핫 매장으로 간주
+     */
+    private final int hotStoreThreshold;
+
+    /**
+     * 현재 반영 주기 동안 매장별 리뷰 변경 횟수
+     */
+    private final ConcurrentMap<Long, AtomicInteger> writeCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 핫 매장별로 아직 반영되지 않은 변화량
+     * 핫 매장이 된 적이 있는 매장만 보관되므로 크기가 작게 유지됨
+     */
+    private final ConcurrentMap<Long, PendingDelta> pendingDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * 버퍼 반영과 보정 작업을 서로 배타적으로 실행
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 보정 작업 중에는 핫 매장의 변화량도 버퍼에 쌓지 않고 리뷰 트랜잭션 안에서 바로 반영
+     */
+    private volatile boolean bufferingPaused;
+
+    public StoreRatingAggregator(
+        StoreRepository storeRepository,
+        StoreRatingHistogramRepository histogramRepository,
+        StoreSearchCache storeSearchCache,
+        StoreRatingHistogramCache histogramCache,
+        StoreJsonCache storeJsonCache,
+        BayesianRatingPolicy ratingPolicy,
+        PlatformTransactionManager transactionManager,
+        @Value("${store.rating.hot-store-threshold:20}") int hotStoreThreshold
+    ) {
+        this.storeRepository = storeRepository;
+        this.histogramRepository = histogramRepository;
+        this.storeSearchCache = storeSearchCache;
+        this.histogramCache = histogramCache;
+        this.storeJsonCache = storeJsonCache;
+        this.ratingPolicy = ratingPolicy;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hotStoreThreshold = hotStoreThreshold;
+    }
+
+    /**
+     * 리뷰 작성에 따른 집계 반영
+     *
+     * @param storeId 매장 ID
+     * @param rating  작성된 평점
+     */
+    public void recordCreated(Long storeId, int rating) {
+        int[] stars = new int[5];
+        stars[rating - 1]++;
+        apply(storeId, 1, rating, stars);
+    }
+
+    /**
+     * 리뷰 수정에 따른 집계 반영
+     *
+     * @param storeId   매장 ID
+     * @param oldRating 수정 전 평점
+     * @param newRating 수정 후 평점
+     */
+    public void recordUpdated(Long storeId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        int[] stars = new int[5];
+        stars[oldRating - 1]--;
+        stars[newRating - 1]++;
+        apply(storeId, 0, newRating - oldRating, stars);
+    }
+
+    /**
+     * 리뷰 삭제에 따른 집계 반영
+     *
+     * @param storeId 매장 ID
+     * @param rating  삭제된 리뷰의 평점
+     */
+    public void recordDeleted(Long storeId, int rating) {
+        int[] stars = new int[5];
+        stars[rating - 1]--;
+        apply(storeId, -1, -rating, stars);
+    }
+
+    /**
+     * 변화량을 즉시 반영하거나, 핫 매장인 경우 커밋 이후 버퍼에 적재
+     * 버퍼 적재를 커밋 이후로 미루어 롤백된 리뷰의 변화량이 반영되지 않도록 하고,
+     * 커밋 전까지는 진행 중인 적재로 표시하여 보정 작업이 완료를 기다릴 수 있도록 함
+     */
+    private void apply(Long storeId, int countDelta, long sumDelta, int[] starDeltas) {
+        int writes = writeCounts.computeIfAbsent(storeId, id -> new AtomicInteger()).incrementAndGet();
+
+        if (writes <= hotStoreThreshold || !reserve(storeId)) {
+            write(storeId, countDelta, sumDelta, starDeltas);
+            return;
+        }
+
+        TransactionCallbacks.afterCompletion(committed ->
+            release(storeId, committed ? countDelta : 0, committed ? sumDelta : 0,
+                committed ? starDeltas : new int[5]));
+    }
+
+    /**
+     * 버퍼에 진행 중인 적재를 표시
+     * 표시한 뒤에 중단 여부를 확인하므로, 보정 작업이 중단을 설정한 뒤 진행 중인 적재를 확인하면
+     * 둘 중 하나는 반드시 상대를 보게 됨
+     *
+     * @return 버퍼에 적재할 수 있으면 true, 보정 작업 중이면 false
+     */
+    private boolean reserve(Long storeId) {
+        pendingDeltas.compute(storeId, (id, pending) -> {
+            PendingDelta delta = pending != null ? pending : new PendingDelta();
+            delta.inFlight++;
+            return delta;
+        });
+        if (bufferingPaused) {
+            release(storeId, 0, 0, new int[5]);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 진행 중인 적재를 끝내고, 커밋된 경우 변화량을 버퍼에 더함
+     */
+    private void release(Long storeId, int countDelta, long sumDelta, int[] starDeltas) {
+        pendingDeltas.compute(storeId, (id, pending) -> {
+            PendingDelta delta = pending != null ? pending : new PendingDelta();
+            delta.add(countDelta, sumDelta, starDeltas);
+            delta.inFlight--;
+            return delta.isEmpty() && delta.inFlight == 0 ? null : delta;
+        });
+    }
+
+    /**
+     * 핫 매장 버퍼에 변화량을 적재
+     * 같은 매장의 적재와 분리(flush)는 맵의 키 단위 잠금으로 직렬화되므로 분리된 버퍼에 뒤늦게 더해지지 않음
+     */
+    private void buffer(Long storeId, int countDelta, long sumDelta, int[] starDeltas) {
+        pendingDeltas.compute(storeId, (id, pending) -> {
+            PendingDelta delta = pending != null ? pending : new PendingDelta();
+            delta.add(countDelta, sumDelta, starDeltas);
+            return delta;
+        });
+    }
+
+    /**
+     * 집계 컬럼과 평점 분포 보조 테이블에 변화량을 반영하고 관련 캐시를 커밋 이후 무효화
+     */
+    private void write(Long storeId, int countDelta, long sumDelta, int[] starDeltas) {
+        storeRepository.applyRatingDelta(storeId, countDelta, sumDelta,
+            ratingPolicy.getPriorMean(), ratingPolicy.getPriorWeight(), LocalDateTime.now());
+        histogramRepository.applyDelta(storeId,
+            starDeltas[0], starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4]);
+        storeSearchCache.evictStore(storeId);
+        storeJsonCache.evict(storeId);
+        histogramCache.evict(storeId);
+    }
+
+    /**
+     * 핫 매장 버퍼에 쌓인 변화량을 주기적으로 반영하고 새 반영 주기를 시작
+     * 매장마다 버퍼를 통째로 맵에서 분리한 뒤 별도의 짧은 트랜잭션으로 반영하여 행 잠금 시간을 최소화
+     * 분리한 뒤에 커밋된 리뷰의 변화량은 새 버퍼에 쌓여 다음 주기에 반영됨
+     */
+    @Scheduled(fixedDelayString = "${store.rating.flush-interval-ms:1000}")
+    public void flush() {
+        // 보정 작업이 진행 중이면 버퍼가 비어 있으므로 이번 주기는 건너뜀
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼를 모두 반영하고, 작업이 끝날 때까지 핫 매장의 변화량도 버퍼에 쌓지 않고 바로 반영
+     * 커밋 전이던 적재가 모두 버퍼에 들어온 뒤에 반영하므로, 작업이 읽는 리뷰의 변화량은 모두 집계 컬럼에 반영된 상태
+     * 작업 중의 리뷰 변경은 리뷰 트랜잭션 안에서 집계 행을 갱신하므로 조건부 갱신으로 감지할 수 있음
+     *
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T runWithoutBuffering(Supplier<T> action) {
+        flushLock.lock();
+        bufferingPaused = true;
+        try {
+            awaitInFlight();
+            flushPending();
+            return action.get();
+        } finally {
+            bufferingPaused = false;
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 커밋 전이던 버퍼 적재가 모두 끝날 때까지 대기
+     * 적재 중단 이후에는 새로 늘어나지 않으므로 진행 중인 리뷰 트랜잭션이 끝나면 곧 0이 됨
+     */
+    private void awaitInFlight() {
+        while (pendingDeltas.values().stream().anyMatch(delta -> delta.inFlight > 0)) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void flushPending() {
+        writeCounts.clear();
+
+        for (Long storeId : pendingDeltas.keySet()) {
+            PendingDelta delta = detach(storeId);
+            if (delta == null || delta.isEmpty()) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    write(storeId, delta.count, delta.sum, delta.stars));
+            } catch (Exception e) {
+                // 반영에 실패한 변화량은 다음 주기에 다시 시도
+                log.error("매장 평점 집계 반영 실패 - storeId: {}", storeId, e);
+                buffer(storeId, delta.count, delta.sum, delta.stars);
+            }
+        }
+    }
+
+    /**
+     * 매장의 미반영 변화량을 맵에서 분리
+     * 커밋 전인 적재가 남아 있으면 변화량만 옮겨 오고 진행 중 표시는 남겨 둠
+     */
+    private PendingDelta detach(Long storeId) {
+        PendingDelta[] detached = new PendingDelta[1];
+        pendingDeltas.computeIfPresent(storeId, (id, pending) -> {
+            if (pending.inFlight == 0) {
+                detached[0] = pending;
+                return null;
+            }
+            detached[0] = new PendingDelta();
+            detached[0].add(pending.count, pending.sum, pending.stars);
+            pending.clear();
+            return pending;
+        });
+        return detached[0];
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아 있는 변화량을 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 핫 매장의 미반영 변화량
+     * 맵의 compute 안에서만 변경하고 맵에서 분리한 뒤에만 읽으므로 별도의 동기화가 필요 없음
+     * 진행 중인 적재 수만 보정 작업이 잠금 없이 확인하므로 volatile로 둠
+     */
+    private static final class PendingDelta {
+        private int count;
+        private long sum;
+        private final int[] stars = new int[5];
+        private volatile int inFlight;
+
+        void add(int countDelta, long sumDelta, int[] starDeltas) {
+            count += countDelta;
+            sum += sumDelta;
+            for (int i = 0; i < stars.length; i++) {
+                stars[i] += starDeltas[i];
+            }
+        }
+
+        void clear() {
+            count = 0;
+            sum = 0;
+            Arrays.fill(stars, 0);
+        }
+
+        boolean isEmpty() {
+            if (count != 0 || sum != 0) {
+                return false;
+            }
+            for (int star : stars) {
+                if (star != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
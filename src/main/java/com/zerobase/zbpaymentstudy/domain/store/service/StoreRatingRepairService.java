@@ -0,0 +1,212 @@
+package com.zerobase.zbpaymentstudy.domain.store.service;
+
+import com.zerobase.zbpaymentstudy.cache.invalidation.EntityCacheInvalidator;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreJsonCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreRatingHistogramCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreSearchCache;
+import com.zerobase.zbpaymentstudy.domain.store.dto.RatingRepairReport;
+import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingRepairRepository;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingRepairRepository.StoreRatingRow;
+import com.zerobase.zbpaymentstudy.exception.BusinessException;
+import com.zerobase.zbpaymentstudy.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 매장 평점 집계(리뷰 수, 평점 합계, 평균 평점, 가중 평점)와 평점 분포의 불일치를 찾아 보정하는 서비스
+ * <p>
+ * 장애나 수동 DB 수정으로 비정규화된 집계가 실제 리뷰와 어긋났을 때 관리자가 실행
+ * 매장 ID 구간을 Fork-Join 풀에서 분할 처리하며, 각 구간은 잠금 없는 스트리밍 조회로 다시 집계하고
+ * 불일치한 행만 배치로 갱신
+ */
+@Slf4j
+@Service
+public class StoreRatingRepairService {
+
+    private final StoreRatingRepairRepository repairRepository;
+    private final StoreRatingAggregator storeRatingAggregator;
+    private final StoreSearchCache storeSearchCache;
+    private final StoreRatingHistogramCache histogramCache;
+    private final StoreJsonCache storeJsonCache;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+    private final BayesianRatingPolicy ratingPolicy;
+    private final int parallelism;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public StoreRatingRepairService(
+        StoreRatingRepairRepository repairRepository,
+        StoreRatingAggregator storeRatingAggregator,
+        StoreSearchCache storeSearchCache,
+        StoreRatingHistogramCache histogramCache,
+        StoreJsonCache storeJsonCache,
+        EntityCacheInvalidator entityCacheInvalidator,
+        BayesianRatingPolicy ratingPolicy,
+        @Value("${store.rating.repair.parallelism:4}") int parallelism,
+        @Value("${store.rating.repair.chunk-size:1000}") int chunkSize
+    ) {
+        this.repairRepository = repairRepository;
+        this.storeRatingAggregator = storeRatingAggregator;
+        this.storeSearchCache = storeSearchCache;
+        this.histogramCache = histogramCache;
+        this.storeJsonCache = storeJsonCache;
+        this.entityCacheInvalidator = entityCacheInvalidator;
+        this.ratingPolicy = ratingPolicy;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 전체 매장의 평점 집계를 검사하고 불일치한 행을 보정
+     *
+     * @return 검사 및 보정 결과
+     * @throws BusinessException 이미 보정 작업이 진행 중인 경우
+     */
+    public RatingRepairReport repair() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.RATING_REPAIR_IN_PROGRESS);
+        }
+
+        long start = System.nanoTime();
+        try {
+            // 핫 매장 버퍼를 먼저 반영하고 보정이 끝날 때까지 버퍼링을 멈춰,
+            // 보정에 포함된 리뷰의 변화량이 보정 이후 버퍼에서 다시 더해지지 않도록 함
+            ChunkResult result = storeRatingAggregator.runWithoutBuffering(this::repairAll);
+
+            long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            RatingRepairReport report = new RatingRepairReport(
+                result.scanned(),
+                result.mismatches(),
+                result.repaired(),
+                result.conflicts(),
+                result.histogramsRebuilt(),
+                result.reviewsBackfilled(),
+                elapsedMillis,
+                result.scanned() * 1000.0 / elapsedMillis
+            );
+            log.info("매장 평점 집계 보정 완료 - {}", report);
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 전체 매장 ID 구간을 Fork-Join 풀에서 나누어 보정
+     */
+    private ChunkResult repairAll() {
+        long[] range = repairRepository.findIdRange();
+        if (range == null) {
+            return ChunkResult.EMPTY;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new RepairTask(range[0], range[1]));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 하나의 ID 구간을 검사하고 불일치한 행을 보정
+     */
+    private ChunkResult repairChunk(long fromId, long toId) {
+        List<StoreRatingRow> mismatched = new ArrayList<>();
+        List<Long> histogramMismatched = new ArrayList<>();
+        long[] scanned = {0};
+
+        int backfilled = repairRepository.backfillReviewStoreIds(fromId, toId);
+
+        // 스트리밍 중인 커넥션에서는 다른 쿼리를 실행할 수 없으므로 구간 조회가 끝난 뒤 갱신
+        repairRepository.scan(fromId, toId, row -> {
+            scanned[0]++;
+            if (row.isMismatched(ratingPolicy)) {
+                mismatched.add(row);
+            }
+            if (row.isHistogramMismatched()) {
+                histogramMismatched.add(row.storeId());
+            }
+        });
+
+        if (!histogramMismatched.isEmpty()) {
+            repairRepository.rebuildHistograms(histogramMismatched);
+            histogramMismatched.forEach(histogramCache::evict);
+        }
+
+        if (mismatched.isEmpty()) {
+            return new ChunkResult(scanned[0], 0, 0, 0, histogramMismatched.size(), backfilled);
+        }
+
+        int[] results = repairRepository.repair(mismatched, LocalDateTime.now());
+        long repaired = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != 0) {
+                repaired++;
+                storeSearchCache.evictStore(mismatched.get(i).storeId());
+                storeJsonCache.evict(mismatched.get(i).storeId());
+                entityCacheInvalidator.evict(Store.class, mismatched.get(i).storeId());
+            }
+        }
+        return new ChunkResult(scanned[0], mismatched.size(), repaired, mismatched.size() - repaired,
+            histogramMismatched.size(), backfilled);
+    }
+
+    /**
+     * 매장 ID 구간을 절반씩 나누어 병렬로 처리하는 Fork-Join 작업
+     */
+    private final class RepairTask extends RecursiveTask<ChunkResult> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final long fromId;
+        private final long toId;
+
+        private RepairTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (toId - fromId + 1 <= chunkSize) {
+                return repairChunk(fromId, toId);
+            }
+
+            long mid = fromId + (toId - fromId) / 2;
+            RepairTask left = new RepairTask(fromId, mid);
+            RepairTask right = new RepairTask(mid + 1, toId);
+            left.fork();
+            ChunkResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    /**
+     * 구간별 처리 결과
+     */
+    private record ChunkResult(long scanned, long mismatches, long repaired, long conflicts,
+                               long histogramsRebuilt, long reviewsBackfilled) {
+        private static final ChunkResult EMPTY = new ChunkResult(0, 0, 0, 0, 0, 0);
+
+        private ChunkResult merge(ChunkResult other) {
+            return new ChunkResult(
+                scanned + other.scanned,
+                mismatches + other.mismatches,
+                repaired + other.repaired,
+                conflicts + other.conflicts,
+                histogramsRebuilt + other.histogramsRebuilt,
+                reviewsBackfilled + other.reviewsBackfilled
+            );
+        }
+    }
+}
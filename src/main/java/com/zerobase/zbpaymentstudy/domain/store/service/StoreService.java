@@ -4,6 +4,7 @@ import com.zerobase.zbpaymentstudy.common.ApiResponse;
 import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
 import com.zerobase.zbpaymentstudy.domain.store.dto.StoreRegisterDto;
 import com.zerobase.zbpaymentstudy.domain.store.dto.StoreSearchCriteria;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreSummaryDto;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,4 +28,22 @@ public interface StoreService {
         @NonNull Pageable pageable,
         @Valid @NonNull StoreSearchCriteria criteria
     );
-}
\ No newline at end of file
+
+    /**
+     * 매장 정보 조회 (조회 결과는 직렬화하여 매장 응답 캐시에 저장)
+     *
+     * @param storeId 매장 ID
+     * @return 매장 정보
+     * @throws com.zerobase.zbpaymentstudy.exception.BusinessException 매장이 존재하지 않는 경우
+     */
+    StoreDto getStore(Long storeId);
+
+    /**
+     * 매장 요약 정보(평균 평점, 리뷰 수, 평점 분포) 조회
+     *
+     * @param storeId 매장 ID
+     * @return 매장 요약 정보
+     * @throws com.zerobase.zbpaymentstudy.exception.BusinessException 매장이 존재하지 않는 경우
+     */
+    StoreSummaryDto getStoreSummary(Long storeId);
+}
@@ -1,13 +1,21 @@
 package com.zerobase.zbpaymentstudy.domain.store.service;
 
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
-import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
+import com.zerobase.zbpaymentstudy.domain.member.cache.MemberIdentityCache;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberIdentity;
 import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
 import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreJsonCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreRatingHistogramCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreSearchCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreSearchKey;
+import com.zerobase.zbpaymentstudy.domain.store.dto.RatingHistogramDto;
 import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
 import com.zerobase.zbpaymentstudy.domain.store.dto.StoreRegisterDto;
 import com.zerobase.zbpaymentstudy.domain.store.dto.StoreSearchCriteria;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreSummaryDto;
 import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingHistogramRepository;
 import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
 import com.zerobase.zbpaymentstudy.exception.BusinessException;
 import com.zerobase.zbpaymentstudy.exception.ErrorCode;
@@ -15,11 +23,13 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 매장 서비스의 구현체 클래스
@@ -32,7 +42,13 @@ import java.time.LocalDateTime;
 public class StoreServiceImpl implements StoreService {
 
     private final StoreRepository storeRepository;     // 매장 정보 관리를 위한 리포지토리
-    private final MemberRepository memberRepository;    // 회원 정보 조회를 위한 리포지토리
+    private final MemberRepository memberRepository;    // 회원 참조 생성을 위한 리포지토리
+    private final MemberIdentityCache memberIdentityCache; // 회원 식별 정보 캐시
+    private final StoreSearchCache storeSearchCache;    // 매장 검색 결과 캐시
+    private final StoreJsonCache storeJsonCache;        // 직렬화된 매장 응답 캐시
+    private final StoreRatingHistogramRepository histogramRepository; // 매장 평점 분포 리포지토리
+    private final StoreRatingHistogramCache histogramCache;           // 매장 평점 분포 캐시
+    private final BayesianRatingPolicy ratingPolicy;                  // 가중 평점 계산 정책
 
     /**
      * 새로운 매장을 등록하는 메서드
@@ -53,10 +69,10 @@ public class StoreServiceImpl implements StoreService {
     @Override
     public ApiResponse<StoreDto> registerStore(String ownerEmail, StoreRegisterDto registerDto) {
         try {
-            Member owner = memberRepository.findByEmail(ownerEmail)
+            MemberIdentity owner = memberIdentityCache.find(ownerEmail)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-            if (owner.getRole() != MemberRole.PARTNER) {
+            if (owner.role() != MemberRole.PARTNER) {
                 throw new BusinessException(ErrorCode.NOT_A_PARTNER);
             }
 
@@ -66,17 +82,21 @@ public class StoreServiceImpl implements StoreService {
                 .description(registerDto.description())
                 .latitude(registerDto.latitude())
                 .longitude(registerDto.longitude())
-                .owner(owner)
+                .owner(memberRepository.getReferenceById(owner.id()))
                 .averageRating(0.0)
                 .reviewCount(0)
+                .ratingSum(0L)
+                .weightedRating(ratingPolicy.weightedRating(0, 0))
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
             Store savedStore = storeRepository.save(store);
             log.info("매장 등록 완료 - storeName: {}, ownerEmail: {}", store.getName(), ownerEmail);
+            storeSearchCache.evictForNewStore(savedStore.getName(), savedStore.getLocation(), ownerEmail);
             
-            return new ApiResponse<>("SUCCESS", "매장이 성공적으로 등록되었습니다.", StoreDto.from(savedStore));
+            return new ApiResponse<>("SUCCESS", "매장이 성공적으로 등록되었습니다.",
+                StoreDto.from(savedStore, owner.email()));
         } catch (BusinessException e) {
             log.warn("매장 등록 실패 - {}", e.getMessage());
             throw e;
@@ -89,6 +109,9 @@ public class StoreServiceImpl implements StoreService {
     /**
      * 매장 목록을 검색하는 메서드
      * 주어진 검색 조건과 페이징 정보에 따라 매장 목록을 조회
+     * 페이지 내용과 전체 건수는 정규화된 검색 조건을 키로 각각 캐시
+     * 같은 검색의 동시 캐시 미스는 조회 한 번으로 합쳐지며, 인기 검색은 만료 전에 백그라운드에서 갱신되므로
+     * 로더는 트랜잭션 밖의 다른 스레드에서도 실행될 수 있음 (소유자를 fetch join하므로 지연 로딩 없음)
      *
      * @param pageable 페이징 정보
      * @param criteria 검색 조건
@@ -102,11 +125,65 @@ public class StoreServiceImpl implements StoreService {
         @NotNull StoreSearchCriteria criteria
     ) {
         try {
-            return storeRepository.searchStores(criteria, pageable)
-                .map(StoreDto::from);
+            StoreSearchKey key = StoreSearchKey.of(criteria, pageable);
+            List<StoreDto> content = storeSearchCache.getPage(key, () ->
+                storeRepository.findStorePage(criteria, pageable).stream()
+                    .map(StoreDto::from)
+                    .toList());
+
+            // 첫 페이지가 가득 차지 않았다면 건수 조회 없이 전체 건수를 알 수 있음
+            if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+                return new PageImpl<>(content, pageable, content.size());
+            }
+
+            long total = storeSearchCache.getCount(key.countKey(), () -> storeRepository.countStores(criteria));
+            return new PageImpl<>(content, pageable, total);
         } catch (Exception e) {
             log.error("매장 목록 조회 중 오류 발생", e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 매장 정보를 조회하는 메서드
+     * 매장과 점주는 2차 캐시에서 읽고, 결과는 직렬화하여 매장 응답 캐시에 저장
+     * 조회 도중 매장이 변경되어 무효화되었다면 저장하지 않음
+     *
+     * @param storeId 매장 ID
+     * @return 매장 정보
+     * @throws BusinessException 매장이 존재하지 않는 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StoreDto getStore(Long storeId) {
+        long generation = storeJsonCache.generation(storeId);
+        StoreDto store = storeRepository.findById(storeId)
+            .map(StoreDto::from)
+            .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+        storeJsonCache.put(store, generation);
+        return store;
+    }
+
+    /**
+     * 매장 요약 정보를 조회하는 메서드
+     * 평균 평점과 리뷰 수는 매장의 집계 컬럼에서, 평점 분포는 캐시 또는 평점 분포 보조 테이블에서 읽으며
+     * 리뷰 테이블은 조회하지 않음
+     *
+     * @param storeId 매장 ID
+     * @return 매장 요약 정보
+     * @throws BusinessException 매장이 존재하지 않는 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StoreSummaryDto getStoreSummary(Long storeId) {
+        Store store = storeRepository.findById(storeId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+
+        RatingHistogramDto histogram = histogramCache.get(storeId, () ->
+            histogramRepository.findById(storeId)
+                .map(RatingHistogramDto::from)
+                .orElse(RatingHistogramDto.empty()));
+
+        return StoreSummaryDto.of(store, histogram);
+    }
+}
@@ -22,13 +22,19 @@ public enum ErrorCode {
      */
     STORE_NOT_FOUND(HttpStatus.NOT_FOUND, "매장을 찾을 수 없습니다."),
     INVALID_STORE_OWNER(HttpStatus.FORBIDDEN, "매장의 소유자가 아닙니다."),
+    RATING_REPAIR_IN_PROGRESS(HttpStatus.CONFLICT, "평점 집계 보정 작업이 이미 진행 중입니다."),
 
     /**
      * 회원 관련 에러
      * 회원 조회 실패 및 권한 관련 에러 코드
      */
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 회원입니다."),
+    EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 이메일입니다."),
+    INVALID_MEMBER_ROLE(HttpStatus.BAD_REQUEST, "가입할 수 없는 회원 유형입니다."),
     NOT_PARTNER_MEMBER(HttpStatus.FORBIDDEN, "파트너 회원만 가능합니다."),
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     /**
      * 예약 관련 에러
@@ -0,0 +1,199 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * 토큰 블랙리스트를 디스크에 보관하는 저널
+ * <p>
+ * - 저널: (다이제스트, 만료 시각) 고정 길이 레코드를 추가만 하는 파일
+ * - 스냅샷: 주기적으로 살아 있는 항목만 모아 메모리 매핑으로 기록한 파일
+ * 시작 시 스냅샷을 메모리 매핑하여 읽고 저널의 나머지를 재생하므로 재시작 후에도 로그아웃된 토큰이 되살아나지 않음
+ * 모든 메서드는 TokenBlacklistService의 잠금 안에서 호출됨
+ */
+@Slf4j
+@Component
+public class BlacklistJournal {
+
+    private static final int RECORD_SIZE = 24;   // high(8) + low(8) + expiresAt(8)
+    private static final int HEADER_SIZE = 16;   // magic(4) + version(4) + count(8)
+    private static final int MAGIC = 0x5A424C4B; // "ZBLK"
+    private static final int VERSION = 1;
+
+    private final boolean enabled;
+    private final boolean fsync;
+    private final Path journalPath;
+    private final Path snapshotPath;
+    private FileChannel journal;
+
+    public BlacklistJournal(
+        @Value("${jwt.blacklist.persistence.enabled:true}") boolean enabled,
+        @Value("${jwt.blacklist.persistence.directory:data/token-blacklist}") Path directory,
+        @Value("${jwt.blacklist.persistence.fsync:true}") boolean fsync
+    ) {
+        this.enabled = enabled;
+        this.fsync = fsync;
+        this.journalPath = directory.resolve("blacklist.journal");
+        this.snapshotPath = directory.resolve("blacklist.snapshot");
+    }
+
+    /**
+     * 스냅샷과 저널을 읽어 만료되지 않은 항목을 전달하고 저널을 추가 모드로 엶
+     *
+     * @param consumer 항목마다 호출될 콜백 (다이제스트, 만료 시각)
+     * @param now      현재 시각 (이보다 먼저 만료된 항목은 건너뜀)
+     */
+    public void load(EntryConsumer consumer, long now) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(journalPath.getParent());
+            long start = System.nanoTime();
+            int snapshotEntries = readSnapshot(consumer, now);
+            int journalEntries = replayJournal(consumer, now);
+            journal = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            log.info("토큰 블랙리스트 복원 완료 - snapshot: {}, journal: {}, elapsed: {}ms",
+                snapshotEntries, journalEntries, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("토큰 블랙리스트 복원 실패", e);
+        }
+    }
+
+    /**
+     * 저널에 항목 추가
+     *
+     * @param digest    토큰 다이제스트
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public void append(TokenDigest digest, long expiresAt) {
+        if (journal == null) {
+            return;
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE)
+            .putLong(digest.high())
+            .putLong(digest.low())
+            .putLong(expiresAt)
+            .flip();
+        try {
+            while (record.hasRemaining()) {
+                journal.write(record);
+            }
+            if (fsync) {
+                journal.force(false);
+            }
+        } catch (IOException e) {
+            // 디스크 기록 실패가 로그아웃 자체를 막지 않도록 로그만 남김 (메모리 블랙리스트는 유효)
+            log.error("토큰 블랙리스트 저널 기록 실패", e);
+        }
+    }
+
+    /**
+     * 살아 있는 항목으로 새 스냅샷을 만들고 저널을 비움
+     * 임시 파일에 기록한 뒤 원자적으로 교체하므로 도중에 중단되어도 이전 스냅샷과 저널이 유지됨
+     *
+     * @param live 현재 블랙리스트 항목 (다이제스트 → 만료 시각)
+     * @param now  현재 시각 (이보다 먼저 만료된 항목은 제외)
+     */
+    public void compact(Map<TokenDigest, Long> live, long now) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            long count = live.values().stream().filter(expiresAt -> expiresAt > now).count();
+            Path temp = snapshotPath.resolveSibling("blacklist.snapshot.tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + count * RECORD_SIZE);
+                buffer.putInt(MAGIC).putInt(VERSION).putLong(count);
+                int written = 0;
+                for (Map.Entry<TokenDigest, Long> entry : live.entrySet()) {
+                    if (entry.getValue() > now && written < count) {
+                        buffer.putLong(entry.getKey().high())
+                            .putLong(entry.getKey().low())
+                            .putLong(entry.getValue());
+                        written++;
+                    }
+                }
+                buffer.force();
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            journal.truncate(0);
+            journal.force(true);
+            log.debug("토큰 블랙리스트 스냅샷 갱신 - entries: {}", count);
+        } catch (IOException e) {
+            log.error("토큰 블랙리스트 스냅샷 갱신 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private int readSnapshot(EntryConsumer consumer, long now) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.warn("토큰 블랙리스트 스냅샷 형식이 올바르지 않아 무시합니다 - {}", snapshotPath);
+                return 0;
+            }
+            long count = Math.min(buffer.getLong(), buffer.remaining() / RECORD_SIZE);
+            return readRecords(buffer, count, consumer, now);
+        }
+    }
+
+    private int replayJournal(EntryConsumer consumer, long now) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            // 기록 도중 중단되어 잘린 마지막 레코드는 무시
+            return readRecords(buffer, buffer.remaining() / RECORD_SIZE, consumer, now);
+        }
+    }
+
+    private static int readRecords(ByteBuffer buffer, long count, EntryConsumer consumer, long now) {
+        int loaded = 0;
+        for (long i = 0; i < count; i++) {
+            long high = buffer.getLong();
+            long low = buffer.getLong();
+            long expiresAt = buffer.getLong();
+            if (expiresAt > now) {
+                consumer.accept(new TokenDigest(high, low), expiresAt);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 복원된 항목을 전달받는 콜백
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(TokenDigest digest, long expiresAt);
+    }
+}
@@ -1,62 +1,127 @@
 package com.zerobase.zbpaymentstudy.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * JWT(JSON Web Token) 생성 및 검증을 담당하는 컴포넌트
  * 토큰의 생성, 파싱, 유효성 검증 등의 JWT 관련 기능을 제공
+ * <p>
+ * 파서는 한 번만 생성하여 재사용하고(불변, 스레드 안전), 서명 검증이 끝난 토큰은
+ * 토큰 해시를 키로 만료 시각까지 캐시하여 같은 토큰의 반복 요청은 서명 검증과 파싱을 건너뜀
+ * 서명 키는 {@link SigningKeyRing}에서 kid로 찾으므로 키를 교체해도 기존 토큰이 한꺼번에 무효화되지 않음
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final Key key;
+    private static final String VERSION_CLAIM = "ver";
+
+    private final SigningKeyRing signingKeyRing;
+    private final JwtParser jwtParser;
     private final long validityInMilliseconds;
     private final TokenBlacklistService tokenBlacklistService;
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    /**
+     * 서명 검증이 끝난 토큰 캐시 (키: 토큰 다이제스트)
+     * 항목은 토큰 만료 시각에 함께 만료됨
+     */
+    private final Cache<TokenDigest, VerifiedToken> verifiedTokens;
 
     /**
      * JWT 토큰 제공자 생성자
      *
-     * @param secretKey              JWT 서명에 사용될 비밀키 (application.yml에서 주입)
+     * @param signingKeyRing         kid별 서명 키 묶음
      * @param validityInMilliseconds 토큰의 유효기간 (밀리초 단위, application.yml에서 주입)
+     * @param claimsCacheMaximumSize 검증된 토큰 캐시의 최대 항목 수
      */
     public JwtTokenProvider(
-        @Value("${jwt.secret}") String secretKey,
+        SigningKeyRing signingKeyRing,
         @Value("${jwt.expiration}") long validityInMilliseconds,
-        TokenBlacklistService tokenBlacklistService
+        @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheMaximumSize,
+        TokenBlacklistService tokenBlacklistService,
+        TokenEpochRegistry tokenEpochRegistry
     ) {
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.signingKeyRing = signingKeyRing;
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKeyResolver(signingKeyRing)
+            .build();
         this.validityInMilliseconds = validityInMilliseconds;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(claimsCacheMaximumSize)
+            .expireAfter(new Expiry<TokenDigest, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(TokenDigest key, VerifiedToken token, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(TokenDigest key, VerifiedToken token, long currentTime,
+                                              long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(TokenDigest key, VerifiedToken token, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
     }
 
     public String createToken(String email, Collection<? extends GrantedAuthority> authorities) {
+        return createToken(email, authorities, tokenEpochRegistry.currentVersion(email));
+    }
+
+    /**
+     * 토큰 세대 번호를 포함한 토큰 생성
+     *
+     * @param email        회원 이메일
+     * @param authorities  회원 권한
+     * @param tokenVersion 회원의 현재 토큰 세대 번호 (ver 클레임)
+     * @return 서명된 토큰
+     */
+    public String createToken(String email, Collection<? extends GrantedAuthority> authorities, int tokenVersion) {
         Claims claims = Jwts.claims().setSubject(email);
         claims.put("roles", authorities.stream()
             .map(GrantedAuthority::getAuthority)
             .collect(Collectors.toList()));
+        claims.put(VERSION_CLAIM, tokenVersion);
         
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
+        SigningKeyRing.SigningKey signingKey = signingKeyRing.currentKey();
 
         return Jwts.builder()
+            .setHeaderParam(JwsHeader.KEY_ID, signingKey.keyId())
             .setClaims(claims)
             .setIssuedAt(now)
             .setExpiration(validity)
-            .signWith(key, SignatureAlgorithm.HS512)
+            .signWith(signingKey.key(), signingKey.algorithm())
             .compact();
     }
 
@@ -66,13 +131,10 @@ public class JwtTokenProvider {
      * @param token 블랙리스트에 추가할 토큰
      */
     public void blacklistToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
-        
-        tokenBlacklistService.addToBlacklist(token, claims.getExpiration());
+        TokenDigest digest = TokenDigest.of(token);
+        VerifiedToken verified = verify(token, digest);
+        tokenBlacklistService.addToBlacklist(digest, Date.from(verified.expiresAt()));
+        verifiedTokens.invalidate(digest);
     }
 
     /**
@@ -83,18 +145,94 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            if (tokenBlacklistService.isBlacklisted(token)) {
+            TokenDigest digest = TokenDigest.of(token);
+            if (tokenBlacklistService.isBlacklisted(digest)) {
                 return false;
             }
-            
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
+
+            return !isRevoked(verify(token, digest));
         } catch (Exception e) {
             log.error("Invalid JWT token: {}", e.getMessage());
             return false;
         }
     }
+
+    /**
+     * 토큰으로부터 인증 정보를 생성
+     * 토큰의 주체와 권한만으로 구성하며 DB를 조회하지 않음
+     *
+     * @param token 인증 정보를 만들 토큰
+     * @return 인증 정보, 토큰이 유효하지 않으면 null
+     */
+    public Authentication getAuthentication(String token) {
+        try {
+            TokenDigest digest = TokenDigest.of(token);
+            if (tokenBlacklistService.isBlacklisted(digest)) {
+                return null;
+            }
+
+            VerifiedToken verified = verify(token, digest);
+            if (isRevoked(verified)) {
+                return null;
+            }
+            List<SimpleGrantedAuthority> authorities = verified.roles().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+            return new UsernamePasswordAuthenticationToken(verified.subject(), null, authorities);
+        } catch (Exception e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 토큰의 서명과 만료 시각을 검증하고 인증에 필요한 값을 추출
+     * 이미 검증된 토큰은 서명 키가 아직 유효한 경우에만 캐시된 값을 반환
+     *
+     * @param token  검증할 토큰
+     * @param digest 토큰 다이제스트 (캐시 키)
+     * @return 검증된 토큰 정보
+     * @throws io.jsonwebtoken.JwtException 서명이 올바르지 않거나, 만료되었거나, 서명 키가 폐기된 경우
+     */
+    private VerifiedToken verify(String token, TokenDigest digest) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())
+            && signingKeyRing.isActive(cached.keyId())) {
+            return cached;
+        }
+
+        Jws<Claims> jws = jwtParser.parseClaimsJws(token);
+        Claims claims = jws.getBody();
+        VerifiedToken verified = new VerifiedToken(
+            claims.getSubject(),
+            toRoles(claims.get("roles")),
+            claims.get(VERSION_CLAIM) instanceof Number version ? version.intValue() : 0,
+            jws.getHeader().getKeyId(),
+            claims.getExpiration().toInstant()
+        );
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    /**
+     * 토큰 발급 이후 회원이 전체 로그아웃을 했는지 여부
+     * 토큰의 세대 번호가 회원의 현재 세대 번호보다 작으면 무효
+     */
+    private boolean isRevoked(VerifiedToken token) {
+        return token.tokenVersion() < tokenEpochRegistry.currentVersion(token.subject());
+    }
+
+    /**
+     * roles 클레임을 권한 문자열 목록으로 변환
+     * ROLE_ 접두사가 없으면 붙여서 hasRole 검사와 맞춤
+     */
+    private static List<String> toRoles(Object rolesClaim) {
+        if (!(rolesClaim instanceof Collection<?> roles)) {
+            return List.of();
+        }
+        return roles.stream()
+            .map(String::valueOf)
+            .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
+            .toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.zbpaymentstudy.common.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 시도를 계정별, IP별 토큰 버킷으로 제한하는 컴포넌트
+ * <p>
+ * 비밀번호 해시 비용이 큰 로그인 요청이 해시 풀에 들어가기 전에 걸러내어
+ * 특정 계정에 대한 대입 공격과 특정 IP의 대량 시도를 모두 막음
+ * 버킷은 가득 찰 시간 동안 접근이 없으면 제거되며(가득 찬 버킷과 동일하므로 손실 없음), 전체 개수도 제한
+ */
+@Component
+public class LoginThrottle {
+
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final int accountCapacity;
+    private final Duration accountRefillInterval;
+    private final int ipCapacity;
+    private final Duration ipRefillInterval;
+    private final Counter accountThrottled;
+    private final Counter ipThrottled;
+
+    public LoginThrottle(
+        MeterRegistry meterRegistry,
+        @Value("${auth.login.throttle.account.capacity:5}") int accountCapacity,
+        @Value("${auth.login.throttle.account.refill-interval:30s}") Duration accountRefillInterval,
+        @Value("${auth.login.throttle.ip.capacity:30}") int ipCapacity,
+        @Value("${auth.login.throttle.ip.refill-interval:2s}") Duration ipRefillInterval,
+        @Value("${auth.login.throttle.maximum-keys:100000}") long maximumKeys
+    ) {
+        this.accountCapacity = accountCapacity;
+        this.accountRefillInterval = accountRefillInterval;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillInterval = ipRefillInterval;
+        this.accountBuckets = Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfterAccess(accountRefillInterval.multipliedBy(accountCapacity))
+            .build();
+        this.ipBuckets = Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfterAccess(ipRefillInterval.multipliedBy(ipCapacity))
+            .build();
+        this.accountThrottled = Counter.builder("auth.login.throttled")
+            .tag("scope", "account")
+            .register(meterRegistry);
+        this.ipThrottled = Counter.builder("auth.login.throttled")
+            .tag("scope", "ip")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 허용 여부
+     * IP 버킷을 먼저 확인하여 한 IP가 여러 계정을 돌아가며 시도하는 경우도 제한
+     *
+     * @param email    로그인 시도 이메일
+     * @param clientIp 요청 IP
+     * @return 허용되면 true, 제한되면 false
+     */
+    public boolean tryAcquire(String email, String clientIp) {
+        long now = System.nanoTime();
+
+        TokenBucket ipBucket = ipBuckets.get(clientIp,
+            ip -> new TokenBucket(ipCapacity, ipRefillInterval));
+        if (!ipBucket.tryAcquire(now)) {
+            ipThrottled.increment();
+            return false;
+        }
+
+        TokenBucket accountBucket = accountBuckets.get(email.toLowerCase(Locale.ROOT),
+            account -> new TokenBucket(accountCapacity, accountRefillInterval));
+        if (!accountBucket.tryAcquire(now)) {
+            accountThrottled.increment();
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,174 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import com.zerobase.zbpaymentstudy.exception.BusinessException;
+import com.zerobase.zbpaymentstudy.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 비밀번호 검증을 전용 스레드 풀에서 실행하는 컴포넌트
+ * <p>
+ * BCrypt 검증은 요청 하나에 수십 밀리초의 CPU를 사용하므로 Tomcat 작업 스레드에서 직접 실행하면
+ * 로그인 폭주 시 다른 API까지 CPU를 빼앗김. 크기가 고정된 풀과 크기가 제한된 대기열에서 실행하여
+ * 해시 계산에 쓰이는 CPU 상한을 두고, 대기열이 가득 찼거나 대기 시간이 예산을 넘긴 요청은
+ * 해시를 계산하지 않고 바로 거부
+ * <p>
+ * 검증에 성공한 해시의 cost가 현재 설정보다 낮으면 같은 작업 안에서 새 cost로 다시 해시하여 반환
+ */
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long queueWaitBudgetNanos;
+
+    /**
+     * 존재하지 않는 계정에도 같은 비용의 검증을 수행하여 응답 시간으로 계정 존재 여부가 드러나지 않도록 함
+     */
+    private final String dummyHash;
+
+    private final Timer hashTimer;
+    private final Timer queueWaitTimer;
+    private final Counter saturatedRejections;
+    private final Counter budgetRejections;
+    private final Counter upgrades;
+
+    public PasswordVerifier(
+        PasswordEncoder passwordEncoder,
+        MeterRegistry meterRegistry,
+        @Value("${auth.password.pool-size:0}") int poolSize,
+        @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+        @Value("${auth.password.queue-wait-budget:500ms}") Duration queueWaitBudget
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueWaitBudgetNanos = queueWaitBudget.toNanos();
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-timing");
+
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new HashThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hash")
+            .description("비밀번호 해시 검증 시간")
+            .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+            .description("해시 풀 대기열에서 기다린 시간")
+            .register(meterRegistry);
+        this.saturatedRejections = Counter.builder("auth.password.rejected")
+            .tag("reason", "saturated")
+            .register(meterRegistry);
+        this.budgetRejections = Counter.builder("auth.password.rejected")
+            .tag("reason", "queue-wait-budget")
+            .register(meterRegistry);
+        this.upgrades = Counter.builder("auth.password.upgraded")
+            .register(meterRegistry);
+        Gauge.builder("auth.password.queue.size", executor, pool -> pool.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호를 검증하고 필요하면 더 높은 cost로 다시 해시
+     *
+     * @param rawPassword     입력된 비밀번호
+     * @param encodedPassword 저장된 해시 (계정이 없으면 null)
+     * @return 검증 결과
+     * @throws BusinessException 해시 풀이 포화되었거나 대기 시간 예산을 넘긴 경우 (LOGIN_BUSY)
+     */
+    public Result verify(String rawPassword, String encodedPassword) {
+        long enqueuedAt = System.nanoTime();
+        Future<Result> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > queueWaitBudgetNanos) {
+                    // 대기하는 동안 클라이언트가 이미 포기했을 수 있으므로 해시 계산 없이 거부
+                    budgetRejections.increment();
+                    throw new BusinessException(ErrorCode.LOGIN_BUSY);
+                }
+                return hashTimer.record(() -> check(rawPassword, encodedPassword));
+            });
+        } catch (RejectedExecutionException e) {
+            saturatedRejections.increment();
+            throw new BusinessException(ErrorCode.LOGIN_BUSY);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 검증 중 오류가 발생했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.LOGIN_BUSY);
+        }
+    }
+
+    private Result check(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            passwordEncoder.matches(rawPassword, dummyHash);
+            return Result.MISMATCH;
+        }
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return Result.MISMATCH;
+        }
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return Result.MATCH;
+        }
+        upgrades.increment();
+        return new Result(true, passwordEncoder.encode(rawPassword));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     */
+    public record Result(
+        boolean matched,       // 비밀번호 일치 여부
+        String upgradedHash    // 새 cost로 다시 만든 해시 (다시 해시할 필요가 없으면 null)
+    ) {
+        private static final Result MATCH = new Result(true, null);
+        private static final Result MISMATCH = new Result(false, null);
+    }
+
+    /**
+     * 해시 풀 스레드 팩토리 (스레드 덤프에서 구분할 수 있도록 이름 지정)
+     */
+    private static final class HashThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * kid(Key ID)로 구분되는 JWT 서명 키 묶음
+ * <p>
+ * 새 토큰은 현재 키로 서명하고, 검증 시에는 토큰 헤더의 kid로 키를 한 번에 찾으므로
+ * 키를 교체해도 이전 키로 서명된 토큰은 키 파일에서 제거될 때까지 계속 유효함 (재로그인 폭주 방지)
+ * 키 파일은 주기적으로 수정 시각을 확인하여 재시작 없이 다시 읽으며, 읽기에 실패하면 기존 키를 유지
+ * <p>
+ * jwt.secret으로 만든 키는 항상 {@value #DEFAULT_KEY_ID}로 등록되어 kid가 없는 기존 토큰 검증과
+ * 키 파일이 없는 환경의 서명에 사용됨
+ *
+ * <pre>
+ * {
+ *   "current": "2026-10",
+ *   "keys": [
+ *     { "kid": "2026-10", "alg": "HS512", "secret": "base64..." },
+ *     { "kid": "2026-07", "alg": "HS256", "secret": "base64..." }
+ *   ]
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class SigningKeyRing extends SigningKeyResolverAdapter {
+
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private final ObjectMapper objectMapper;
+    private final SigningKey defaultKey;
+    private final Path keyFile;
+
+    /**
+     * 현재 키 묶음 (교체 시 통째로 바꾸므로 읽는 쪽은 잠금 없이 일관된 묶음을 봄)
+     */
+    private volatile KeySet keySet;
+
+    /**
+     * 마지막으로 읽은 키 파일의 수정 시각 (reload는 스케줄러 스레드 하나에서만 실행)
+     */
+    private FileTime loadedModifiedTime;
+
+    public SigningKeyRing(
+        ObjectMapper objectMapper,
+        @Value("${jwt.secret}") String secretKey,
+        @Value("${jwt.keys.file:}") String keyFile
+    ) {
+        this.objectMapper = objectMapper;
+        Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.defaultKey = new SigningKey(DEFAULT_KEY_ID, SignatureAlgorithm.forSigningKey(key), key);
+        this.keyFile = keyFile.isBlank() ? null : Path.of(keyFile);
+        this.keySet = new KeySet(defaultKey, Map.of(DEFAULT_KEY_ID, defaultKey));
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 현재 키
+     */
+    public SigningKey currentKey() {
+        return keySet.current();
+    }
+
+    /**
+     * 해당 kid의 키가 아직 검증에 사용 가능한지 여부
+     *
+     * @param keyId 키 ID (null이면 기본 키)
+     */
+    public boolean isActive(String keyId) {
+        return keySet.keys().containsKey(keyId == null ? DEFAULT_KEY_ID : keyId);
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키를 찾음
+     * jjwt 0.11의 SigningKeyResolver는 JwsHeader를 raw 타입으로 선언하므로 같은 시그니처로만 재정의할 수 있음
+     * (JwsHeader&lt;?&gt;로 선언하면 소거 후 시그니처가 같아 이름 충돌), 헤더 값만 꺼내 {@link #resolveKey}에 위임
+     *
+     * @throws SignatureException 알 수 없는 kid이거나 알고리즘이 일치하지 않는 경우
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return resolveKey(header.getKeyId(), header.getAlgorithm());
+    }
+
+    /**
+     * kid로 검증 키를 찾음
+     * 헤더의 알고리즘이 키에 지정된 알고리즘과 다르면 거부하여 알고리즘 혼동 공격을 막음
+     *
+     * @param keyId     토큰 헤더의 kid (null이면 기본 키)
+     * @param algorithm 토큰 헤더의 alg
+     * @return 검증 키
+     * @throws SignatureException 알 수 없는 kid이거나 알고리즘이 일치하지 않는 경우
+     */
+    public Key resolveKey(String keyId, String algorithm) {
+        String resolvedKeyId = keyId == null ? DEFAULT_KEY_ID : keyId;
+        SigningKey signingKey = keySet.keys().get(resolvedKeyId);
+        if (signingKey == null) {
+            throw new SignatureException("Unknown signing key id: " + resolvedKeyId);
+        }
+        if (!signingKey.algorithm().getValue().equals(algorithm)) {
+            throw new SignatureException("Algorithm mismatch for key id: " + resolvedKeyId);
+        }
+        return signingKey.key();
+    }
+
+    /**
+     * 키 파일이 변경되었으면 다시 읽어 키 묶음을 교체
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval-ms:30000}")
+    public synchronized void reload() {
+        if (keyFile == null || !Files.exists(keyFile)) {
+            return;
+        }
+
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(keyFile);
+            if (modifiedTime.equals(loadedModifiedTime)) {
+                return;
+            }
+
+            keySet = parse(objectMapper.readValue(keyFile.toFile(), KeyFile.class));
+            loadedModifiedTime = modifiedTime;
+            log.info("JWT 서명 키 로드 완료 - current: {}, keys: {}",
+                keySet.current().keyId(), keySet.keys().keySet());
+        } catch (IOException | RuntimeException e) {
+            log.error("JWT 서명 키 파일 로드 실패, 기존 키 유지 - file: {}", keyFile, e);
+        }
+    }
+
+    /**
+     * 키 파일 내용을 검증하고 키 묶음으로 변환
+     *
+     * @throws IllegalArgumentException 현재 키가 없거나, 키 길이가 알고리즘에 비해 짧은 경우
+     */
+    private KeySet parse(KeyFile file) {
+        Map<String, SigningKey> keys = new HashMap<>();
+        keys.put(DEFAULT_KEY_ID, defaultKey);
+
+        for (KeyEntry entry : file.keys()) {
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(entry.alg());
+            if (!algorithm.isHmac()) {
+                throw new IllegalArgumentException("Unsupported signing algorithm: " + entry.alg());
+            }
+            Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(entry.secret()));
+            algorithm.assertValidSigningKey(key);
+            keys.put(entry.kid(), new SigningKey(entry.kid(), algorithm, key));
+        }
+
+        SigningKey current = keys.get(file.current());
+        if (current == null) {
+            throw new IllegalArgumentException("Current key id not found: " + file.current());
+        }
+        return new KeySet(current, Map.copyOf(keys));
+    }
+
+    /**
+     * 서명 키
+     */
+    public record SigningKey(
+        String keyId,                  // 토큰 헤더의 kid
+        SignatureAlgorithm algorithm,  // 서명 알고리즘
+        Key key                        // 서명 및 검증 키
+    ) {
+    }
+
+    private record KeySet(SigningKey current, Map<String, SigningKey> keys) {
+    }
+
+    private record KeyFile(String current, List<KeyEntry> keys) {
+    }
+
+    private record KeyEntry(String kid, String alg, String secret) {
+    }
+}
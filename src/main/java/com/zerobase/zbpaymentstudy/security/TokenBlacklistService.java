@@ -1,45 +1,149 @@
 package com.zerobase.zbpaymentstudy.security;
 
+import com.zerobase.zbpaymentstudy.common.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.Date;
 
 /**
  * 로그아웃된 JWT 토큰을 관리하는 서비스
  * 블랙리스트에 등록된 토큰은 더 이상 유효하지 않은 것으로 간주
+ * <p>
+ * - 토큰은 원문 대신 128비트 다이제스트로 보관
+ * - 조회는 Bloom 필터를 먼저 확인하므로 대부분의 "블랙리스트 아님" 응답은 맵 조회 없이 결정됨
+ * - 만료된 항목은 만료 시각 순 우선순위 큐를 백그라운드에서 주기적으로 비우며 제거하고,
+ *   제거가 있었다면 남은 항목으로 Bloom 필터를 다시 만듦
+ * - 추가된 항목은 {@link BlacklistJournal}에 기록되어 재시작 후에도 유지됨
  */
+@Slf4j
 @Service
 public class TokenBlacklistService {
-    private final ConcurrentMap<String, Date> blacklist = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<TokenDigest, Long> blacklist = new ConcurrentHashMap<>();
+    private final PriorityQueue<ExpiringDigest> expiryQueue = new PriorityQueue<>();
+    private final Object lock = new Object();
+    private final BlacklistJournal journal;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    /**
+     * 조회 경로에서 잠금 없이 읽도록 volatile로 교체
+     * 추가와 재생성은 lock 안에서만 수행하여 새 필터에 누락되는 항목이 없도록 함
+     */
+    private volatile BloomFilter filter;
+
+    public TokenBlacklistService(
+        @Value("${jwt.blacklist.expected-entries:100000}") long expectedEntries,
+        @Value("${jwt.blacklist.false-positive-rate:0.001}") double falsePositiveRate,
+        BlacklistJournal journal
+    ) {
+        this.journal = journal;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * 디스크에 보관된 블랙리스트 복원
+     */
+    @PostConstruct
+    public void restore() {
+        synchronized (lock) {
+            journal.load(this::register, System.currentTimeMillis());
+        }
+    }
 
     /**
      * 토큰을 블랙리스트에 추가
      *
-     * @param token 블랙리스트에 추가할 토큰
+     * @param digest     블랙리스트에 추가할 토큰의 다이제스트
      * @param expiryDate 토큰의 만료 시간
      */
-    public void addToBlacklist(String token, Date expiryDate) {
-        blacklist.put(token, expiryDate);
-        removeExpiredTokens();
+    public void addToBlacklist(TokenDigest digest, Date expiryDate) {
+        long expiresAt = expiryDate.getTime();
+        if (expiresAt <= System.currentTimeMillis()) {
+            return; // 이미 만료된 토큰은 검증 단계에서 거부됨
+        }
+        synchronized (lock) {
+            register(digest, expiresAt);
+            journal.append(digest, expiresAt);
+        }
     }
 
     /**
      * 토큰이 블랙리스트에 있는지 확인
      *
-     * @param token 확인할 토큰
+     * @param digest 확인할 토큰의 다이제스트
      * @return 블랙리스트에 있으면 true, 없으면 false
      */
-    public boolean isBlacklisted(String token) {
-        removeExpiredTokens();
-        return blacklist.containsKey(token);
+    public boolean isBlacklisted(TokenDigest digest) {
+        if (!filter.mightContain(digest.high(), digest.low())) {
+            return false;
+        }
+        Long expiresAt = blacklist.get(digest);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
     }
 
     /**
      * 만료된 토큰을 블랙리스트에서 제거
+     * 우선순위 큐의 앞쪽(가장 먼저 만료되는 항목)만 확인하므로 제거할 항목 수에 비례한 비용만 듦
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sweep-interval-ms:60000}")
+    public void removeExpiredTokens() {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            int removed = 0;
+            while (!expiryQueue.isEmpty() && expiryQueue.peek().expiresAt() <= now) {
+                ExpiringDigest expired = expiryQueue.poll();
+                blacklist.remove(expired.digest(), expired.expiresAt());
+                removed++;
+            }
+            if (removed == 0) {
+                return;
+            }
+
+            BloomFilter rebuilt = new BloomFilter(
+                Math.max(expectedEntries, blacklist.size() * 2L), falsePositiveRate);
+            blacklist.keySet().forEach(digest -> rebuilt.put(digest.high(), digest.low()));
+            filter = rebuilt;
+            log.debug("만료된 블랙리스트 토큰 제거 - removed: {}, remaining: {}", removed, blacklist.size());
+        }
+    }
+
+    /**
+     * 살아 있는 항목으로 스냅샷을 다시 만들고 저널을 비움
+     * 만료된 항목은 스냅샷에 포함되지 않음
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.persistence.compact-interval-ms:600000}")
+    public void compactJournal() {
+        synchronized (lock) {
+            journal.compact(blacklist, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 메모리 자료구조에 항목 등록 (lock 안에서 호출)
+     */
+    private void register(TokenDigest digest, long expiresAt) {
+        blacklist.put(digest, expiresAt);
+        expiryQueue.add(new ExpiringDigest(digest, expiresAt));
+        filter.put(digest.high(), digest.low());
+    }
+
+    /**
+     * 만료 시각 순으로 정렬되는 블랙리스트 항목
      */
-    private void removeExpiredTokens() {
-        Date now = new Date();
-        blacklist.entrySet().removeIf(entry -> entry.getValue().before(now));
+    private record ExpiringDigest(TokenDigest digest, long expiresAt) implements Comparable<ExpiringDigest> {
+        @Override
+        public int compareTo(ExpiringDigest other) {
+            return Long.compare(expiresAt, other.expiresAt);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * JWT 원문 대신 사용하는 고정 크기(128비트) 토큰 식별자
+ * SHA-256 다이제스트의 앞 16바이트로, 토큰 길이와 무관하게 두 개의 long으로 비교/해시됨
+ */
+public record TokenDigest(long high, long low) {
+
+    /**
+     * 토큰 원문으로부터 다이제스트 계산
+     *
+     * @param token JWT 원문
+     * @return 토큰 다이제스트
+     */
+    public static TokenDigest of(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new TokenDigest(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberTokenEpoch;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 회원별 토큰 세대 번호를 노드마다 복제해 두는 레지스트리
+ * <p>
+ * 전체 로그아웃은 member.token_version을 증가시키는 한 행 갱신이며, 각 노드는 (updated_at, id) 커서로
+ * 변경된 회원만 주기적으로 읽어 반영하므로 다른 노드에서 일어난 로그아웃도 곧바로 적용됨
+ * 세대 번호가 0보다 큰(전체 로그아웃을 한 적이 있는) 회원만 보관하므로 맵은 작게 유지되고,
+ * 토큰 검증은 맵 조회 한 번으로 끝남
+ */
+@Slf4j
+@Component
+public class TokenEpochRegistry {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+
+    /**
+     * 노드 간 시계 차이로 커서보다 이전 시각이 기록된 변경을 놓치지 않도록 커서를 이만큼 앞당겨 다시 읽음
+     */
+    private final Duration clockSkew;
+
+    private final ConcurrentMap<String, Integer> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 마지막으로 반영한 회원의 수정 시각 (refresh는 스케줄러 스레드 하나에서만 실행)
+     */
+    private LocalDateTime cursor = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public TokenEpochRegistry(
+        MemberRepository memberRepository,
+        @Value("${jwt.token-epoch.clock-skew:5s}") Duration clockSkew
+    ) {
+        this.memberRepository = memberRepository;
+        this.clockSkew = clockSkew;
+    }
+
+    /**
+     * 회원의 현재 토큰 세대 번호
+     *
+     * @param email 회원 이메일
+     * @return 토큰 세대 번호 (전체 로그아웃을 한 적이 없으면 0)
+     */
+    public int currentVersion(String email) {
+        return versions.getOrDefault(email, 0);
+    }
+
+    /**
+     * 로컬 노드에 새 세대 번호를 즉시 반영 (전체 로그아웃을 처리한 노드에서 호출)
+     *
+     * @param email   회원 이메일
+     * @param version 새 토큰 세대 번호
+     */
+    public void advance(String email, int version) {
+        versions.merge(email, version, Math::max);
+    }
+
+    /**
+     * 커서 이후 변경된 회원의 토큰 세대 번호를 읽어 반영
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.token-epoch.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        LocalDateTime from = cursor.minus(clockSkew);
+        Long afterId = 0L;
+        int applied = 0;
+
+        while (true) {
+            List<MemberTokenEpoch> batch = memberRepository.findTokenEpochsAfter(
+                from, afterId, PageRequest.of(0, BATCH_SIZE));
+            for (MemberTokenEpoch epoch : batch) {
+                advance(epoch.email(), epoch.tokenVersion());
+                if (epoch.updatedAt().isAfter(cursor)) {
+                    cursor = epoch.updatedAt();
+                }
+            }
+            applied += batch.size();
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            MemberTokenEpoch last = batch.get(batch.size() - 1);
+            from = last.updatedAt();
+            afterId = last.memberId();
+        }
+
+        if (applied > 0) {
+            log.debug("토큰 세대 번호 동기화 - applied: {}, tracked: {}", applied, versions.size());
+        }
+    }
+}
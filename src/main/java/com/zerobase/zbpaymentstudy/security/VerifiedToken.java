@@ -0,0 +1,16 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 토큰에서 인증에 필요한 값만 추출한 불변 객체
+ */
+public record VerifiedToken(
+    String subject,       // 토큰 주체 (회원 이메일)
+    List<String> roles,   // 권한 목록 (예: ROLE_USER)
+    int tokenVersion,     // 토큰 세대 번호 (ver 클레임)
+    String keyId,         // 서명 키 ID (kid 헤더, 없으면 null)
+    Instant expiresAt     // 토큰 만료 시각
+) {
+}
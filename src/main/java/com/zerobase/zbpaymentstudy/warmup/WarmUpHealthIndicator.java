@@ -0,0 +1,35 @@
+package com.zerobase.zbpaymentstudy.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 예열 진행 상태와 결과를 보고하는 헬스 지표 (health 그룹 이름: warmUp)
+ * 예열이 끝나기 전에는 OUT_OF_SERVICE로 보고하여 준비 상태 프로브가 트래픽을 보내지 않도록 함
+ * 예열이 실패해도 요청은 처리할 수 있으므로 UP으로 보고하고 원인만 함께 표시
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUpRunner warmUpRunner;
+
+    @Override
+    public Health health() {
+        WarmUpReport report = warmUpRunner.report();
+        Health.Builder builder = report.isFinished() ? Health.up() : Health.outOfService();
+        builder.withDetail("state", report.state())
+            .withDetail("durationMs", report.durationMs())
+            .withDetail("storesLoaded", report.storesLoaded())
+            .withDetail("rounds", report.rounds())
+            .withDetail("compilationSettled", report.compilationSettled())
+            .withDetail("compilationTimeMs", report.compilationTimeMs())
+            .withDetail("failures", report.failures());
+        if (report.error() != null) {
+            builder.withDetail("error", report.error());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.zerobase.zbpaymentstudy.warmup;
+
+/**
+ * 시작 시 예열 결과
+ */
+public record WarmUpReport(
+    State state,                 // 진행 상태
+    long durationMs,             // 예열에 걸린 시간
+    int storesLoaded,            // 캐시에 적재한 인기 매장 수
+    int rounds,                  // 합성 호출 반복 횟수
+    boolean compilationSettled,  // 마지막 반복들 동안 JIT 컴파일 시간이 거의 늘지 않았는지 여부
+    long compilationTimeMs,      // 예열 동안 늘어난 JIT 컴파일 시간 (측정할 수 없으면 -1)
+    int failures,                // 실패한 합성 호출 수
+    String error                 // 예열이 중단된 경우 원인
+) {
+
+    public enum State {
+        PENDING,     // 시작 전
+        RUNNING,     // 진행 중
+        COMPLETED,   // 완료
+        FAILED,      // 오류로 중단 (요청 처리는 가능)
+        DISABLED     // 설정으로 비활성화
+    }
+
+    static WarmUpReport of(State state) {
+        return new WarmUpReport(state, 0, 0, 0, false, -1, 0, null);
+    }
+
+    /**
+     * 예열이 끝나 요청을 받을 수 있는 상태인지 여부
+     */
+    public boolean isFinished() {
+        return state != State.PENDING && state != State.RUNNING;
+    }
+}
@@ -0,0 +1,207 @@
+package com.zerobase.zbpaymentstudy.warmup;
+
+import com.zerobase.zbpaymentstudy.domain.member.cache.EmailBloomFilter;
+import com.zerobase.zbpaymentstudy.domain.review.service.ReviewService;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreSearchCriteria;
+import com.zerobase.zbpaymentstudy.domain.store.service.StoreService;
+import com.zerobase.zbpaymentstudy.security.JwtTokenProvider;
+import com.zerobase.zbpaymentstudy.security.TokenEpochRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청을 받기 전에 캐시, 인메모리 인덱스, JIT를 예열하는 시작 작업
+ * <p>
+ * ApplicationRunner는 준비 상태(readiness)가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로
+ * 예열이 끝날 때까지 트래픽을 받지 않음
+ * 1. 이메일 Bloom 필터와 토큰 세대 목록을 미리 적재
+ * 2. 가중 평점 상위 매장의 검색 페이지, 매장 정보, 요약, 첫 리뷰 페이지를 캐시에 적재
+ * 3. 매장 검색, 리뷰 조회, 토큰 검증을 반복 호출하여 JIT 컴파일 시간이 연속으로 거의 늘지 않을 때까지 실행
+ * 예열은 최대 시간 안에서만 실행하며, 실패해도 시작을 막지 않고 결과만 헬스 지표로 보고
+ */
+@Slf4j
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final String SYNTHETIC_EMAIL = "warm-up@localhost";
+    private static final List<SimpleGrantedAuthority> SYNTHETIC_AUTHORITIES =
+        List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+    private static final StoreSearchCriteria BY_RATING = new StoreSearchCriteria(
+        null, null, null, null, StoreSearchCriteria.SORT_BY_RATING, StoreSearchCriteria.SORT_DESC);
+    private static final StoreSearchCriteria BY_NAME = new StoreSearchCriteria(
+        null, null, null, null, StoreSearchCriteria.SORT_BY_NAME, StoreSearchCriteria.SORT_ASC);
+
+    private final StoreService storeService;
+    private final ReviewService reviewService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final boolean enabled;
+    private final int topStores;
+    private final Duration maxDuration;
+    private final int callsPerRound;
+    private final int maxRounds;
+    private final int settleRounds;
+    private final long settleThresholdMs;
+
+    private volatile WarmUpReport report = WarmUpReport.of(WarmUpReport.State.PENDING);
+
+    /**
+     * 실패한 합성 호출 수 (예열 스레드에서만 변경)
+     */
+    private int failures;
+
+    public WarmUpRunner(
+        StoreService storeService,
+        ReviewService reviewService,
+        JwtTokenProvider jwtTokenProvider,
+        EmailBloomFilter emailBloomFilter,
+        TokenEpochRegistry tokenEpochRegistry,
+        @Value("${warm-up.enabled:true}") boolean enabled,
+        @Value("${warm-up.top-stores:100}") int topStores,
+        @Value("${warm-up.max-duration:30s}") Duration maxDuration,
+        @Value("${warm-up.calls-per-round:200}") int callsPerRound,
+        @Value("${warm-up.max-rounds:100}") int maxRounds,
+        @Value("${warm-up.settle-rounds:3}") int settleRounds,
+        @Value("${warm-up.settle-threshold-ms:5}") long settleThresholdMs
+    ) {
+        this.storeService = storeService;
+        this.reviewService = reviewService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.emailBloomFilter = emailBloomFilter;
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.enabled = enabled;
+        this.topStores = topStores;
+        this.maxDuration = maxDuration;
+        this.callsPerRound = callsPerRound;
+        this.maxRounds = maxRounds;
+        this.settleRounds = settleRounds;
+        this.settleThresholdMs = settleThresholdMs;
+    }
+
+    public WarmUpReport report() {
+        return report;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            report = WarmUpReport.of(WarmUpReport.State.DISABLED);
+            return;
+        }
+        report = WarmUpReport.of(WarmUpReport.State.RUNNING);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+        int storesLoaded = 0;
+
+        try {
+            emailBloomFilter.refresh();
+            tokenEpochRegistry.refresh();
+
+            List<Long> storeIds = loadTopStores();
+            storesLoaded = storeIds.size();
+
+            CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+            boolean measurable = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+            long compilationStart = measurable ? compiler.getTotalCompilationTime() : 0;
+            long previous = compilationStart;
+            int rounds = 0;
+            int quietRounds = 0;
+            while (rounds < maxRounds && quietRounds < settleRounds && System.nanoTime() < deadline) {
+                runRound(storeIds, rounds++);
+                if (measurable) {
+                    long total = compiler.getTotalCompilationTime();
+                    quietRounds = total - previous <= settleThresholdMs ? quietRounds + 1 : 0;
+                    previous = total;
+                }
+            }
+
+            report = new WarmUpReport(WarmUpReport.State.COMPLETED, elapsedMs(startedAt), storesLoaded, rounds,
+                quietRounds >= settleRounds, measurable ? previous - compilationStart : -1, failures, null);
+            log.info("예열 완료 - {}", report);
+        } catch (RuntimeException e) {
+            report = new WarmUpReport(WarmUpReport.State.FAILED, elapsedMs(startedAt), storesLoaded, 0,
+                false, -1, failures, e.getMessage());
+            log.warn("예열 중단", e);
+        }
+    }
+
+    /**
+     * 가중 평점 상위 매장을 요청과 같은 페이지 크기로 검색하고, 각 매장의 정보, 요약, 첫 리뷰 페이지를 캐시에 적재
+     * 평점 정렬 검색은 (가중 평점, ID) 순서로 조회하므로 앞쪽 페이지부터 설정한 수만큼만 사용
+     *
+     * @return 정보, 요약, 첫 리뷰 페이지를 모두 적재한 매장 ID 목록
+     */
+    private List<Long> loadTopStores() {
+        List<Long> candidates = new ArrayList<>();
+        int pageSize = FIRST_PAGE.getPageSize();
+        for (int page = 0; candidates.size() < topStores; page++) {
+            List<StoreDto> stores = storeService.findStores(PageRequest.of(page, pageSize), BY_RATING).getContent();
+            stores.stream()
+                .limit(topStores - candidates.size())
+                .forEach(store -> candidates.add(store.id()));
+            if (stores.size() < pageSize) {
+                break;
+            }
+        }
+
+        List<Long> storeIds = new ArrayList<>(candidates.size());
+        for (Long storeId : candidates) {
+            // 세 호출을 모두 실행한 뒤 하나라도 실패하면 적재한 매장으로 세지 않음
+            boolean loaded = call(() -> storeService.getStore(storeId))
+                & call(() -> storeService.getStoreSummary(storeId))
+                & call(() -> reviewService.getStoreReviews(storeId, FIRST_PAGE));
+            if (loaded) {
+                storeIds.add(storeId);
+            }
+        }
+        return storeIds;
+    }
+
+    /**
+     * 실제 요청과 같은 경로로 검색, 리뷰 조회, 토큰 검증을 반복 호출
+     * 반복마다 새 토큰을 만들어 서명 검증 경로와 검증 캐시 적중 경로를 모두 실행
+     */
+    private void runRound(List<Long> storeIds, int round) {
+        String token = jwtTokenProvider.createToken(SYNTHETIC_EMAIL, SYNTHETIC_AUTHORITIES);
+        for (int i = 0; i < callsPerRound; i++) {
+            int index = i;
+            call(() -> storeService.findStores(FIRST_PAGE, index % 2 == 0 ? BY_RATING : BY_NAME));
+            if (!storeIds.isEmpty()) {
+                Long storeId = storeIds.get((round * callsPerRound + i) % storeIds.size());
+                call(() -> reviewService.getStoreReviews(storeId, FIRST_PAGE));
+            }
+            call(() -> jwtTokenProvider.validateToken(token));
+            call(() -> jwtTokenProvider.getAuthentication(token));
+        }
+    }
+
+    private boolean call(Runnable action) {
+        try {
+            action.run();
+            return true;
+        } catch (RuntimeException e) {
+            failures++;
+            log.debug("예열 호출 실패 - {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+}
@@ -0,0 +1,128 @@
+package com.zerobase.zbpaymentstudy.aop;
+
+import com.zerobase.zbpaymentstudy.controller.StoreController;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreJsonCache;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreRegisterDto;
+import com.zerobase.zbpaymentstudy.domain.store.service.StoreService;
+import com.zerobase.zbpaymentstudy.exception.BusinessException;
+import com.zerobase.zbpaymentstudy.exception.ErrorCode;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 컨트롤러 실행 시간 측정 AOP 테스트 클래스
+ * 컨트롤러 호출이 결과와 에러 코드별 api.controller 타이머에 백분위 히스토그램과 함께 기록되는지 확인
+ */
+class LoggingAspectTest {
+
+    private static final Long STORE_ID = 1L;
+
+    private StoreService storeService;
+    private SimpleMeterRegistry meterRegistry;
+    private StoreController controller;
+
+    /**
+     * 컨트롤러 메서드별로 타이머를 등록할 때 지정한 분포 설정
+     */
+    private final Map<String, DistributionStatisticConfig> histogramConfigs = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        storeService = mock(StoreService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                histogramConfigs.put(id.getTag("method"), config);
+                return config;
+            }
+        });
+        AspectJProxyFactory proxyFactory =
+            new AspectJProxyFactory(new StoreController(storeService, mock(StoreJsonCache.class)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggingAspect(meterRegistry, Duration.ofSeconds(10), 0.0));
+        controller = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("성공한 호출은 같은 타이머에 누적되고 백분위 히스토그램을 함께 기록한다")
+    void successfulCallsAreTimed() {
+        // when
+        controller.getStoreSummary(STORE_ID);
+        controller.getStoreSummary(STORE_ID);
+
+        // then
+        Timer timer = timer("getStoreSummary", "SUCCESS", "NONE");
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(meterRegistry.find("api.controller").timers()).hasSize(1);
+        DistributionStatisticConfig histogram = histogramConfigs.get("getStoreSummary");
+        assertThat(histogram.isPercentileHistogram()).isTrue();
+        assertThat(histogram.getMinimumExpectedValueAsDouble()).isEqualTo(Duration.ofMillis(1).toNanos());
+        assertThat(histogram.getMaximumExpectedValueAsDouble()).isEqualTo(Duration.ofSeconds(10).toNanos());
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 응답 상태에 맞는 결과와 에러 코드로 기록하고 그대로 다시 던진다")
+    void businessExceptionIsTimedByErrorCode() {
+        // given
+        when(storeService.getStoreSummary(STORE_ID)).thenThrow(new BusinessException(ErrorCode.STORE_NOT_FOUND));
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> controller.getStoreSummary(STORE_ID));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.STORE_NOT_FOUND);
+        assertThat(timer("getStoreSummary", "CLIENT_ERROR", "STORE_NOT_FOUND").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리되지 않은 예외는 서버 오류로 기록한다")
+    void unexpectedExceptionIsServerError() {
+        // given
+        when(storeService.getStoreSummary(STORE_ID)).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> controller.getStoreSummary(STORE_ID));
+
+        // then
+        assertThat(timer("getStoreSummary", "SERVER_ERROR", "INTERNAL_SERVER_ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("컨트롤러가 직접 만든 오류 응답은 응답 상태로 결과를 기록한다")
+    void errorResponseIsTimedByStatus() {
+        // given
+        StoreRegisterDto registerDto = new StoreRegisterDto("테스트 매장", "서울시 강남구", "설명", 37.5, 127.0);
+        when(storeService.registerStore(any(), any())).thenThrow(new IllegalArgumentException("권한 없음"));
+
+        // when
+        controller.registerStore("partner@test.com", registerDto);
+
+        // then
+        assertThat(timer("registerStore", "CLIENT_ERROR", "NONE").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String method, String outcome, String error) {
+        return meterRegistry.get("api.controller")
+            .tags("controller", "StoreController", "method", method, "outcome", outcome, "error", error)
+            .timer();
+    }
+}
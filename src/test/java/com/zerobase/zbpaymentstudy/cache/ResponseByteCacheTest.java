@@ -0,0 +1,95 @@
+package com.zerobase.zbpaymentstudy.cache;
+
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 응답 바이트 캐시 테스트 클래스
+ * 대리 키 단위 제거와, 응답을 만드는 도중 제거가 일어난 경우 오래된 응답을 저장하지 않는 세대 확인을 검증
+ */
+class ResponseByteCacheTest {
+
+    private static final String STORE_1 = ResponseByteCache.storeKey(1L);
+    private static final String STORE_2 = ResponseByteCache.storeKey(2L);
+
+    private CacheInvalidationBus invalidationBus;
+    private ResponseByteCache cache;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = mock(CacheInvalidationBus.class);
+        cache = new ResponseByteCache(1024 * 1024, Duration.ofMinutes(5), invalidationBus);
+    }
+
+    @Test
+    @DisplayName("대리 키를 제거하면 그 키에 속한 응답만 모두 제거되고 다른 노드에 전파된다")
+    void purgeRemovesOnlySurrogateEntries() {
+        // given
+        cache.put("/stores/1?page=0", response(STORE_1), cache.generation(STORE_1));
+        cache.put("/stores/1?page=1", response(STORE_1), cache.generation(STORE_1));
+        cache.put("/stores/2?page=0", response(STORE_2), cache.generation(STORE_2));
+
+        // when
+        cache.purge(STORE_1);
+
+        // then
+        assertThat(cache.get("/stores/1?page=0")).isNull();
+        assertThat(cache.get("/stores/1?page=1")).isNull();
+        assertThat(cache.get("/stores/2?page=0")).isNotNull();
+        verify(invalidationBus).publish("responses", STORE_1);
+    }
+
+    @Test
+    @DisplayName("응답을 만드는 도중 대리 키가 제거되면 그 응답은 저장되지 않는다")
+    void staleGenerationIsNotStored() {
+        // given: 응답을 만들기 전에 세대 번호를 읽어 둠
+        long generation = cache.generation(STORE_1);
+
+        // when: 응답을 만드는 사이에 리뷰가 변경되어 제거됨
+        cache.purge(STORE_1);
+        cache.put("/stores/1?page=0", response(STORE_1), generation);
+
+        // then
+        assertThat(cache.get("/stores/1?page=0")).isNull();
+        assertThat(cache.generation(STORE_1)).isNotEqualTo(generation);
+
+        // when: 제거 이후 다시 만든 응답은 저장됨
+        cache.put("/stores/1?page=0", response(STORE_1), cache.generation(STORE_1));
+
+        // then
+        assertThat(cache.get("/stores/1?page=0")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 대리 키 제거도 적용된다")
+    @SuppressWarnings("unchecked")
+    void remotePurgeIsApplied() {
+        // given
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq("responses"), handler.capture());
+        cache.put("/stores/1?page=0", response(STORE_1), cache.generation(STORE_1));
+
+        // when
+        handler.getValue().accept(STORE_1);
+
+        // then
+        assertThat(cache.get("/stores/1?page=0")).isNull();
+    }
+
+    private static CachedResponse response(String surrogateKey) {
+        byte[] body = ("{\"store\":\"" + surrogateKey + "\"}").getBytes(StandardCharsets.UTF_8);
+        return new CachedResponse(surrogateKey, "application/json", "\"etag\"", body, body);
+    }
+}
@@ -0,0 +1,155 @@
+package com.zerobase.zbpaymentstudy.cache.hotkey;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 핫 키 근접 캐시 테스트 클래스
+ * 모든 접근을 샘플링하도록 설정하여 최소 횟수에 도달한 키가 고정되고, 감쇠 후 식으면 고정이 해제되는지 확인
+ */
+class PinnedNearCacheTest {
+
+    private static final int MIN_COUNT = 3;
+
+    private HotKeyRegistry registry;
+    private PinnedNearCache<String, String> nearCache;
+
+    /**
+     * 일반 캐시 조회 횟수
+     */
+    private AtomicInteger sourceCalls;
+
+    /**
+     * 일반 캐시에 들어 있는 값
+     */
+    private String sourceValue;
+
+    @BeforeEach
+    void setUp() {
+        registry = new HotKeyRegistry(1.0, 2, MIN_COUNT, 1024, 4);
+        nearCache = registry.nearCache("test");
+        sourceCalls = new AtomicInteger();
+        sourceValue = "v1";
+    }
+
+    @Test
+    @DisplayName("최소 횟수에 도달한 키는 고정되어 일반 캐시를 거치지 않는다")
+    void hotKeyIsPinned() {
+        // given
+        for (int i = 0; i < MIN_COUNT; i++) {
+            get("hot");
+        }
+
+        // when
+        sourceValue = "v2";
+        String pinned = get("hot");
+
+        // then
+        assertThat(pinned).isEqualTo("v1");
+        assertThat(sourceCalls).hasValue(MIN_COUNT);
+        assertThat(registry.snapshot().get("test"))
+            .extracting(HotKey::key, HotKey::pinned)
+            .containsExactly(tuple("hot", true));
+    }
+
+    @Test
+    @DisplayName("감쇠 후 더 이상 핫 키가 아니면 갱신 시 고정이 해제된다")
+    void cooledKeyIsUnpinned() {
+        // given
+        for (int i = 0; i <= MIN_COUNT; i++) {
+            get("hot");
+        }
+
+        // when
+        registry.decay();
+        registry.decay();
+        registry.refresh();
+        sourceValue = "v2";
+
+        // then
+        assertThat(get("hot")).isEqualTo("v2");
+        assertThat(registry.snapshot().get("test")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여전히 핫 키인 고정 항목은 갱신 시 다시 조회한 값으로 교체된다")
+    void hotKeyIsRefreshed() {
+        // given
+        for (int i = 0; i < MIN_COUNT; i++) {
+            get("hot");
+        }
+
+        // when
+        sourceValue = "v2";
+        registry.refresh();
+
+        // then
+        assertThat(get("hot")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("무효화된 항목은 고정이 해제되고, 조회 도중 무효화되면 고정되지 않는다")
+    void invalidationUnpins() {
+        // given
+        for (int i = 0; i < MIN_COUNT; i++) {
+            get("hot");
+        }
+
+        // when
+        nearCache.remove("hot");
+        sourceValue = "v2";
+
+        // then
+        assertThat(get("hot")).isEqualTo("v2");
+
+        // when: 다시 고정하는 조회 도중 무효화가 일어남
+        nearCache.remove("hot");
+        nearCache.get("hot", () -> sourceValue, () -> {
+            nearCache.removeIf((key, value) -> true);
+            return "stale";
+        });
+        sourceValue = "v3";
+
+        // then
+        assertThat(get("hot")).isEqualTo("v3");
+    }
+
+    @Test
+    @DisplayName("후보가 가득 차면 가장 덜 쓰인 키가 더 자주 쓰인 키로 교체된다")
+    void coldestCandidateIsReplaced() {
+        // given
+        HotKeyDetector<String> detector = nearCache.detector();
+        record(detector, "a", MIN_COUNT + 5);
+        record(detector, "b", MIN_COUNT);
+
+        // when
+        record(detector, "c", MIN_COUNT + 1);
+
+        // then
+        assertThat(detector.hotKeys()).containsExactlyInAnyOrder("a", "c");
+        assertThat(detector.snapshot(key -> false)).extracting(HotKey::key)
+            .isEqualTo(List.of("a", "c"));
+    }
+
+    private String get(String key) {
+        Supplier<String> source = () -> {
+            sourceCalls.incrementAndGet();
+            return sourceValue;
+        };
+        return nearCache.get(key, () -> sourceValue, source);
+    }
+
+    private static void record(HotKeyDetector<String> detector, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.record(key);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 캐시 무효화 테스트 클래스
+ * 다른 노드에서 행이 추가/삭제되었다는 무효화를 받았을 때 해당 테이블을 읽는 쿼리 캐시만 무효화되는지 확인
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.yml", properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+    "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+    "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+    "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class EntityCacheInvalidatorTest {
+
+    private static final String OTHER_NODE = "other-node";
+    private static final String QUERY_REGION = "entity-queries";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private InvalidationTransport transport;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        memberRepository.save(Member.builder()
+            .email("cached@test.com")
+            .password("password1234")
+            .name("테스트 회원")
+            .role(MemberRole.USER)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+        // 수신함을 만들어 두고 저장으로 쌓인 무효화를 비움
+        invalidationBus.poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("다른 테이블의 행 추가/삭제는 캐시된 쿼리 결과를 무효화하지 않는다")
+    void otherTableKeepsQueryCache() {
+        // given
+        memberRepository.findByEmail("cached@test.com");
+        long hits = statistics.getQueryCacheHitCount();
+
+        // when
+        receive(Store.class.getName());
+        memberRepository.findByEmail("cached@test.com");
+
+        // then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("같은 테이블의 행 추가/삭제는 캐시된 쿼리 결과를 무효화한다")
+    void sameTableInvalidatesQueryCache() {
+        // given
+        memberRepository.findByEmail("cached@test.com");
+        long hits = statistics.getQueryCacheHitCount();
+
+        // when
+        receive(Member.class.getName());
+        memberRepository.findByEmail("cached@test.com");
+
+        // then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits);
+    }
+
+    /**
+     * 다른 노드가 보낸 쿼리 캐시 무효화를 수신
+     */
+    private void receive(String entityName) {
+        transport.send(OTHER_NODE, List.of(new Invalidation(QUERY_REGION, entityName)));
+        invalidationBus.poll();
+    }
+}
@@ -0,0 +1,88 @@
+package com.zerobase.zbpaymentstudy.cache.invalidation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcInvalidationTransportTest {
+
+    private static final String NODE = "node-a";
+    private static final String OTHER_NODE = "node-b";
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcInvalidationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:invalidation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS cache_invalidation_log");
+        jdbcTemplate.execute("CREATE TABLE cache_invalidation_log (" +
+            "id BIGINT AUTO_INCREMENT PRIMARY KEY, region VARCHAR(50) NOT NULL, cache_key VARCHAR(512) NOT NULL, " +
+            "origin_node VARCHAR(36) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        transport = new JdbcInvalidationTransport(jdbcTemplate, 500, Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+        // 첫 수신은 시작 위치만 정함
+        transport.receive(NODE);
+    }
+
+    @Test
+    @DisplayName("한 번에 읽는 양보다 많은 로그가 쌓여도 멈추지 않고 다른 노드의 로그를 모두 수신")
+    void receivesBeyondReceiveLimit() {
+        // given - 자신이 보낸 로그가 한 번에 읽는 양보다 많고, 그 뒤에 다른 노드의 로그가 이어짐
+        transport.send(NODE, invalidations("own", 600));
+        transport.send(OTHER_NODE, invalidations("other", 1200));
+
+        // when
+        List<Invalidation> received = new ArrayList<>();
+        for (int poll = 0; poll < 10; poll++) {
+            received.addAll(transport.receive(NODE));
+        }
+
+        // then
+        assertThat(received).hasSize(1200);
+        assertThat(received).allMatch(invalidation -> invalidation.region().equals("other"));
+        assertThat(received).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("먼저 발급된 ID가 늦게 커밋되어도 다음 수신에서 한 번만 적용")
+    void receivesLateCommittedLogOnce() {
+        // given - ID 2가 비어 있는 상태로 ID 1, 3이 먼저 보임
+        insert(1, "first");
+        insert(3, "third");
+        List<Invalidation> before = transport.receive(NODE);
+
+        // when - ID 2가 늦게 커밋됨
+        insert(2, "late");
+        List<Invalidation> after = transport.receive(NODE);
+        List<Invalidation> again = transport.receive(NODE);
+
+        // then
+        assertThat(before).extracting(Invalidation::key).containsExactly("first", "third");
+        assertThat(after).extracting(Invalidation::key).containsExactly("late");
+        assertThat(again).isEmpty();
+    }
+
+    private void insert(long id, String key) {
+        jdbcTemplate.update("INSERT INTO cache_invalidation_log (id, region, cache_key, origin_node, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)", id, "stores", key, OTHER_NODE, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static List<Invalidation> invalidations(String region, int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new Invalidation(region, String.valueOf(i)))
+            .toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.zerobase.zbpaymentstudy.cache.offheap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapSlabCacheTest {
+
+    private static final int SLAB = OffHeapSlabCache.MAX_VALUE_SIZE;
+
+    @Test
+    @DisplayName("저장한 값을 그대로 읽고, 교체와 제거를 반영")
+    void readsReplacesAndRemoves() throws IOException {
+        // given
+        OffHeapSlabCache cache = new OffHeapSlabCache(SLAB * 4L, SLAB);
+        cache.put(1L, bytes("first"));
+        cache.put(2L, bytes("second"));
+
+        // when
+        cache.put(1L, bytes("replaced-with-a-longer-value".repeat(20)));
+        cache.remove(2L);
+
+        // then
+        assertThat(read(cache, 1L)).isEqualTo("replaced-with-a-longer-value".repeat(20));
+        assertThat(read(cache, 2L)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리 상한에 도달하면 최근에 읽지 않은 항목부터 교체")
+    void evictsUnreferencedEntriesFirst() throws IOException {
+        // given - 256바이트 슬롯 32개짜리 슬랩 하나
+        OffHeapSlabCache cache = new OffHeapSlabCache(SLAB, SLAB);
+        for (long key = 0; key < 32; key++) {
+            cache.put(key, bytes("value-" + key));
+        }
+        read(cache, 0L);
+
+        // when
+        cache.put(100L, bytes("value-100"));
+
+        // then
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(read(cache, 0L)).isEqualTo("value-0");
+        assertThat(read(cache, 1L)).isNull();
+        assertThat(read(cache, 100L)).isEqualTo("value-100");
+        assertThat(cache.allocatedBytes()).isEqualTo(SLAB);
+    }
+
+    @Test
+    @DisplayName("가장 큰 슬롯보다 큰 값은 저장하지 않고 이전 값도 제거")
+    void rejectsOversizedValues() throws IOException {
+        // given
+        OffHeapSlabCache cache = new OffHeapSlabCache(SLAB * 4L, SLAB);
+        cache.put(1L, bytes("small"));
+
+        // when
+        boolean stored = cache.put(1L, new byte[OffHeapSlabCache.MAX_VALUE_SIZE + 1]);
+
+        // then
+        assertThat(stored).isFalse();
+        assertThat(read(cache, 1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 거부")
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new OffHeapSlabCache(SLAB, SLAB - 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OffHeapSlabCache(SLAB - 1, SLAB))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String read(OffHeapSlabCache cache, long key) throws IOException {
+        String[] result = {null};
+        cache.read(key, (buffer, offset, length) ->
+            result[0] = new String(buffer, offset, length, StandardCharsets.UTF_8));
+        return result[0];
+    }
+}
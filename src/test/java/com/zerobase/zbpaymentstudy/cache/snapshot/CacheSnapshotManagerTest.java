@@ -0,0 +1,211 @@
+package com.zerobase.zbpaymentstudy.cache.snapshot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 스냅샷 관리자 테스트 클래스
+ * 메모리 섹션으로 기록한 스냅샷을 다시 읽어 복원하고, 손상되거나 형식이 다른 파일은 무시하고 삭제하는지 확인
+ */
+class CacheSnapshotManagerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @TempDir
+    private Path directory;
+
+    private Path path;
+    private SimpleMeterRegistry meterRegistry;
+    private InMemorySection section;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("cache-snapshot.bin");
+        meterRegistry = new SimpleMeterRegistry();
+        section = new InMemorySection("test");
+        section.entries.put("a", "1");
+        section.entries.put("b", "2");
+        section.entries.put("c", "3");
+    }
+
+    @Test
+    @DisplayName("기록한 스냅샷을 읽어 섹션별로 묶음 단위로 복원하고 파일을 삭제한다")
+    void writtenSnapshotIsRestored() {
+        // given
+        manager(section).write();
+        InMemorySection restored = new InMemorySection("test");
+
+        // when
+        manager(restored).restore();
+
+        // then
+        assertThat(restored.entries).containsExactlyEntriesOf(section.entries);
+        assertThat(restored.header).isEqualTo("header:test");
+        assertThat(restored.watermark).isBefore(LocalDateTime.now());
+        assertThat(restored.batchSizes).containsExactly(2, 1);
+        assertThat(restoredCount("test")).isEqualTo(3.0);
+        assertThat(Files.exists(path)).isFalse();
+        assertThat(Files.exists(path.resolveSibling("cache-snapshot.bin.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("검증을 통과하지 못한 항목과 알 수 없는 섹션의 항목은 버린다")
+    void rejectedAndUnknownEntriesAreDropped() {
+        // given
+        InMemorySection removed = new InMemorySection("removed");
+        removed.entries.put("x", "9");
+        manager(section, removed).write();
+        InMemorySection restored = new InMemorySection("test");
+        restored.rejectedKey = "b";
+
+        // when
+        manager(restored).restore();
+
+        // then
+        assertThat(restored.entries).containsOnlyKeys("a", "c");
+        assertThat(restoredCount("test")).isEqualTo(2.0);
+        assertThat(droppedCount("test")).isEqualTo(1.0);
+        assertThat(droppedCount("removed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기록 도중 잘린 스냅샷은 읽은 묶음까지만 복원하고 삭제한다")
+    void truncatedSnapshotIsPartiallyRestored() throws IOException {
+        // given
+        manager(section).write();
+        byte[] written = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(written, written.length - 6));
+        InMemorySection restored = new InMemorySection("test");
+
+        // when
+        manager(restored).restore();
+
+        // then
+        assertThat(restored.entries).containsOnlyKeys("a", "b");
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 다른 파일과 최대 보관 기간을 넘긴 스냅샷은 복원하지 않고 삭제한다")
+    void foreignOrExpiredSnapshotIsIgnored() throws IOException {
+        // given
+        Files.write(path, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        InMemorySection foreign = new InMemorySection("test");
+
+        // when
+        manager(foreign).restore();
+
+        // then
+        assertThat(foreign.batchSizes).isEmpty();
+        assertThat(Files.exists(path)).isFalse();
+
+        // given
+        manager(section).write();
+        InMemorySection expired = new InMemorySection("test");
+
+        // when
+        new CacheSnapshotManager(List.of(expired), meterRegistry, true, path,
+            Duration.ofMillis(-1), Duration.ofSeconds(5), BATCH_SIZE).restore();
+
+        // then
+        assertThat(expired.batchSizes).isEmpty();
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 꺼져 있으면 종료 시 파일을 기록하지 않는다")
+    void disabledSnapshotIsNotWritten() {
+        // when
+        new CacheSnapshotManager(List.of(section), meterRegistry, false, path,
+            Duration.ofHours(1), Duration.ofSeconds(5), BATCH_SIZE).write();
+
+        // then
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    private CacheSnapshotManager manager(CacheSnapshotSection... sections) {
+        return new CacheSnapshotManager(List.of(sections), meterRegistry, true, path,
+            Duration.ofHours(1), Duration.ofSeconds(5), BATCH_SIZE);
+    }
+
+    private double restoredCount(String name) {
+        return meterRegistry.get("cache.snapshot.entries").tags("section", name, "outcome", "restored")
+            .counter().count();
+    }
+
+    private double droppedCount(String name) {
+        return meterRegistry.get("cache.snapshot.entries").tags("section", name, "outcome", "dropped")
+            .counter().count();
+    }
+
+    /**
+     * 문자열 항목을 기록하고 복원된 항목과 묶음 크기를 모아두는 섹션
+     */
+    private static class InMemorySection implements CacheSnapshotSection {
+
+        private final String name;
+        private final Map<String, String> entries = new LinkedHashMap<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private String header;
+        private LocalDateTime watermark;
+        private String rejectedKey;
+
+        private InMemorySection(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public byte[] header() {
+            return ("header:" + name).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void dump(EntrySink sink) throws IOException {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                sink.accept(entry.getKey().getBytes(StandardCharsets.UTF_8), value, 0, value.length);
+            }
+        }
+
+        @Override
+        public Restorer restorer(byte[] header, LocalDateTime watermark) {
+            this.header = new String(header, StandardCharsets.UTF_8);
+            this.watermark = watermark;
+            return batch -> {
+                batchSizes.add(batch.size());
+                int restored = 0;
+                for (SnapshotEntry entry : batch) {
+                    String key = new String(entry.key(), StandardCharsets.UTF_8);
+                    if (key.equals(rejectedKey)) {
+                        continue;
+                    }
+                    entries.put(key, new String(entry.value(), StandardCharsets.UTF_8));
+                    restored++;
+                }
+                return restored;
+            };
+        }
+    }
+}
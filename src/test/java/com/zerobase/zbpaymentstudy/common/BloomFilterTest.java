@@ -0,0 +1,88 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 원소는 항상 포함될 수 있다고 응답")
+    void noFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        SplittableRandom random = new SplittableRandom(42);
+        long[][] inserted = new long[10_000][2];
+
+        // when
+        for (long[] element : inserted) {
+            element[0] = random.nextLong();
+            element[1] = random.nextLong();
+            filter.put(element[0], element[1]);
+        }
+
+        // then
+        for (long[] element : inserted) {
+            assertThat(filter.mightContain(element[0], element[1])).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 원소의 오탐률은 목표치 부근으로 유지")
+    void falsePositiveRateWithinBound() {
+        // given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(random.nextLong(), random.nextLong());
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("블록 단위로 배치해도 낮은 목표 오탐률 부근으로 유지")
+    void blockedLayoutKeepsLowFalsePositiveRate() {
+        // given
+        BloomFilter filter = new BloomFilter(100_000, 0.001);
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put(random.nextLong(), random.nextLong());
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 1_000_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(0.0015);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정으로 생성하면 예외 발생")
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
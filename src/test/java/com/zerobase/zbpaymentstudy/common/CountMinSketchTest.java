@@ -0,0 +1,85 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("추정 횟수는 실제 횟수보다 작지 않음")
+    void neverUnderestimates() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        SplittableRandom random = new SplittableRandom(42);
+        long[][] keys = new long[500][2];
+        for (long[] key : keys) {
+            key[0] = random.nextLong();
+            key[1] = random.nextLong();
+        }
+
+        // when
+        for (int i = 0; i < keys.length; i++) {
+            for (int j = 0; j <= i % 10; j++) {
+                sketch.add(keys[i][0], keys[i][1]);
+            }
+        }
+
+        // then
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(sketch.estimate(keys[i][0], keys[i][1])).isGreaterThanOrEqualTo(i % 10 + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("빈도가 높은 원소는 긴 꼬리의 원소들과 구분됨")
+    void separatesHeavyHitters() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(2048, 4);
+        SplittableRandom random = new SplittableRandom(7);
+        long hotHigh = random.nextLong();
+        long hotLow = random.nextLong();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(random.nextLong(), random.nextLong());
+            if (i % 10 == 0) {
+                sketch.add(hotHigh, hotLow);
+            }
+        }
+
+        // then
+        assertThat(sketch.estimate(hotHigh, hotLow)).isBetween(1_000L, 1_050L);
+        assertThat(sketch.estimate(random.nextLong(), random.nextLong())).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("감쇠하면 모든 추정 횟수가 절반으로 줄어듦")
+    void decayHalvesCounts() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(64, 2);
+        for (int i = 0; i < 8; i++) {
+            sketch.add(1L, 2L);
+        }
+
+        // when
+        sketch.decay();
+
+        // then
+        assertThat(sketch.estimate(1L, 2L)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 거부하고 너비는 2의 거듭제곱으로 올림")
+    void validatesConfiguration() {
+        assertThat(new CountMinSketch(1000, 4).width()).isEqualTo(1024);
+        assertThatThrownBy(() -> new CountMinSketch(0, 4))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(64, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
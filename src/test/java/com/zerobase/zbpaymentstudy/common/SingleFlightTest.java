@@ -0,0 +1,95 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 조회는 한 번만 실행되고 결과를 공유")
+    void coalescesConcurrentCalls() throws Exception {
+        // given
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        Future<Integer> owner = executor.submit(() -> flight.execute("key", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 42;
+        }));
+        started.await();
+
+        List<Future<Integer>> waiters = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            waiters.add(executor.submit(() -> flight.execute("key", () -> {
+                loads.incrementAndGet();
+                return -1;
+            })));
+        }
+        Thread.sleep(200);  // 대기 요청들이 진행 중인 조회에 합류할 시간
+        release.countDown();
+
+        // then
+        assertThat(owner.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        for (Future<Integer> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회가 끝난 뒤의 호출은 다시 조회")
+    void doesNotCacheResults() {
+        // given
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        flight.execute("key", loads::incrementAndGet);
+        flight.execute("key", loads::incrementAndGet);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중 발생한 예외를 그대로 전달하고 키를 정리")
+    void propagatesFailure() {
+        // given
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+
+        // when & then
+        assertThatThrownBy(() -> flight.execute("key", () -> {
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(flight.inFlight()).isZero();
+        assertThat(flight.execute("key", () -> 1)).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.zerobase.zbpaymentstudy.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    @DisplayName("용량만큼 연속 요청을 허용한 뒤 거부")
+    void allowsBurstUpToCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(1));
+        long now = 1_000 * SECOND;
+
+        // when & then
+        assertThat(bucket.tryAcquire(now)).isTrue();
+        assertThat(bucket.tryAcquire(now)).isTrue();
+        assertThat(bucket.tryAcquire(now)).isTrue();
+        assertThat(bucket.tryAcquire(now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("충전 간격마다 토큰이 하나씩 충전")
+    void refillsOneTokenPerInterval() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1));
+        long now = 1_000 * SECOND;
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+
+        // when & then
+        assertThat(bucket.tryAcquire(now + SECOND / 2)).isFalse();
+        assertThat(bucket.tryAcquire(now + SECOND)).isTrue();
+        assertThat(bucket.tryAcquire(now + SECOND)).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 용량을 넘어 토큰이 쌓이지 않음")
+    void doesNotAccumulateBeyondCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1));
+        bucket.tryAcquire(SECOND);
+        long later = 10_000 * SECOND;
+
+        // when & then
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 거부")
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new TokenBucket(0, Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
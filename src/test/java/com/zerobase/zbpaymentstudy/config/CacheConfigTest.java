@@ -0,0 +1,97 @@
+package com.zerobase.zbpaymentstudy.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.zerobase.zbpaymentstudy.cache.CacheRefreshLoader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 캐시 설정 테스트 클래스
+ * application.yml의 cache.specs가 캐시 이름별로 바인딩되어 각 캐시의 크기 제한, 만료, 갱신 설정에 적용되는지 확인
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.yml", properties = {
+    "cache.default-spec=maximumSize=321,expireAfterWrite=3m",
+    "cache.specs.store-counts=maximumSize=123,expireAfterWrite=7m",
+    "cache.specs.store-histograms=maximumSize=456,expireAfterWrite=10m,refreshAfterWrite=5m"
+})
+class CacheConfigTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("캐시 이름별 명세가 각 캐시의 크기 제한과 만료 시간에 적용된다")
+    void perCacheSpecIsApplied() {
+        // when
+        Policy<Object, Object> storeCounts = policy(CacheConfig.STORE_COUNTS);
+
+        // then
+        assertThat(storeCounts.eviction()).hasValueSatisfying(eviction ->
+            assertThat(eviction.getMaximum()).isEqualTo(123));
+        assertThat(storeCounts.expireAfterWrite()).hasValueSatisfying(expiration ->
+            assertThat(expiration.getExpiresAfter()).isEqualTo(Duration.ofMinutes(7)));
+        assertThat(storeCounts.isRecordingStats()).isTrue();
+    }
+
+    @Test
+    @DisplayName("명세가 없는 캐시에는 기본 명세가 적용된다")
+    void defaultSpecIsApplied() {
+        // when
+        Policy<Object, Object> stores = policy(CacheConfig.STORES);
+
+        // then
+        assertThat(stores.eviction()).hasValueSatisfying(eviction ->
+            assertThat(eviction.getMaximum()).isEqualTo(321));
+        assertThat(stores.expireAfterWrite()).hasValueSatisfying(expiration ->
+            assertThat(expiration.getExpiresAfter()).isEqualTo(Duration.ofMinutes(3)));
+    }
+
+    @Test
+    @DisplayName("refreshAfterWrite를 지정한 캐시는 갱신 로더를 사용하는 LoadingCache로 만들어진다")
+    void refreshAheadUsesLoader() {
+        // when
+        Cache<Object, Object> histograms = nativeCache(CacheConfig.STORE_HISTOGRAMS);
+
+        // then
+        assertThat(histograms).isInstanceOf(LoadingCache.class);
+        assertThat(histograms.policy().refreshAfterWrite()).hasValueSatisfying(refresh ->
+            assertThat(refresh.getRefreshesAfter()).isEqualTo(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("갱신 로더가 없는 캐시에 refreshAfterWrite를 지정하면 시작에 실패한다")
+    void refreshWithoutLoaderFails() {
+        // given
+        CacheSpecProperties properties = new CacheSpecProperties(null,
+            Map.of(CacheConfig.STORES, "maximumSize=10,expireAfterWrite=1m,refreshAfterWrite=30s"));
+        List<CacheRefreshLoader> noLoaders = List.of();
+
+        // when & then
+        assertThrows(IllegalStateException.class, () ->
+            new CacheConfig().cacheManager(properties, noLoaders, List.of()));
+    }
+
+    private Policy<Object, Object> policy(String cacheName) {
+        return nativeCache(cacheName).policy();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache(String cacheName) {
+        return (Cache<Object, Object>) Objects.requireNonNull(cacheManager.getCache(cacheName)).getNativeCache();
+    }
+}
@@ -0,0 +1,72 @@
+package com.zerobase.zbpaymentstudy.controller;
+
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberLoginDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 컨트롤러 테스트 클래스
+ * 실제 서블릿 컨테이너로 요청하여 로그인 IP별 시도 제한이 프록시가 전달한 클라이언트 IP 단위로 동작하는지 확인
+ * (X-Forwarded-For 적용은 Tomcat RemoteIpValve가 처리하므로 MockMvc로는 확인할 수 없음)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application.yml", properties = {
+    "auth.login.throttle.ip.capacity=2",
+    "auth.login.throttle.ip.refill-interval=1h",
+    "auth.login.throttle.account.capacity=100"
+})
+class MemberControllerTest {
+
+    private static final String LOGIN_URL = "/api/auth/login";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 기본 HttpURLConnection은 POST 요청의 401 응답을 읽지 못하므로 JDK HttpClient를 사용
+        restTemplate.getRestTemplate().setRequestFactory(new JdkClientHttpRequestFactory());
+    }
+
+    /**
+     * 신뢰하는 프록시(루프백)를 거친 요청은 X-Forwarded-For의 클라이언트 IP별로 시도 횟수를 제한하는지 테스트
+     */
+    @Test
+    @DisplayName("로그인 시도 제한은 프록시가 전달한 클라이언트 IP별로 적용된다")
+    void loginThrottle_PerForwardedClientIp() {
+        // given
+        String clientIp = "203.0.113.10";
+        String otherClientIp = "203.0.113.20";
+
+        // when
+        HttpStatusCode first = login("user1@test.com", clientIp);
+        HttpStatusCode second = login("user2@test.com", clientIp);
+        HttpStatusCode throttled = login("user3@test.com", clientIp);
+        HttpStatusCode otherClient = login("user4@test.com", otherClientIp);
+
+        // then
+        assertThat(first).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(second).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(throttled).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(otherClient).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private HttpStatusCode login(String email, String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.postForEntity(LOGIN_URL,
+            new HttpEntity<>(new MemberLoginDto(email, "password1234"), headers), String.class).getStatusCode();
+    }
+}
@@ -0,0 +1,124 @@
+package com.zerobase.zbpaymentstudy.domain.member.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이메일 Bloom 필터 테스트 클래스
+ * 회원 테이블 조회를 흉내 낸 JdbcTemplate으로 초기 로드와 증분 갱신, 로드 전 동작을 확인
+ */
+class EmailBloomFilterTest {
+
+    /**
+     * 회원 테이블 (ID → 이메일)
+     */
+    private final Map<Long, String> members = new TreeMap<>();
+
+    /**
+     * 조회마다 전달된 시작 ID
+     */
+    private final List<Long> scannedAfter = new ArrayList<>();
+
+    private EmailBloomFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            long[] afterId = {0};
+            PreparedStatement statement = mock(PreparedStatement.class);
+            doAnswer(set -> afterId[0] = set.getArgument(1)).when(statement).setLong(anyInt(), anyLong());
+            Connection connection = mock(Connection.class);
+            when(connection.prepareStatement(anyString())).thenReturn(statement);
+            invocation.<PreparedStatementCreator>getArgument(0).createPreparedStatement(connection);
+            scannedAfter.add(afterId[0]);
+
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map.Entry<Long, String> member : members.entrySet()) {
+                if (member.getKey() > afterId[0]) {
+                    ResultSet row = mock(ResultSet.class);
+                    when(row.getLong("id")).thenReturn(member.getKey());
+                    when(row.getString("email")).thenReturn(member.getValue());
+                    handler.processRow(row);
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        filter = new EmailBloomFilter(jdbcTemplate, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("로드 전에는 모든 이메일을 가입되어 있을 수 있는 것으로 응답한다")
+    void mightExistBeforeLoad() {
+        // when & then
+        assertThat(filter.mightExist("anyone@test.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로드 후 가입된 이메일은 대소문자와 관계없이 포함되고 가입되지 않은 이메일은 제외된다")
+    void loadsRegisteredEmails() {
+        // given
+        members.put(1L, "user1@test.com");
+        members.put(2L, "User2@Test.com");
+
+        // when
+        filter.refresh();
+
+        // then
+        assertThat(filter.mightExist("USER1@test.com")).isTrue();
+        assertThat(filter.mightExist("user2@test.com")).isTrue();
+        assertThat(filter.mightExist("nobody@test.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("이후 갱신은 마지막으로 읽은 ID 근처부터 읽어 다른 노드의 가입을 반영한다")
+    void refreshReadsNewMembersIncrementally() {
+        // given
+        members.put(1L, "user1@test.com");
+        members.put(5000L, "user2@test.com");
+        filter.refresh();
+
+        // when
+        members.put(5001L, "late@test.com");
+        filter.refresh();
+
+        // then
+        assertThat(filter.mightExist("late@test.com")).isTrue();
+        assertThat(scannedAfter).containsExactly(0L, 4000L);
+    }
+
+    @Test
+    @DisplayName("가입을 처리한 노드는 갱신을 기다리지 않고 바로 반영한다")
+    void addIsVisibleImmediately() {
+        // given
+        filter.refresh();
+
+        // when
+        filter.add("new@test.com");
+
+        // then
+        assertThat(filter.mightExist("new@test.com")).isTrue();
+    }
+}
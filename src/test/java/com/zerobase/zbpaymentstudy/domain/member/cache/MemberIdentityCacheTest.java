@@ -0,0 +1,118 @@
+package com.zerobase.zbpaymentstudy.domain.member.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberIdentity;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 식별 정보 캐시 테스트 클래스
+ * 회원을 한 번만 조회하여 캐시하고, 없는 회원은 캐시하지 않으며, 무효화 이후 다시 조회하는지 확인
+ * 트랜잭션 밖에서 실행하므로 무효화는 즉시 적용됨
+ */
+class MemberIdentityCacheTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final MemberIdentity IDENTITY = new MemberIdentity(1L, EMAIL, "회원", MemberRole.USER);
+
+    private MemberRepository memberRepository;
+    private CacheInvalidationBus invalidationBus;
+    private MemberIdentityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(new CaffeineCache(CacheConfig.MEMBERS, Caffeine.newBuilder().build())));
+        cacheManager.initializeCaches();
+        memberRepository = mock(MemberRepository.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        cache = new MemberIdentityCache(cacheManager, memberRepository, invalidationBus);
+    }
+
+    @Test
+    @DisplayName("캐시된 회원은 DB를 다시 조회하지 않는다")
+    void cachedIdentityIsReused() {
+        // given
+        when(memberRepository.findIdentityByEmail(EMAIL)).thenReturn(Optional.of(IDENTITY));
+
+        // when
+        Optional<MemberIdentity> first = cache.find(EMAIL);
+        Optional<MemberIdentity> second = cache.find(EMAIL);
+
+        // then
+        assertThat(first).contains(IDENTITY);
+        assertThat(second).contains(IDENTITY);
+        verify(memberRepository, times(1)).findIdentityByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 캐시하지 않아 이후 가입하면 바로 조회된다")
+    void unknownMemberIsNotCached() {
+        // given
+        when(memberRepository.findIdentityByEmail(EMAIL)).thenReturn(Optional.empty());
+        assertThat(cache.find(EMAIL)).isEmpty();
+
+        // when
+        when(memberRepository.findIdentityByEmail(EMAIL)).thenReturn(Optional.of(IDENTITY));
+
+        // then
+        assertThat(cache.find(EMAIL)).contains(IDENTITY);
+    }
+
+    @Test
+    @DisplayName("회원 정보가 변경되면 무효화 후 다시 조회하고 다른 노드에 전파한다")
+    void evictReloadsAndPublishes() {
+        // given
+        MemberIdentity renamed = new MemberIdentity(1L, EMAIL, "새 이름", MemberRole.USER);
+        when(memberRepository.findIdentityByEmail(EMAIL)).thenReturn(Optional.of(IDENTITY));
+        cache.find(EMAIL);
+
+        // when
+        when(memberRepository.findIdentityByEmail(EMAIL)).thenReturn(Optional.of(renamed));
+        cache.evict(EMAIL);
+
+        // then
+        assertThat(cache.find(EMAIL)).contains(renamed);
+        verify(invalidationBus).publish("members", EMAIL);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 무효화도 적용되고 스냅샷 복원은 무효화된 항목을 되살리지 않는다")
+    @SuppressWarnings("unchecked")
+    void remoteEvictionIsAppliedAndBlocksStaleRestore() {
+        // given
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq("members"), handler.capture());
+        when(memberRepository.findIdentityByEmail(EMAIL)).thenReturn(Optional.of(IDENTITY));
+        cache.find(EMAIL);
+        long generation = cache.generation();
+
+        // when
+        handler.getValue().accept(EMAIL);
+        boolean restored = cache.restore(EMAIL, IDENTITY, generation);
+
+        // then
+        assertThat(restored).isFalse();
+        cache.find(EMAIL);
+        verify(memberRepository, times(2)).findIdentityByEmail(EMAIL);
+    }
+}
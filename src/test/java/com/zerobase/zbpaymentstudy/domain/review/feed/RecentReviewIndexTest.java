@@ -0,0 +1,104 @@
+package com.zerobase.zbpaymentstudy.domain.review.feed;
+
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.domain.review.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 최근 리뷰 인덱스 테스트 클래스
+ * 두 노드의 인덱스를 무효화 버스로 연결하고, 한 노드의 리뷰 작성이 다른 노드의 버퍼에 증분으로 반영되는지 확인
+ */
+class RecentReviewIndexTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0, 0, 123_456_000);
+
+    private ReviewRepository remoteRepository;
+    private RecentReviewIndex local;
+    private RecentReviewIndex remote;
+
+    @BeforeEach
+    void setUp() {
+        // 한 노드가 발행한 무효화를 다른 노드의 핸들러로 바로 전달
+        CacheInvalidationBus localBus = mock(CacheInvalidationBus.class);
+        CacheInvalidationBus remoteBus = mock(CacheInvalidationBus.class);
+        Map<String, Consumer<String>> remoteHandlers = new HashMap<>();
+        doAnswer(invocation -> remoteHandlers.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(remoteBus).subscribe(anyString(), any());
+        doAnswer(invocation -> {
+            remoteHandlers.get(invocation.<String>getArgument(0)).accept(invocation.getArgument(1));
+            return null;
+        }).when(localBus).publish(anyString(), anyString());
+
+        ReviewRepository localRepository = mock(ReviewRepository.class);
+        remoteRepository = mock(ReviewRepository.class);
+        when(localRepository.findRecentFeedEntries(eq(STORE_ID), eq(3)))
+            .thenReturn(List.of(new FeedEntry(10L, NOW.minusHours(1))));
+        when(remoteRepository.findRecentFeedEntries(eq(STORE_ID), eq(3)))
+            .thenReturn(List.of(new FeedEntry(10L, NOW.minusHours(1))));
+
+        local = new RecentReviewIndex(localRepository, localBus, 3, 100);
+        remote = new RecentReviewIndex(remoteRepository, remoteBus, 3, 100);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 작성된 리뷰는 버퍼를 다시 채우지 않고 증분으로 추가된다")
+    void createdReviewIsPushedToOtherNode() {
+        // given
+        local.recent(STORE_ID);
+        remote.recent(STORE_ID);
+
+        // when
+        local.onCreated(STORE_ID, 11L, NOW);
+        local.onCreated(STORE_ID, 12L, NOW);
+
+        // then
+        assertThat(remote.recent(STORE_ID)).containsExactly(
+            new FeedEntry(12L, NOW), new FeedEntry(11L, NOW), new FeedEntry(10L, NOW.minusHours(1)));
+        assertThat(local.recent(STORE_ID)).containsExactly(remote.recent(STORE_ID));
+        verify(remoteRepository, times(1)).findRecentFeedEntries(STORE_ID, 3);
+    }
+
+    @Test
+    @DisplayName("버퍼가 없는 노드는 작성 전파를 무시하고 다음 조회 시 DB에서 채운다")
+    void createdReviewIgnoredWithoutBuffer() {
+        // when
+        local.onCreated(STORE_ID, 11L, NOW);
+
+        // then
+        assertThat(remote.recent(STORE_ID)).containsExactly(new FeedEntry(10L, NOW.minusHours(1)));
+        verify(remoteRepository, times(1)).findRecentFeedEntries(STORE_ID, 3);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제된 리뷰는 버퍼를 버리고 다음 조회 시 다시 채운다")
+    void deletedReviewDropsOtherNodeBuffer() {
+        // given
+        remote.recent(STORE_ID);
+
+        // when
+        local.onDeleted(STORE_ID);
+        remote.recent(STORE_ID);
+
+        // then
+        verify(remoteRepository, times(2)).findRecentFeedEntries(STORE_ID, 3);
+    }
+}
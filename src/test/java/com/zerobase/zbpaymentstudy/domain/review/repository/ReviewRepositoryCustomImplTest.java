@@ -0,0 +1,178 @@
+package com.zerobase.zbpaymentstudy.domain.review.repository;
+
+import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import com.zerobase.zbpaymentstudy.domain.reservation.entity.Reservation;
+import com.zerobase.zbpaymentstudy.domain.reservation.repository.ReservationRepository;
+import com.zerobase.zbpaymentstudy.domain.reservation.type.ReservationStatus;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCursor;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewDto;
+import com.zerobase.zbpaymentstudy.domain.review.entity.Review;
+import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 커스텀 리포지토리 테스트 클래스
+ * (작성 시간, ID) 커서 기반 조회가 같은 작성 시간의 리뷰를 건너뛰거나 중복하지 않고 최신순으로 이어지는지 확인
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(locations = "classpath:application.yml")
+class ReviewRepositoryCustomImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0, 0);
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Member member;
+    private Store store;
+    private Store otherStore;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+            .email("reviewer@test.com")
+            .password("password")
+            .name("리뷰어")
+            .role(MemberRole.USER)
+            .createdAt(NOW)
+            .updatedAt(NOW)
+            .build());
+        store = createStore("테스트 매장");
+        otherStore = createStore("다른 매장");
+    }
+
+    /**
+     * 작성 시간이 같은 리뷰가 페이지 경계에 걸쳐도 ID 역순으로 빠짐없이 이어서 조회되는지 테스트
+     */
+    @Test
+    @DisplayName("작성 시간이 같은 리뷰는 페이지 경계에서도 ID 역순으로 빠짐없이 조회된다")
+    void pagesThroughTiesWithoutGapsOrDuplicates() {
+        // given
+        Long oldest = createReview(store, NOW.minusHours(1));
+        Long tie1 = createReview(store, NOW);
+        Long tie2 = createReview(store, NOW);
+        Long tie3 = createReview(store, NOW);
+        Long newest = createReview(store, NOW.plusHours(1));
+        createReview(otherStore, NOW);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        ReviewCursor cursor = null;
+        do {
+            List<ReviewDto> page = reviewRepository.findStoreReviewsAfter(store.getId(), store.getName(), cursor, 2);
+            pageSizes.add(page.size());
+            page.forEach(review -> ids.add(review.id()));
+            cursor = page.isEmpty() ? null : ReviewCursor.of(page.get(page.size() - 1));
+        } while (cursor != null);
+
+        // then
+        assertThat(ids).containsExactly(newest, tie3, tie2, tie1, oldest);
+        assertThat(pageSizes).containsExactly(2, 2, 1, 0);
+    }
+
+    /**
+     * 커서 위치의 리뷰는 제외하고, 같은 작성 시간이면 커서보다 ID가 작은 리뷰부터 조회하는지 테스트
+     */
+    @Test
+    @DisplayName("커서 위치의 리뷰는 다음 페이지에 포함되지 않는다")
+    void cursorIsExclusive() {
+        // given
+        Long older = createReview(store, NOW.minusSeconds(1));
+        Long tie1 = createReview(store, NOW);
+        Long tie2 = createReview(store, NOW);
+        createReview(store, NOW.plusSeconds(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<ReviewDto> page = reviewRepository.findStoreReviewsAfter(
+            store.getId(), store.getName(), new ReviewCursor(NOW, tie2), 10);
+
+        // then
+        assertThat(page).extracting(ReviewDto::id).containsExactly(tie1, older);
+        assertThat(page).extracting(ReviewDto::storeName).containsOnly(store.getName());
+        assertThat(page).extracting(ReviewDto::memberEmail).containsOnly(member.getEmail());
+    }
+
+    /**
+     * 인코딩한 커서를 다시 해석하면 같은 위치가 되는지 테스트 (나노초 단위 작성 시간 포함)
+     */
+    @Test
+    @DisplayName("커서는 인코딩 후 해석해도 같은 위치를 가리킨다")
+    void cursorRoundTrip() {
+        // given
+        ReviewCursor cursor = new ReviewCursor(NOW.withNano(123_456_000), 42L);
+
+        // when
+        ReviewCursor decoded = ReviewCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(ReviewCursor.decode(null)).isNull();
+    }
+
+    private Store createStore(String name) {
+        return storeRepository.save(Store.builder()
+            .name(name)
+            .location("서울시 강남구")
+            .description("테스트 매장입니다")
+            .owner(member)
+            .latitude(37.4967)
+            .longitude(127.0276)
+            .createdAt(NOW)
+            .updatedAt(NOW)
+            .build());
+    }
+
+    private Long createReview(Store target, LocalDateTime createdAt) {
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+            .member(member)
+            .store(target)
+            .reservationTime(createdAt.minusDays(1))
+            .status(ReservationStatus.COMPLETED)
+            .createdAt(createdAt)
+            .updatedAt(createdAt)
+            .build());
+        return reviewRepository.save(Review.builder()
+            .reservation(reservation)
+            .storeId(target.getId())
+            .rating(5)
+            .content("좋아요")
+            .createdAt(createdAt)
+            .updatedAt(createdAt)
+            .build()).getId();
+    }
+}
@@ -0,0 +1,116 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zerobase.zbpaymentstudy.cache.invalidation.CacheInvalidationBus;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 매장 상세 직렬화 캐시 테스트 클래스
+ * 힙 밖 슬랩에 저장한 매장 JSON을 ApiResponse 형식으로 그대로 응답하고, 무효화와 세대 확인이 동작하는지 확인
+ * 트랜잭션 밖에서 실행하므로 무효화는 즉시 적용됨
+ */
+class StoreJsonCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private CacheInvalidationBus invalidationBus;
+    private SimpleMeterRegistry meterRegistry;
+    private StoreJsonCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        invalidationBus = mock(CacheInvalidationBus.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new StoreJsonCache(objectMapper, invalidationBus, meterRegistry, 1024 * 1024, 64 * 1024);
+    }
+
+    @Test
+    @DisplayName("캐시된 매장은 역직렬화 없이 조회 응답과 같은 형식으로 쓰인다")
+    void cachedStoreIsWrittenAsApiResponse() throws IOException {
+        // given
+        StoreDto store = store(1L, "테스트 매장");
+        cache.put(store, cache.generation(1L));
+
+        // when
+        ByteArrayOutputStream cached = new ByteArrayOutputStream();
+        boolean hit = cache.writeTo(1L, cached);
+        ByteArrayOutputStream loaded = new ByteArrayOutputStream();
+        cache.write(store, loaded);
+
+        // then
+        assertThat(hit).isTrue();
+        assertThat(cached.toByteArray()).isEqualTo(loaded.toByteArray());
+        JsonNode response = objectMapper.readTree(cached.toByteArray());
+        assertThat(response.get("result").asText()).isEqualTo("SUCCESS");
+        assertThat(objectMapper.treeToValue(response.get("data"), StoreDto.class)).isEqualTo(store);
+        assertThat(meterRegistry.get("cache.offheap.gets").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 미스이면 아무것도 쓰지 않는다")
+    void missWritesNothing() throws IOException {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boolean hit = cache.writeTo(1L, out);
+
+        // then
+        assertThat(hit).isFalse();
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 무효화된 매장은 저장되지 않는다")
+    void staleLoadIsNotStored() throws IOException {
+        // given
+        long generation = cache.generation(1L);
+
+        // when
+        cache.evict(1L);
+        cache.put(store(1L, "변경 전 매장"), generation);
+
+        // then
+        assertThat(cache.writeTo(1L, new ByteArrayOutputStream())).isFalse();
+        verify(invalidationBus).publish("store-json", "1");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 무효화는 해당 매장만 제거한다")
+    @SuppressWarnings("unchecked")
+    void remoteEvictionRemovesOnlyThatStore() throws IOException {
+        // given
+        ArgumentCaptor<Consumer<String>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq("store-json"), handler.capture());
+        cache.put(store(1L, "매장 1"), cache.generation(1L));
+        cache.put(store(2L, "매장 2"), cache.generation(2L));
+
+        // when
+        handler.getValue().accept("1");
+
+        // then
+        assertThat(cache.writeTo(1L, new ByteArrayOutputStream())).isFalse();
+        assertThat(cache.writeTo(2L, new ByteArrayOutputStream())).isTrue();
+    }
+
+    private static StoreDto store(Long id, String name) {
+        return new StoreDto(id, name, "서울시 강남구", "설명", 37.5, 127.0, 4.5, 10, "partner@test.com", NOW, NOW);
+    }
+}
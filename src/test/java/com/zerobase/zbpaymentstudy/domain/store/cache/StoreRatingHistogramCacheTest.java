@@ -0,0 +1,96 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.store.dto.RatingHistogramDto;
+import com.zerobase.zbpaymentstudy.domain.store.entity.StoreRatingHistogram;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingHistogramRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 평점 분포 캐시 테스트 클래스
+ * 분포를 한 번만 조회하여 캐시하고, 무효화 이후와 백그라운드 갱신 시 보조 테이블의 최신 값을 읽는지 확인
+ * 트랜잭션 밖에서 실행하므로 무효화는 즉시 적용됨
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.yml")
+class StoreRatingHistogramCacheTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Autowired
+    private StoreRatingHistogramCache histogramCache;
+
+    @Autowired
+    private StoreRatingHistogramLoader histogramLoader;
+
+    @Autowired
+    private StoreRatingHistogramRepository histogramRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.STORE_HISTOGRAMS).clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        histogramRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 캐시된 분포는 다시 조회하지 않고, 무효화 이후에는 변경된 분포를 조회하는지 테스트
+     */
+    @Test
+    @DisplayName("평점 분포는 무효화되기 전까지 캐시된 값을 사용한다")
+    void cachedUntilEvicted() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        RatingHistogramDto first = histogramCache.get(STORE_ID, () -> load(loads));
+
+        // when
+        RatingHistogramDto cached = histogramCache.get(STORE_ID, () -> load(loads));
+        histogramCache.evict(STORE_ID);
+        RatingHistogramDto reloaded = histogramCache.get(STORE_ID, () -> load(loads));
+
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    /**
+     * 갱신 로더가 보조 테이블의 분포를 읽고, 행이 없는 매장은 빈 분포를 반환하는지 테스트
+     */
+    @Test
+    @DisplayName("갱신 로더는 보조 테이블의 분포를 읽고 없으면 빈 분포를 반환한다")
+    void loaderReadsSideTable() {
+        // given
+        histogramRepository.save(StoreRatingHistogram.builder()
+            .storeId(STORE_ID).star1(1).star3(2).star5(4).build());
+
+        // when
+        Object loaded = histogramLoader.load(STORE_ID);
+        Object missing = histogramLoader.load(2L);
+
+        // then
+        assertThat(loaded).isEqualTo(new RatingHistogramDto(1, 0, 2, 0, 4));
+        assertThat(missing).isEqualTo(RatingHistogramDto.empty());
+    }
+
+    private static RatingHistogramDto load(AtomicInteger loads) {
+        return new RatingHistogramDto(0, 0, 0, 0, loads.incrementAndGet());
+    }
+}
@@ -0,0 +1,152 @@
+package com.zerobase.zbpaymentstudy.domain.store.cache;
+
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 검색 결과 캐시 테스트 클래스
+ * 정규화된 검색 키로 같은 검색을 한 번만 조회하고, 매장 등록/평점 변경 시 영향을 받는 항목만 무효화하는지 확인
+ * 트랜잭션 밖에서 실행하므로 무효화는 즉시 적용됨
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.yml")
+class StoreSearchCacheTest {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private StoreSearchCache storeSearchCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.STORES).clear();
+        cacheManager.getCache(CacheConfig.STORE_COUNTS).clear();
+    }
+
+    /**
+     * 대소문자/공백만 다른 검색이 같은 캐시 항목을 사용하는지 테스트
+     */
+    @Test
+    @DisplayName("대소문자와 공백만 다른 검색 조건은 같은 캐시 항목을 사용한다")
+    void normalizedKeySharesEntry() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        StoreSearchKey key = StoreSearchKey.of(criteria("Cafe", null), FIRST_PAGE);
+        StoreSearchKey sameKey = StoreSearchKey.of(criteria("  cAFE ", null), FIRST_PAGE);
+
+        // when
+        List<StoreDto> first = storeSearchCache.getPage(key, () -> load(loads, store(1L, "cafe one")));
+        List<StoreDto> second = storeSearchCache.getPage(sameKey, () -> load(loads, store(2L, "cafe two")));
+
+        // then
+        assertThat(sameKey).isEqualTo(key);
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    /**
+     * 신규 매장 등록 시 그 매장이 포함될 수 있는 검색의 페이지와 건수만 무효화하는지 테스트
+     */
+    @Test
+    @DisplayName("매장 등록은 그 매장이 일치할 수 있는 검색 결과만 무효화한다")
+    void newStoreEvictsOnlyMatchingSearches() {
+        // given
+        StoreSearchKey cafe = StoreSearchKey.of(criteria("cafe", null), FIRST_PAGE);
+        StoreSearchKey chicken = StoreSearchKey.of(criteria("chicken", null), FIRST_PAGE);
+        storeSearchCache.getPage(cafe, () -> List.of(store(1L, "cafe one")));
+        storeSearchCache.getPage(chicken, () -> List.of(store(2L, "chicken one")));
+        storeSearchCache.getCount(cafe.countKey(), () -> 1L);
+        storeSearchCache.getCount(chicken.countKey(), () -> 1L);
+
+        // when
+        storeSearchCache.evictForNewStore("New Cafe", "서울시 강남구", "partner@test.com");
+
+        // then
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(storeSearchCache.getPage(cafe, () -> load(loads, store(1L, "cafe one"), store(3L, "new cafe"))))
+            .hasSize(2);
+        assertThat(storeSearchCache.getCount(cafe.countKey(), () -> 2L)).isEqualTo(2L);
+        assertThat(storeSearchCache.getPage(chicken, () -> load(loads))).hasSize(1);
+        assertThat(storeSearchCache.getCount(chicken.countKey(), () -> 0L)).isEqualTo(1L);
+        assertThat(loads).hasValue(1);
+    }
+
+    /**
+     * 평점 변경 시 그 매장을 포함한 페이지와 평점 정렬 페이지만 무효화하는지 테스트
+     */
+    @Test
+    @DisplayName("평점 변경은 그 매장을 포함한 페이지와 평점 정렬 페이지만 무효화한다")
+    void ratingChangeEvictsContainingAndRatingSortedPages() {
+        // given
+        StoreSearchKey containing = StoreSearchKey.of(criteria("cafe", null), FIRST_PAGE);
+        StoreSearchKey other = StoreSearchKey.of(criteria("chicken", null), FIRST_PAGE);
+        StoreSearchKey ratingSorted = StoreSearchKey.of(
+            new StoreSearchCriteria("pizza", null, null, null, StoreSearchCriteria.SORT_BY_RATING, "DESC"),
+            FIRST_PAGE);
+        storeSearchCache.getPage(containing, () -> List.of(store(1L, "cafe one")));
+        storeSearchCache.getPage(other, () -> List.of(store(2L, "chicken one")));
+        storeSearchCache.getPage(ratingSorted, () -> List.of(store(3L, "pizza one")));
+
+        // when
+        storeSearchCache.evictStore(1L);
+
+        // then
+        AtomicInteger loads = new AtomicInteger();
+        storeSearchCache.getPage(containing, () -> load(loads, store(1L, "cafe one")));
+        storeSearchCache.getPage(ratingSorted, () -> load(loads, store(3L, "pizza one")));
+        storeSearchCache.getPage(other, () -> load(loads, store(2L, "chicken one")));
+        assertThat(loads).hasValue(2);
+    }
+
+    /**
+     * 같은 순서가 되는 정렬 조건은 같은 키를 사용하는지 테스트
+     */
+    @Test
+    @DisplayName("평점 정렬은 Pageable의 정렬과 관계없이 같은 키가 된다")
+    void ratingSortIgnoresRequestedSort() {
+        // given
+        StoreSearchCriteria criteria = new StoreSearchCriteria(
+            "cafe", 37.5, 127.0, null, StoreSearchCriteria.SORT_BY_RATING, "DESC");
+
+        // when
+        StoreSearchKey unsorted = StoreSearchKey.of(criteria, FIRST_PAGE);
+        StoreSearchKey sorted = StoreSearchKey.of(criteria, PageRequest.of(0, 10, Sort.by("name")));
+
+        // then
+        assertThat(sorted).isEqualTo(unsorted);
+        assertThat(sorted.isRatingSort()).isTrue();
+    }
+
+    private static StoreSearchCriteria criteria(String keyword, String ownerEmail) {
+        return new StoreSearchCriteria(keyword, null, null, ownerEmail, null, null);
+    }
+
+    private static List<StoreDto> load(AtomicInteger loads, StoreDto... stores) {
+        loads.incrementAndGet();
+        return List.of(stores);
+    }
+
+    private static StoreDto store(Long id, String name) {
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 0);
+        return new StoreDto(id, name, "서울시 강남구", "설명", 37.5, 127.0, 4.0, 1, "partner@test.com", now, now);
+    }
+}
@@ -0,0 +1,124 @@
+package com.zerobase.zbpaymentstudy.domain.store.repository;
+
+import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 JDBC 리포지토리 테스트 클래스
+ * 2차 캐시를 켠 상태에서 매장 조회가 캐시를 사용하고, 평점 집계 갱신은 해당 매장의 캐시 항목만 무효화하는지 확인
+ * 2차 캐시는 커밋 시점에 채워지므로 테스트 트랜잭션 없이 실행
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.yml", properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+    "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+    "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+    "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class StoreJdbcRepositoryImplTest {
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Cache secondLevelCache;
+    private Store store;
+    private Store otherStore;
+
+    @BeforeEach
+    void setUp() {
+        secondLevelCache = entityManagerFactory.getCache();
+        Member owner = memberRepository.save(Member.builder()
+            .email("owner@test.com")
+            .password("password1234")
+            .name("점주")
+            .role(MemberRole.PARTNER)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+        store = storeRepository.save(createStore("테스트 매장", owner));
+        otherStore = storeRepository.save(createStore("다른 매장", owner));
+        secondLevelCache.evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        secondLevelCache.evictAll();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 매장은 2차 캐시에서 읽는다")
+    void storeIsServedFromSecondLevelCache() {
+        // given
+        CacheRegionStatistics region = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+            .getDomainDataRegionStatistics("store");
+        storeRepository.findById(store.getId());
+        long hits = region.getHitCount();
+
+        // when
+        storeRepository.findById(store.getId());
+
+        // then
+        assertThat(secondLevelCache.contains(Store.class, store.getId())).isTrue();
+        assertThat(region.getHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("평점 집계 갱신은 해당 매장의 캐시 항목만 무효화하고 다음 조회에서 갱신된 값을 읽는다")
+    void applyRatingDeltaEvictsOnlyThatStore() {
+        // given
+        storeRepository.findById(store.getId());
+        storeRepository.findById(otherStore.getId());
+
+        // when
+        storeRepository.applyRatingDelta(store.getId(), 1, 5, 3.5, 5.0, LocalDateTime.now());
+
+        // then
+        assertThat(secondLevelCache.contains(Store.class, store.getId())).isFalse();
+        assertThat(secondLevelCache.contains(Store.class, otherStore.getId())).isTrue();
+        assertThat(storeRepository.findById(store.getId()))
+            .hasValueSatisfying(updated -> {
+                assertThat(updated.getReviewCount()).isEqualTo(1);
+                assertThat(updated.getRatingSum()).isEqualTo(5L);
+            });
+    }
+
+    private static Store createStore(String name, Member owner) {
+        return Store.builder()
+            .name(name)
+            .location("서울시 강남구")
+            .description("테스트 매장입니다")
+            .owner(owner)
+            .latitude(37.4967)
+            .longitude(127.0276)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
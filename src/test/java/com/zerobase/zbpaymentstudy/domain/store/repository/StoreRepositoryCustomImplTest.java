@@ -66,6 +66,8 @@ class StoreRepositoryCustomImplTest {
                 .longitude(127.0264)
                 .averageRating(4.8)
                 .reviewCount(15)
+                .ratingSum(72L)
+                .weightedRating(4.28)
                 .owner(owner)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -77,6 +79,8 @@ class StoreRepositoryCustomImplTest {
                 .longitude(127.0276)
                 .averageRating(4.5)
                 .reviewCount(10)
+                .ratingSum(45L)
+                .weightedRating(4.0)
                 .owner(owner)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -88,6 +92,8 @@ class StoreRepositoryCustomImplTest {
                 .longitude(127.1235)
                 .averageRating(4.2)
                 .reviewCount(8)
+                .ratingSum(34L)
+                .weightedRating(3.83)
                 .owner(owner)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -99,6 +105,8 @@ class StoreRepositoryCustomImplTest {
                 .longitude(127.0292)
                 .averageRating(4.0)
                 .reviewCount(5)
+                .ratingSum(20L)
+                .weightedRating(3.67)
                 .owner(owner)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -185,6 +193,37 @@ class StoreRepositoryCustomImplTest {
             .containsExactly(4.8, 4.5, 4.2, 4.0);
     }
 
+    @Test
+    @Transactional
+    @DisplayName("평점 기준 정렬 - 등록 순서와 관계없이 가중 평점 순으로 조회")
+    void searchWithRatingSortIgnoresInsertionOrder() {
+        // given
+        storeRepository.saveAll(List.of(
+            ratedStore("새로 생긴 맛집", 4.5),
+            ratedStore("조용한 분식집", 3.9)
+        ));
+        entityManager.flush();
+        entityManager.clear();
+
+        StoreSearchCriteria criteria = new StoreSearchCriteria(
+            null,                   // keyword
+            null,                   // latitude
+            null,                   // longitude
+            null,                   // ownerEmail
+            "RATING",               // sortBy
+            "DESC"                  // sortDirection
+        );
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        // when
+        Page<Store> result = storeRepository.searchStores(criteria, pageRequest);
+
+        // then
+        assertThat(result.getContent())
+            .extracting(Store::getWeightedRating)
+            .containsExactly(4.5, 4.28, 4.0, 3.9, 3.83, 3.67);
+    }
+
     @Test
     @Transactional
     @DisplayName("점주 이메일로 매장 검색")
@@ -257,4 +296,20 @@ class StoreRepositoryCustomImplTest {
         assertThat(result.getContent())
             .isSortedAccordingTo((s1, s2) -> s1.getName().compareTo(s2.getName()));
     }
-} 
\ No newline at end of file
+
+    private Store ratedStore(String name, double weightedRating) {
+        return Store.builder()
+            .name(name)
+            .location("서울시 마포구")
+            .latitude(37.5563)
+            .longitude(126.9220)
+            .averageRating(weightedRating)
+            .reviewCount(10)
+            .ratingSum(Math.round(weightedRating * 10))
+            .weightedRating(weightedRating)
+            .owner(owner)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
\ No newline at end of file
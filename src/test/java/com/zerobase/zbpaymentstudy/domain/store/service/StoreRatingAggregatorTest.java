@@ -0,0 +1,378 @@
+package com.zerobase.zbpaymentstudy.domain.store.service;
+
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreJsonCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreRatingHistogramCache;
+import com.zerobase.zbpaymentstudy.domain.store.cache.StoreSearchCache;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingHistogramRepository;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 매장 평점 집계기 동시성 테스트 클래스
+ * 집계 컬럼과 평점 분포 테이블을 메모리 테이블로 대체하고,
+ * 동시에 기록/반영/보정이 일어나도 최종 집계가 기록한 리뷰와 일치하는지 확인
+ */
+class StoreRatingAggregatorTest {
+
+    private static final long STORE_ID = 1L;
+
+    private StoreRepository storeRepository;
+    private StoreRatingHistogramRepository histogramRepository;
+    private RatingTable table;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository = mock(StoreRepository.class);
+        histogramRepository = mock(StoreRatingHistogramRepository.class);
+        table = new RatingTable();
+
+        when(storeRepository.applyRatingDelta(anyLong(), anyInt(), anyLong(), anyDouble(), anyDouble(), any()))
+            .thenAnswer(invocation -> {
+                table.applyRating(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+                return 1;
+            });
+        when(histogramRepository.applyDelta(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt()))
+            .thenAnswer(invocation -> {
+                int[] stars = new int[5];
+                for (int i = 0; i < stars.length; i++) {
+                    stars[i] = invocation.getArgument(i + 1);
+                }
+                table.applyStars(invocation.getArgument(0), stars);
+                return 1;
+            });
+    }
+
+    /**
+     * 여러 스레드가 리뷰를 작성/수정/삭제하는 동안 반영 주기가 계속 실행되어도
+     * 변화량이 유실되거나 두 번 반영되지 않는지 테스트
+     */
+    @Test
+    @DisplayName("기록 중에 반영 주기가 돌아도 최종 집계가 리뷰와 일치한다")
+    void concurrentRecordAndFlush() throws Exception {
+        // given
+        StoreRatingAggregator aggregator = aggregator(5);
+        int threads = 8;
+        int reviewsPerThread = 500;
+        Reviews reviews = new Reviews();
+        AtomicBoolean recording = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+
+        // when
+        Future<?> flusher = executor.submit(() -> {
+            while (recording.get()) {
+                aggregator.flush();
+            }
+        });
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long storeId = STORE_ID + t % 2;
+            writers.add(executor.submit(() -> recordRandomly(aggregator, reviews, storeId, reviewsPerThread)));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        recording.set(false);
+        flusher.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        aggregator.flush();
+
+        // then
+        assertMatches(reviews, STORE_ID);
+        assertMatches(reviews, STORE_ID + 1);
+    }
+
+    /**
+     * 반영 주기 안에서 변경 횟수가 임계값을 넘은 매장만 버퍼에 쌓이고,
+     * 반영 이후 새 주기에서는 다시 바로 반영되는지 테스트
+     */
+    @Test
+    @DisplayName("임계값을 넘은 매장만 버퍼에 쌓이고 반영 후에는 다시 바로 반영된다")
+    void hotStoreThresholdSwitching() {
+        // given
+        StoreRatingAggregator aggregator = aggregator(3);
+        Reviews reviews = new Reviews();
+
+        // when: 임계값 이하의 변경은 바로 반영
+        for (int i = 0; i < 3; i++) {
+            record(aggregator, reviews, STORE_ID, 4);
+        }
+
+        // then
+        assertMatches(reviews, STORE_ID);
+
+        // when: 임계값을 넘은 변경은 버퍼에 쌓임
+        record(aggregator, reviews, STORE_ID, 5);
+        record(aggregator, reviews, STORE_ID, 1);
+
+        // then
+        assertThat(table.count(STORE_ID)).isEqualTo(3);
+        assertThat(table.stars(STORE_ID)).containsExactly(0, 0, 0, 3, 0);
+
+        // when: 반영 주기가 버퍼를 반영하고 변경 횟수를 초기화
+        aggregator.flush();
+        record(aggregator, reviews, STORE_ID, 2);
+
+        // then: 새 주기의 첫 변경은 바로 반영됨
+        assertMatches(reviews, STORE_ID);
+    }
+
+    /**
+     * 보정 작업이 시작되기 전에 버퍼를 모두 반영하고,
+     * 작업 도중의 핫 매장 변경은 버퍼를 거치지 않고 바로 반영되는지 테스트
+     */
+    @Test
+    @DisplayName("보정 작업 중에는 버퍼 없이 바로 반영된다")
+    void runWithoutBuffering() {
+        // given
+        StoreRatingAggregator aggregator = aggregator(1);
+        Reviews reviews = new Reviews();
+        for (int i = 0; i < 10; i++) {
+            record(aggregator, reviews, STORE_ID, i % 5 + 1);
+        }
+        assertThat(table.count(STORE_ID)).isEqualTo(1);
+
+        // when
+        Boolean result = aggregator.runWithoutBuffering(() -> {
+            // then: 작업이 시작될 때는 버퍼가 모두 반영된 상태
+            assertMatches(reviews, STORE_ID);
+
+            record(aggregator, reviews, STORE_ID, 3);
+            record(aggregator, reviews, STORE_ID, 5);
+            assertMatches(reviews, STORE_ID);
+            return true;
+        });
+
+        // then: 작업이 끝나면 다시 버퍼에 쌓임
+        assertThat(result).isTrue();
+        record(aggregator, reviews, STORE_ID, 2);
+        assertThat(table.count(STORE_ID)).isEqualTo(reviews.count(STORE_ID) - 1);
+        aggregator.flush();
+        assertMatches(reviews, STORE_ID);
+    }
+
+    /**
+     * 커밋 전인 리뷰 트랜잭션의 버퍼 적재가 끝날 때까지 보정 작업이 기다리는지 테스트
+     */
+    @Test
+    @DisplayName("보정 작업은 커밋 전이던 버퍼 적재가 끝난 뒤에 시작된다")
+    void runWithoutBufferingWaitsForInFlight() throws Exception {
+        // given: 핫 매장에 변경을 기록하고 커밋하지 않은 리뷰 트랜잭션
+        StoreRatingAggregator aggregator = aggregator(0);
+        Reviews reviews = new Reviews();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> transaction = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                record(aggregator, reviews, STORE_ID, 5);
+                recorded.countDown();
+                await(commit);
+                List<TransactionSynchronization> synchronizations =
+                    TransactionSynchronizationManager.getSynchronizations();
+                TransactionSynchronizationUtils.invokeAfterCompletion(
+                    synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+        await(recorded);
+
+        // when
+        AtomicInteger countSeenByAction = new AtomicInteger(-1);
+        CompletableFuture<Void> repair = CompletableFuture.runAsync(() -> aggregator.runWithoutBuffering(() -> {
+            countSeenByAction.set(table.count(STORE_ID));
+            return null;
+        }));
+        Thread.sleep(100);
+
+        // then: 커밋 전에는 작업이 시작되지 않음
+        assertThat(repair).isNotDone();
+
+        commit.countDown();
+        transaction.get(5, TimeUnit.SECONDS);
+        repair.get(5, TimeUnit.SECONDS);
+        assertThat(countSeenByAction.get()).isEqualTo(1);
+        assertMatches(reviews, STORE_ID);
+    }
+
+    /**
+     * 반영에 실패한 버퍼가 다음 주기에 다시 반영되고, 그 사이에 쌓인 변화량과 합쳐지는지 테스트
+     */
+    @Test
+    @DisplayName("반영에 실패한 변화량은 다시 버퍼에 쌓여 다음 주기에 반영된다")
+    void failedFlushIsRequeued() {
+        // given
+        StoreRatingAggregator aggregator = aggregator(0);
+        Reviews reviews = new Reviews();
+        record(aggregator, reviews, STORE_ID, 5);
+        record(aggregator, reviews, STORE_ID, 4);
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        when(storeRepository.applyRatingDelta(anyLong(), anyInt(), anyLong(), anyDouble(), anyDouble(), any()))
+            .thenAnswer(invocation -> {
+                // 트랜잭션이 롤백되어 아무것도 반영되지 않은 상황
+                if (failNext.getAndSet(false)) {
+                    throw new IllegalStateException("lock wait timeout");
+                }
+                table.applyRating(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+                return 1;
+            });
+
+        // when
+        aggregator.flush();
+
+        // then
+        assertThat(table.count(STORE_ID)).isZero();
+
+        // when
+        record(aggregator, reviews, STORE_ID, 1);
+        aggregator.flush();
+
+        // then
+        assertMatches(reviews, STORE_ID);
+    }
+
+    private StoreRatingAggregator aggregator(int hotStoreThreshold) {
+        return new StoreRatingAggregator(storeRepository, histogramRepository,
+            mock(StoreSearchCache.class), mock(StoreRatingHistogramCache.class), mock(StoreJsonCache.class),
+            new BayesianRatingPolicy(3.5, 10), mock(PlatformTransactionManager.class), hotStoreThreshold);
+    }
+
+    private void recordRandomly(StoreRatingAggregator aggregator, Reviews reviews, long storeId, int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            int rating = random.nextInt(1, 6);
+            aggregator.recordCreated(storeId, rating);
+            switch (random.nextInt(3)) {
+                case 0 -> reviews.add(storeId, rating);
+                case 1 -> {
+                    int newRating = random.nextInt(1, 6);
+                    aggregator.recordUpdated(storeId, rating, newRating);
+                    reviews.add(storeId, newRating);
+                }
+                default -> aggregator.recordDeleted(storeId, rating);
+            }
+        }
+    }
+
+    private void record(StoreRatingAggregator aggregator, Reviews reviews, long storeId, int rating) {
+        aggregator.recordCreated(storeId, rating);
+        reviews.add(storeId, rating);
+    }
+
+    private void assertMatches(Reviews reviews, long storeId) {
+        assertThat(table.count(storeId)).isEqualTo(reviews.count(storeId));
+        assertThat(table.sum(storeId)).isEqualTo(reviews.sum(storeId));
+        assertThat(table.stars(storeId)).containsExactly(reviews.stars(storeId));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 테스트가 기록한 리뷰의 매장별 평점 분포
+     */
+    private static final class Reviews {
+        private final ConcurrentHashMap<Long, int[]> stars = new ConcurrentHashMap<>();
+
+        void add(long storeId, int rating) {
+            stars.compute(storeId, (id, current) -> {
+                int[] next = current != null ? current : new int[5];
+                next[rating - 1]++;
+                return next;
+            });
+        }
+
+        int[] stars(long storeId) {
+            return stars.getOrDefault(storeId, new int[5]).clone();
+        }
+
+        int count(long storeId) {
+            int count = 0;
+            for (int star : stars(storeId)) {
+                count += star;
+            }
+            return count;
+        }
+
+        long sum(long storeId) {
+            int[] counts = stars(storeId);
+            long sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                sum += (long) (i + 1) * counts[i];
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * store의 집계 컬럼과 store_rating_histogram 행을 대신하는 메모리 테이블
+     */
+    private static final class RatingTable {
+        private final ConcurrentHashMap<Long, long[]> ratings = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, int[]> histograms = new ConcurrentHashMap<>();
+
+        void applyRating(long storeId, int countDelta, long sumDelta) {
+            ratings.compute(storeId, (id, current) -> {
+                long[] next = current != null ? current : new long[2];
+                next[0] += countDelta;
+                next[1] += sumDelta;
+                return next;
+            });
+        }
+
+        void applyStars(long storeId, int[] starDeltas) {
+            histograms.compute(storeId, (id, current) -> {
+                int[] next = current != null ? current : new int[5];
+                for (int i = 0; i < next.length; i++) {
+                    next[i] += starDeltas[i];
+                }
+                return next;
+            });
+        }
+
+        int count(long storeId) {
+            return (int) ratings.getOrDefault(storeId, new long[2])[0];
+        }
+
+        long sum(long storeId) {
+            return ratings.getOrDefault(storeId, new long[2])[1];
+        }
+
+        int[] stars(long storeId) {
+            return histograms.getOrDefault(storeId, new int[5]).clone();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.zerobase.zbpaymentstudy.domain.store.service;
+
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import com.zerobase.zbpaymentstudy.domain.reservation.entity.Reservation;
+import com.zerobase.zbpaymentstudy.domain.reservation.repository.ReservationRepository;
+import com.zerobase.zbpaymentstudy.domain.reservation.type.ReservationStatus;
+import com.zerobase.zbpaymentstudy.domain.review.entity.Review;
+import com.zerobase.zbpaymentstudy.domain.review.repository.ReviewRepository;
+import com.zerobase.zbpaymentstudy.domain.store.dto.RatingRepairReport;
+import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
+import com.zerobase.zbpaymentstudy.domain.store.entity.StoreRatingHistogram;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRatingHistogramRepository;
+import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 평점 집계 보정 서비스 테스트 클래스
+ * 집계 컬럼과 평점 분포를 일부러 어긋나게 만든 뒤 보정 결과가 실제 리뷰와 일치하는지 확인
+ * 보정 작업은 Fork-Join 풀의 스레드에서 별도 커넥션으로 실행되므로 테스트 데이터를 트랜잭션 없이 커밋
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.yml",
+    properties = "store.rating.repair.chunk-size=1")
+class StoreRatingRepairServiceTest {
+
+    @Autowired
+    private StoreRatingRepairService repairService;
+
+    @Autowired
+    private BayesianRatingPolicy ratingPolicy;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRatingHistogramRepository histogramRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        reviewRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        histogramRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+        cacheManager.getCache(CacheConfig.MEMBERS).clear();
+    }
+
+    /**
+     * 집계 컬럼, 평점 분포, 리뷰의 매장 ID가 어긋난 매장을 보정하는지 테스트
+     * 구간 크기를 1로 두어 Fork-Join 분할 결과가 합산되는지도 함께 확인
+     */
+    @Test
+    @DisplayName("어긋난 평점 집계와 분포를 리뷰 기준으로 보정한다")
+    void repair_FixesCorruptedAggregates() {
+        // given
+        Member owner = createMember("owner@test.com");
+        Member customer = createMember("customer@test.com");
+
+        // 집계가 한 번도 반영되지 않은 매장 (리뷰 하나는 매장 ID가 비어 있음)
+        Store missed = createStore("집계 누락 매장", owner, 0, 0L, null);
+        createReview(customer, missed, 5, true);
+        createReview(customer, missed, 3, true);
+        createReview(customer, missed, 4, false);
+
+        // 집계와 분포가 잘못된 값으로 덮어써진 매장
+        Store corrupted = createStore("집계 오류 매장", owner, 7, 30L, new int[]{0, 0, 0, 0, 7});
+        createReview(customer, corrupted, 1, true);
+        createReview(customer, corrupted, 2, true);
+
+        // 리뷰가 없고 집계도 올바른 매장
+        createStore("정상 매장", owner, 0, 0L, null);
+
+        // when
+        RatingRepairReport report = repairService.repair();
+
+        // then
+        assertThat(report.storesScanned()).isEqualTo(3);
+        assertThat(report.mismatches()).isEqualTo(2);
+        assertThat(report.repaired()).isEqualTo(2);
+        assertThat(report.conflicts()).isZero();
+        assertThat(report.histogramsRebuilt()).isEqualTo(2);
+        assertThat(report.reviewsBackfilled()).isEqualTo(1);
+
+        assertAggregates(missed.getId(), 3, 12L);
+        assertThat(stars(missed.getId())).containsExactly(0, 0, 1, 1, 1);
+        assertAggregates(corrupted.getId(), 2, 3L);
+        assertThat(stars(corrupted.getId())).containsExactly(1, 1, 0, 0, 0);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM review WHERE store_id IS NULL", Integer.class)).isZero();
+    }
+
+    /**
+     * 이미 보정된 상태에서 다시 실행하면 아무것도 갱신하지 않는지 테스트
+     */
+    @Test
+    @DisplayName("집계가 일치하면 보정하지 않는다")
+    void repair_NoMismatch() {
+        // given
+        Member owner = createMember("owner@test.com");
+        Member customer = createMember("customer@test.com");
+        Store store = createStore("테스트 매장", owner, 0, 0L, null);
+        createReview(customer, store, 4, true);
+        repairService.repair();
+
+        // when
+        RatingRepairReport report = repairService.repair();
+
+        // then
+        assertThat(report.storesScanned()).isEqualTo(1);
+        assertThat(report.mismatches()).isZero();
+        assertThat(report.repaired()).isZero();
+        assertThat(report.histogramsRebuilt()).isZero();
+        assertThat(report.reviewsBackfilled()).isZero();
+        assertAggregates(store.getId(), 1, 4L);
+    }
+
+    private void assertAggregates(Long storeId, int reviewCount, long ratingSum) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT review_count, rating_sum, average_rating, weighted_rating FROM store WHERE id = ?", storeId);
+        assertThat(((Number) row.get("review_count")).intValue()).isEqualTo(reviewCount);
+        assertThat(((Number) row.get("rating_sum")).longValue()).isEqualTo(ratingSum);
+        assertThat(((Number) row.get("average_rating")).doubleValue())
+            .isEqualTo((double) ratingSum / reviewCount);
+        assertThat(((Number) row.get("weighted_rating")).doubleValue())
+            .isEqualTo(ratingPolicy.weightedRating(reviewCount, ratingSum));
+    }
+
+    private int[] stars(Long storeId) {
+        StoreRatingHistogram histogram = histogramRepository.findById(storeId).orElseThrow();
+        return new int[]{histogram.getStar1(), histogram.getStar2(), histogram.getStar3(),
+            histogram.getStar4(), histogram.getStar5()};
+    }
+
+    private Member createMember(String email) {
+        return memberRepository.save(Member.builder()
+            .email(email)
+            .password("password1234")
+            .name("테스트 회원")
+            .role(MemberRole.USER)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+    }
+
+    private Store createStore(String name, Member owner, int reviewCount, long ratingSum, int[] stars) {
+        Store store = storeRepository.save(Store.builder()
+            .name(name)
+            .location("서울시 강남구")
+            .owner(owner)
+            .latitude(37.4967)
+            .longitude(127.0276)
+            .reviewCount(reviewCount)
+            .ratingSum(ratingSum)
+            .averageRating(reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0)
+            .weightedRating(ratingPolicy.weightedRating(reviewCount, ratingSum))
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+        if (stars != null) {
+            histogramRepository.save(StoreRatingHistogram.builder()
+                .storeId(store.getId())
+                .star1(stars[0]).star2(stars[1]).star3(stars[2]).star4(stars[3]).star5(stars[4])
+                .build());
+        }
+        return store;
+    }
+
+    private void createReview(Member member, Store store, int rating, boolean withStoreId) {
+        Reservation reservation = reservationRepository.save(Reservation.builder()
+            .member(member)
+            .store(store)
+            .reservationTime(LocalDateTime.now().minusDays(1))
+            .status(ReservationStatus.COMPLETED)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+        // 집계기를 거치지 않고 저장하여 집계 컬럼과 분포에는 반영되지 않음
+        reviewRepository.save(Review.builder()
+            .reservation(reservation)
+            .storeId(withStoreId ? store.getId() : null)
+            .rating(rating)
+            .content("리뷰")
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build());
+    }
+}
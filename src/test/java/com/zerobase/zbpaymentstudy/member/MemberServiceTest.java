@@ -0,0 +1,128 @@
+package com.zerobase.zbpaymentstudy.member;
+
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.member.cache.EmailBloomFilter;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberSignUpDto;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import com.zerobase.zbpaymentstudy.domain.member.service.MemberService;
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import com.zerobase.zbpaymentstudy.exception.BusinessException;
+import com.zerobase.zbpaymentstudy.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 회원 서비스 테스트 클래스
+ * 회원가입 및 로그인에 대한 통합 테스트를 수행
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(locations = "classpath:application.yml")
+class MemberServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @SpyBean
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.deleteAllInBatch();
+        // 일괄 삭제는 회원 캐시 무효화를 거치지 않으므로 직접 비움
+        cacheManager.getCache(CacheConfig.MEMBERS).clear();
+    }
+
+    /**
+     * 공개 회원가입으로 관리자 계정을 만들 수 없는지 테스트
+     * INVALID_MEMBER_ROLE 예외가 발생하고 회원이 저장되지 않는지 확인
+     */
+    @Test
+    @DisplayName("관리자 권한으로는 회원가입할 수 없다")
+    void signUp_Fail_AdminRole() {
+        // given
+        MemberSignUpDto signUpDto = new MemberSignUpDto(
+            "admin@test.com", "password1234", "관리자", MemberRole.ADMIN);
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+            memberService.signUp(signUpDto));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_MEMBER_ROLE);
+        assertThat(memberRepository.existsByEmail("admin@test.com")).isFalse();
+    }
+
+    /**
+     * 파트너 회원가입이 정상적으로 되는지 테스트
+     */
+    @Test
+    @DisplayName("파트너 권한으로 회원가입할 수 있다")
+    void signUp_Success_Partner() {
+        // given
+        MemberSignUpDto signUpDto = new MemberSignUpDto(
+            "partner@test.com", "password1234", "파트너", MemberRole.PARTNER);
+
+        // when
+        memberService.signUp(signUpDto);
+
+        // then
+        assertThat(memberRepository.findByEmail("partner@test.com"))
+            .hasValueSatisfying(member -> assertThat(member.getRole()).isEqualTo(MemberRole.PARTNER));
+    }
+
+    /**
+     * 이미 가입된 이메일로 가입 시 유니크 제약 위반을 이메일 중복 오류로 변환하는지 테스트
+     */
+    @Test
+    @DisplayName("이미 가입된 이메일로는 회원가입할 수 없다")
+    void signUp_Fail_DuplicateEmail() {
+        // given
+        memberService.signUp(new MemberSignUpDto("user@test.com", "password1234", "회원", MemberRole.USER));
+        MemberSignUpDto duplicate = new MemberSignUpDto("user@test.com", "password5678", "다른 회원", MemberRole.USER);
+
+        // when
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+            memberService.signUp(duplicate));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EMAIL_ALREADY_EXISTS);
+    }
+
+    /**
+     * Bloom 필터가 "포함될 수 있음"으로 응답해도(오탐) DB를 확인하여 사용 가능 여부를 정확히 응답하는지 테스트
+     */
+    @Test
+    @DisplayName("Bloom 필터의 오탐은 DB 조회로 걸러져 사용 가능으로 응답한다")
+    void checkEmailAvailability_FalsePositiveFallsBackToDatabase() {
+        // given
+        memberService.signUp(new MemberSignUpDto("taken@test.com", "password1234", "회원", MemberRole.USER));
+        doReturn(true).when(emailBloomFilter).mightExist("free@test.com");
+        doReturn(true).when(emailBloomFilter).mightExist("taken@test.com");
+
+        // when
+        boolean free = memberService.checkEmailAvailability("free@test.com").getData().available();
+        boolean taken = memberService.checkEmailAvailability("taken@test.com").getData().available();
+
+        // then
+        assertThat(free).isTrue();
+        assertThat(taken).isFalse();
+    }
+}
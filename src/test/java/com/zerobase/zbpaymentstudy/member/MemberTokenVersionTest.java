@@ -0,0 +1,124 @@
+package com.zerobase.zbpaymentstudy.member;
+
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberLoginDto;
+import com.zerobase.zbpaymentstudy.domain.member.dto.MemberSignUpDto;
+import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
+import com.zerobase.zbpaymentstudy.domain.member.service.MemberService;
+import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
+import com.zerobase.zbpaymentstudy.security.JwtTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 세대 번호 테스트 클래스
+ * 2차 캐시를 켠 상태에서 전체 로그아웃 이후 다시 로그인하면 새 세대 번호로 토큰이 발급되고
+ * 이전 토큰은 거부되는지 확인
+ * 로그인은 트랜잭션 없이 실행되므로 테스트 데이터를 트랜잭션 없이 커밋
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.yml", properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+    "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+    "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+    "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class MemberTokenVersionTest {
+
+    private static final String EMAIL = "epoch@test.com";
+    private static final String PASSWORD = "password1234";
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        memberService.signUp(new MemberSignUpDto(EMAIL, PASSWORD, "테스트 회원", MemberRole.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+        // 일괄 삭제는 회원 캐시 무효화를 거치지 않으므로 직접 비움
+        cacheManager.getCache(CacheConfig.MEMBERS).clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    /**
+     * 전체 로그아웃 후 다시 로그인하면 이전 토큰은 거부되고 새 토큰은 유효한지 테스트
+     */
+    @Test
+    @DisplayName("전체 로그아웃 후 다시 로그인하면 새 세대 번호의 토큰이 발급된다")
+    void logoutAllThenLogin() {
+        // given
+        String oldToken = login();
+
+        // when
+        memberService.logoutAll(EMAIL);
+        String newToken = login();
+
+        // then
+        assertThat(jwtTokenProvider.validateToken(oldToken)).isFalse();
+        assertThat(jwtTokenProvider.validateToken(newToken)).isTrue();
+        assertThat(version(newToken)).isEqualTo(1);
+    }
+
+    /**
+     * 다른 노드의 전체 로그아웃이 이 노드의 2차 캐시에 전파되기 전에 로그인해도
+     * 캐시된 회원의 이전 세대 번호가 아닌 DB의 세대 번호로 토큰을 발급하는지 테스트
+     */
+    @Test
+    @DisplayName("회원이 2차 캐시에 남아 있어도 DB의 세대 번호로 토큰을 발급한다")
+    void loginReadsVersionBypassingSecondLevelCache() {
+        // given: 로그인으로 회원 엔티티가 2차 캐시에 적재된 상태
+        String oldToken = login();
+
+        // when: 다른 노드가 세대 번호를 올림 (이 노드의 캐시는 아직 무효화되지 않음)
+        jdbcTemplate.update("UPDATE member SET token_version = token_version + 1 WHERE email = ?", EMAIL);
+        String newToken = login();
+
+        // then
+        assertThat(version(newToken)).isEqualTo(1);
+        assertThat(jwtTokenProvider.validateToken(newToken)).isTrue();
+        assertThat(jwtTokenProvider.validateToken(oldToken)).isFalse();
+    }
+
+    private String login() {
+        return memberService.login(new MemberLoginDto(EMAIL, PASSWORD), "127.0.0.1").getData().accessToken();
+    }
+
+    private static int version(String token) {
+        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+        return Integer.parseInt(payload.replaceAll(".*\"ver\":(\\d+).*", "$1"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.zerobase.zbpaymentstudy.reservation;
 
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
 import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
 import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
 import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
@@ -17,6 +18,7 @@ import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +47,9 @@ class ReservationServiceTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -54,6 +59,8 @@ class ReservationServiceTest {
         reservationRepository.deleteAllInBatch();
         storeRepository.deleteAllInBatch();
         memberRepository.deleteAllInBatch();
+        // 일괄 삭제는 회원 캐시 무효화를 거치지 않으므로 직접 비움
+        cacheManager.getCache(CacheConfig.MEMBERS).clear();
 
         entityManager.flush();
         entityManager.clear();
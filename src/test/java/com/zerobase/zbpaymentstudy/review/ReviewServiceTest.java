@@ -9,6 +9,9 @@ import com.zerobase.zbpaymentstudy.domain.reservation.repository.ReservationRepo
 import com.zerobase.zbpaymentstudy.domain.reservation.type.ReservationStatus;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewCreateDto;
 import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewDto;
+import com.zerobase.zbpaymentstudy.domain.review.dto.ReviewSliceDto;
+import com.zerobase.zbpaymentstudy.domain.review.entity.Review;
+import com.zerobase.zbpaymentstudy.domain.review.repository.ReviewRepository;
 import com.zerobase.zbpaymentstudy.domain.review.service.ReviewService;
 import com.zerobase.zbpaymentstudy.domain.store.entity.Store;
 import com.zerobase.zbpaymentstudy.domain.store.repository.StoreRepository;
@@ -47,6 +50,9 @@ class ReviewServiceTest {
     @Autowired
     private StoreRepository storeRepository;
 
+    @Autowired
+    private ReviewRepository reviewRepository;
+
     @BeforeEach
     void setUp() {
         try {
@@ -109,6 +115,59 @@ class ReviewServiceTest {
             reviewService.createReview(otherUserEmail, createDto));
     }
 
+    /**
+     * 커서 기반 리뷰 목록이 다음 페이지 여부와 커서를 반환하고, 마지막 페이지에서는 커서가 없는지 테스트
+     * 전체 리뷰 수는 건수 쿼리 없이 매장 집계 컬럼을 사용
+     */
+    @Test
+    @DisplayName("커서 기반 리뷰 목록은 마지막 페이지까지 이어서 조회된다")
+    void getStoreReviewSlice_PagesUntilLast() {
+        // given
+        Member member = createMember("user3@test.com", "테스트 회원", "password1234");
+        Store store = createStore("테스트 매장", member);
+        store.setReviewCount(3);
+        LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 3; i++) {
+            Reservation reservation = createCompletedReservation(member, store);
+            reviewRepository.save(Review.builder()
+                .reservation(reservation)
+                .storeId(store.getId())
+                .rating(5)
+                .content("리뷰 " + i)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build());
+        }
+
+        // when
+        ReviewSliceDto first = reviewService.getStoreReviewSlice(store.getId(), null, 2);
+        ReviewSliceDto last = reviewService.getStoreReviewSlice(store.getId(), first.nextCursor(), 2);
+
+        // then
+        assertThat(first.content()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.totalCount()).isEqualTo(3);
+        assertThat(last.content()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+        assertThat(last.content().get(0).id()).isLessThan(first.content().get(1).id());
+    }
+
+    /**
+     * 형식이 올바르지 않은 커서로 조회 시 예외 발생 테스트
+     */
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서로는 리뷰 목록을 조회할 수 없다")
+    void getStoreReviewSlice_Fail_InvalidCursor() {
+        // given
+        Member member = createMember("user4@test.com", "테스트 회원", "password1234");
+        Store store = createStore("테스트 매장", member);
+
+        // when & then
+        assertThrows(BusinessException.class, () ->
+            reviewService.getStoreReviewSlice(store.getId(), "not-a-cursor", 2));
+    }
+
     private Member createMember(String email, String name, String password) {
         return memberRepository.save(Member.builder()
             .email(email)
@@ -0,0 +1,114 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 토큰 제공자 테스트 클래스
+ * 서명 검증이 끝난 토큰은 캐시된 값으로 인증하되, 블랙리스트와 전체 로그아웃은 매 요청 확인하는지 검증
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKeyHereMustBeAtLeast32BytesLong";
+    private static final String EMAIL = "user@test.com";
+    private static final List<SimpleGrantedAuthority> ROLES = List.of(new SimpleGrantedAuthority("USER"));
+
+    private SigningKeyRing keyRing;
+    private TokenBlacklistService blacklistService;
+    private TokenEpochRegistry epochRegistry;
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        keyRing = spy(new SigningKeyRing(new ObjectMapper(), SECRET, ""));
+        blacklistService = mock(TokenBlacklistService.class);
+        epochRegistry = mock(TokenEpochRegistry.class);
+        tokenProvider = new JwtTokenProvider(keyRing, 86_400_000L, 100, blacklistService, epochRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 반복 요청은 서명을 한 번만 검증하고 클레임으로 인증 정보를 만든다")
+    void repeatedTokenSkipsSignatureVerification() {
+        // given
+        String token = tokenProvider.createToken(EMAIL, ROLES, 0);
+
+        // when
+        boolean valid = tokenProvider.validateToken(token);
+        Authentication authentication = tokenProvider.getAuthentication(token);
+        Authentication again = tokenProvider.getAuthentication(token);
+
+        // then
+        assertThat(valid).isTrue();
+        assertThat(authentication.getPrincipal()).isEqualTo(EMAIL);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER");
+        assertThat(again.getPrincipal()).isEqualTo(EMAIL);
+        verify(keyRing, times(1)).resolveSigningKey(any(JwsHeader.class), any(Claims.class));
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰이어도 블랙리스트에 추가되면 거부된다")
+    void blacklistIsCheckedForCachedToken() {
+        // given
+        String token = tokenProvider.createToken(EMAIL, ROLES, 0);
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+
+        // when
+        tokenProvider.blacklistToken(token);
+        when(blacklistService.isBlacklisted(TokenDigest.of(token))).thenReturn(true);
+
+        // then
+        verify(blacklistService).addToBlacklist(eq(TokenDigest.of(token)), any());
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+        assertThat(tokenProvider.getAuthentication(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰이어도 전체 로그아웃으로 세대 번호가 오르면 거부된다")
+    void revokedVersionIsCheckedForCachedToken() {
+        // given
+        String token = tokenProvider.createToken(EMAIL, ROLES, 0);
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+
+        // when
+        when(epochRegistry.currentVersion(EMAIL)).thenReturn(1);
+
+        // then
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+        assertThat(tokenProvider.getAuthentication(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시된 토큰과 구분되어 거부된다")
+    void tamperedTokenIsRejected() {
+        // given
+        String token = tokenProvider.createToken(EMAIL, ROLES, 0);
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+
+        // when
+        String tampered = token.substring(0, token.length() - 2)
+            + (token.endsWith("AA") ? "BB" : "AA");
+
+        // then
+        assertThat(tokenProvider.validateToken(tampered)).isFalse();
+        assertThat(tokenProvider.getAuthentication(tampered)).isNull();
+    }
+}
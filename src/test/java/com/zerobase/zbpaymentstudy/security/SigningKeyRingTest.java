@@ -0,0 +1,167 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 서명 키 교체 테스트 클래스
+ * kid로 검증 키를 찾고, 현재 키에서 물러난 키로 서명된 토큰이 키 파일에서 제거되기 전까지(만료 전) 계속 유효한지 확인
+ */
+class SigningKeyRingTest {
+
+    private static final String SECRET = "testSecretKeyHereMustBeAtLeast32BytesLong";
+    private static final String EMAIL = "user@test.com";
+    private static final List<SimpleGrantedAuthority> ROLES = List.of(new SimpleGrantedAuthority("USER"));
+
+    private static final String OLD_SECRET = secret(32);
+    private static final String NEW_SECRET = secret(64);
+
+    @TempDir
+    private Path tempDir;
+
+    private Path keyFile;
+    private SigningKeyRing keyRing;
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        keyFile = tempDir.resolve("jwt-keys.json");
+        keyRing = new SigningKeyRing(new ObjectMapper(), SECRET, keyFile.toString());
+        tokenProvider = tokenProvider(86_400_000L);
+    }
+
+    @Test
+    @DisplayName("새 토큰은 현재 키의 kid로 서명되고 kid로 검증 키를 찾는다")
+    void signsWithCurrentKeyAndResolvesByKid() throws IOException {
+        // given
+        writeKeys("""
+            {"current": "2026-10", "keys": [
+              {"kid": "2026-10", "alg": "HS512", "secret": "%s"},
+              {"kid": "2026-07", "alg": "HS256", "secret": "%s"}
+            ]}""".formatted(NEW_SECRET, OLD_SECRET));
+
+        // when
+        String token = tokenProvider.createToken(EMAIL, ROLES, 0);
+
+        // then
+        assertThat(keyId(token)).isEqualTo("2026-10");
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+        assertThat(keyRing.resolveKey("2026-07", "HS256").getEncoded())
+            .isEqualTo(Base64.getDecoder().decode(OLD_SECRET));
+        assertThat(keyRing.resolveKey(null, "HS256").getEncoded())
+            .isEqualTo(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid나 키와 다른 알고리즘의 토큰은 거부한다")
+    void rejectsUnknownKidAndAlgorithmMismatch() throws IOException {
+        // given
+        writeKeys("""
+            {"current": "2026-10", "keys": [
+              {"kid": "2026-10", "alg": "HS512", "secret": "%s"}
+            ]}""".formatted(NEW_SECRET));
+        Key foreignKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(OLD_SECRET));
+        String unknownKidToken = Jwts.builder()
+            .setHeaderParam(JwsHeader.KEY_ID, "unknown")
+            .setSubject(EMAIL)
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+            .signWith(foreignKey, SignatureAlgorithm.HS256)
+            .compact();
+
+        // when & then
+        assertThat(tokenProvider.validateToken(unknownKidToken)).isFalse();
+        assertThrows(SignatureException.class, () -> keyRing.resolveKey("unknown", "HS256"));
+        assertThrows(SignatureException.class, () -> keyRing.resolveKey("2026-10", "HS256"));
+    }
+
+    @Test
+    @DisplayName("현재 키에서 물러난 키의 토큰은 만료 전까지 유효하고 키가 제거되면 거부된다")
+    void retiredKeyVerifiesUntilRemoved() throws IOException {
+        // given: 이전 키로 발급된 토큰
+        writeKeys("""
+            {"current": "2026-07", "keys": [
+              {"kid": "2026-07", "alg": "HS256", "secret": "%s"}
+            ]}""".formatted(OLD_SECRET));
+        String oldToken = tokenProvider.createToken(EMAIL, ROLES, 0);
+        String expiredOldToken = tokenProvider(-1_000L).createToken(EMAIL, ROLES, 0);
+        assertThat(tokenProvider.validateToken(oldToken)).isTrue();
+
+        // when: 새 키로 교체하고 이전 키는 검증용으로만 남김
+        writeKeys("""
+            {"current": "2026-10", "keys": [
+              {"kid": "2026-10", "alg": "HS512", "secret": "%s"},
+              {"kid": "2026-07", "alg": "HS256", "secret": "%s"}
+            ]}""".formatted(NEW_SECRET, OLD_SECRET));
+
+        // then
+        assertThat(keyId(tokenProvider.createToken(EMAIL, ROLES, 0))).isEqualTo("2026-10");
+        assertThat(tokenProvider.validateToken(oldToken)).isTrue();
+        assertThat(tokenProvider.validateToken(expiredOldToken)).isFalse();
+
+        // when: 이전 키를 키 파일에서 제거
+        writeKeys("""
+            {"current": "2026-10", "keys": [
+              {"kid": "2026-10", "alg": "HS512", "secret": "%s"}
+            ]}""".formatted(NEW_SECRET));
+
+        // then: 검증된 토큰 캐시에 남아 있어도 거부됨
+        assertThat(tokenProvider.validateToken(oldToken)).isFalse();
+    }
+
+    private JwtTokenProvider tokenProvider(long validityInMilliseconds) {
+        return new JwtTokenProvider(keyRing, validityInMilliseconds, 100,
+            mock(TokenBlacklistService.class), mock(TokenEpochRegistry.class));
+    }
+
+    /**
+     * 키 파일을 쓰고 다시 읽음 (수정 시각 해상도와 무관하게 변경이 감지되도록 수정 시각을 앞당김)
+     */
+    private void writeKeys(String json) throws IOException {
+        FileTime previous = Files.exists(keyFile) ? Files.getLastModifiedTime(keyFile) : null;
+        Files.writeString(keyFile, json);
+        if (previous != null) {
+            Files.setLastModifiedTime(keyFile, FileTime.from(previous.toInstant().plusSeconds(1)));
+        } else {
+            Files.setLastModifiedTime(keyFile, FileTime.from(Instant.now()));
+        }
+        keyRing.reload();
+    }
+
+    private static String keyId(String token) {
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+            StandardCharsets.UTF_8);
+        return header.replaceAll(".*\"kid\":\"([^\"]+)\".*", "$1");
+    }
+
+    private static String secret(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + length);
+        }
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,122 @@
+package com.zerobase.zbpaymentstudy.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 블랙리스트 서비스 테스트 클래스
+ * 같은 디렉터리로 서비스를 다시 만들어 재시작을 흉내 내고, 저널과 스냅샷에서 블랙리스트가 복원되는지 확인
+ */
+class TokenBlacklistServiceTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    private Path directory;
+
+    private BlacklistJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("재시작 후 저널을 재생하여 로그아웃된 토큰을 계속 거부한다")
+    void journalReplayedAfterRestart() throws IOException {
+        // given
+        TokenDigest loggedOut = TokenDigest.of("logged-out-token");
+        start().addToBlacklist(loggedOut, expiresIn(HOUR));
+
+        // when
+        TokenBlacklistService restarted = restart();
+
+        // then
+        assertThat(restarted.isBlacklisted(loggedOut)).isTrue();
+        assertThat(restarted.isBlacklisted(TokenDigest.of("other-token"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시작 후 스냅샷과 스냅샷 이후의 저널을 모두 복원한다")
+    void snapshotAndJournalTailReplayedAfterRestart() throws IOException {
+        // given
+        TokenDigest beforeCompaction = TokenDigest.of("before-compaction");
+        TokenDigest afterCompaction = TokenDigest.of("after-compaction");
+        TokenBlacklistService service = start();
+        service.addToBlacklist(beforeCompaction, expiresIn(HOUR));
+        service.compactJournal();
+        long journalSizeAfterCompaction = Files.size(directory.resolve("blacklist.journal"));
+        service.addToBlacklist(afterCompaction, expiresIn(HOUR));
+
+        // when
+        TokenBlacklistService restarted = restart();
+
+        // then
+        assertThat(journalSizeAfterCompaction).isZero();
+        assertThat(Files.exists(directory.resolve("blacklist.snapshot"))).isTrue();
+        assertThat(restarted.isBlacklisted(beforeCompaction)).isTrue();
+        assertThat(restarted.isBlacklisted(afterCompaction)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재시작 시 만료된 항목과 기록 도중 잘린 마지막 레코드는 건너뛴다")
+    void expiredAndTornRecordsSkipped() throws IOException {
+        // given
+        TokenDigest live = TokenDigest.of("live-token");
+        TokenDigest expired = TokenDigest.of("expired-token");
+        start().addToBlacklist(live, expiresIn(HOUR));
+        journal.append(expired, System.currentTimeMillis() - 1);
+        journal.close();
+        Files.write(directory.resolve("blacklist.journal"), new byte[10], StandardOpenOption.APPEND);
+
+        // when
+        TokenBlacklistService restarted = restart();
+        BlacklistJournalEntries entries = new BlacklistJournalEntries();
+        journal.close();
+        journal = new BlacklistJournal(true, directory, false);
+        journal.load(entries, System.currentTimeMillis());
+
+        // then
+        assertThat(restarted.isBlacklisted(live)).isTrue();
+        assertThat(restarted.isBlacklisted(expired)).isFalse();
+        assertThat(entries.count).isEqualTo(1);
+    }
+
+    private TokenBlacklistService start() {
+        journal = new BlacklistJournal(true, directory, false);
+        TokenBlacklistService service = new TokenBlacklistService(1000, 0.001, journal);
+        service.restore();
+        return service;
+    }
+
+    private TokenBlacklistService restart() throws IOException {
+        journal.close();
+        return start();
+    }
+
+    private static Date expiresIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+
+    /**
+     * 복원된 항목 수를 세는 콜백
+     */
+    private static class BlacklistJournalEntries implements BlacklistJournal.EntryConsumer {
+        private int count;
+
+        @Override
+        public void accept(TokenDigest digest, long expiresAt) {
+            count++;
+        }
+    }
+}
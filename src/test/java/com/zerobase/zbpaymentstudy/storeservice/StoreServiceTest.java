@@ -1,6 +1,7 @@
 package com.zerobase.zbpaymentstudy.storeservice;
 
 import com.zerobase.zbpaymentstudy.common.ApiResponse;
+import com.zerobase.zbpaymentstudy.config.CacheConfig;
 import com.zerobase.zbpaymentstudy.domain.member.entity.Member;
 import com.zerobase.zbpaymentstudy.domain.member.repository.MemberRepository;
 import com.zerobase.zbpaymentstudy.domain.member.type.MemberRole;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,12 +42,17 @@ class StoreServiceTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @PersistenceContext
     private EntityManager entityManager;
 
     @BeforeEach
     void setUp() {
         memberRepository.deleteAllInBatch();
+        // 일괄 삭제는 회원 캐시 무효화를 거치지 않으므로 직접 비움
+        cacheManager.getCache(CacheConfig.MEMBERS).clear();
     }
 
     /**
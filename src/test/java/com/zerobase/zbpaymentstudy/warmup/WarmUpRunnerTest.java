@@ -0,0 +1,180 @@
+package com.zerobase.zbpaymentstudy.warmup;
+
+import com.zerobase.zbpaymentstudy.domain.member.cache.EmailBloomFilter;
+import com.zerobase.zbpaymentstudy.domain.review.service.ReviewService;
+import com.zerobase.zbpaymentstudy.domain.store.dto.StoreDto;
+import com.zerobase.zbpaymentstudy.domain.store.service.StoreService;
+import com.zerobase.zbpaymentstudy.security.JwtTokenProvider;
+import com.zerobase.zbpaymentstudy.security.TokenEpochRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.domain.PageImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시작 예열 테스트 클래스
+ * 예열이 끝나기 전에는 헬스 지표가 OUT_OF_SERVICE로 보고하여 트래픽을 받지 않고,
+ * 예열이 끝나거나 실패하면 UP으로 보고하는지 확인
+ */
+class WarmUpRunnerTest {
+
+    private static final int TOP_STORES = 2;
+    private static final int MAX_ROUNDS = 2;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private StoreService storeService;
+    private ReviewService reviewService;
+    private JwtTokenProvider jwtTokenProvider;
+    private EmailBloomFilter emailBloomFilter;
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @BeforeEach
+    void setUp() {
+        storeService = mock(StoreService.class);
+        reviewService = mock(ReviewService.class);
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        emailBloomFilter = mock(EmailBloomFilter.class);
+        tokenEpochRegistry = mock(TokenEpochRegistry.class);
+        when(storeService.findStores(any(), any()))
+            .thenReturn(new PageImpl<>(List.of(store(1L), store(2L), store(3L))));
+        when(jwtTokenProvider.createToken(anyString(), anyCollection())).thenReturn("token");
+    }
+
+    @Test
+    @DisplayName("예열이 시작되기 전과 진행 중에는 요청을 받지 않는 상태로 보고한다")
+    void notReadyUntilWarmUpFinishes() {
+        // given
+        WarmUpRunner runner = runner(true);
+        WarmUpHealthIndicator indicator = new WarmUpHealthIndicator(runner);
+        Health[] duringWarmUp = new Health[1];
+        doAnswer(invocation -> {
+            duringWarmUp[0] = indicator.health();
+            return null;
+        }).when(emailBloomFilter).refresh();
+
+        // when
+        Health beforeWarmUp = indicator.health();
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        assertThat(beforeWarmUp.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(beforeWarmUp.getDetails()).containsEntry("state", WarmUpReport.State.PENDING);
+        assertThat(duringWarmUp[0].getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(duringWarmUp[0].getDetails()).containsEntry("state", WarmUpReport.State.RUNNING);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("인덱스와 상위 매장을 적재하고 합성 호출을 반복한 결과를 보고한다")
+    void warmUpLoadsTopStoresAndReports() {
+        // given
+        WarmUpRunner runner = runner(true);
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        WarmUpReport report = runner.report();
+        assertThat(report.state()).isEqualTo(WarmUpReport.State.COMPLETED);
+        assertThat(report.storesLoaded()).isEqualTo(TOP_STORES);
+        assertThat(report.rounds()).isEqualTo(MAX_ROUNDS);
+        assertThat(report.failures()).isZero();
+        verify(emailBloomFilter).refresh();
+        verify(tokenEpochRegistry).refresh();
+        verify(storeService).getStore(1L);
+        verify(storeService).getStore(2L);
+        verify(storeService, never()).getStore(3L);
+        verify(jwtTokenProvider, times(MAX_ROUNDS)).createToken(anyString(), anyCollection());
+        verify(jwtTokenProvider, times(MAX_ROUNDS)).validateToken("token");
+        assertThat(new WarmUpHealthIndicator(runner).health().getDetails())
+            .containsEntry("state", WarmUpReport.State.COMPLETED)
+            .containsEntry("storesLoaded", TOP_STORES)
+            .containsEntry("rounds", MAX_ROUNDS);
+    }
+
+    @Test
+    @DisplayName("적재에 실패한 매장은 적재 수에서 빼고 실패 수로 보고한다")
+    void failedCallsAreCounted() {
+        // given
+        when(storeService.getStore(2L)).thenThrow(new IllegalStateException("조회 실패"));
+        WarmUpRunner runner = runner(true);
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        WarmUpReport report = runner.report();
+        assertThat(report.state()).isEqualTo(WarmUpReport.State.COMPLETED);
+        assertThat(report.storesLoaded()).isEqualTo(1);
+        assertThat(report.failures()).isEqualTo(1);
+        // 하나가 실패해도 나머지 적재는 실행
+        verify(storeService).getStoreSummary(2L);
+        verify(reviewService).getStoreReviews(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("예열이 중단되어도 시작을 막지 않고 원인과 함께 UP으로 보고한다")
+    void failedWarmUpDoesNotBlockReadiness() {
+        // given
+        doThrow(new IllegalStateException("DB 연결 실패")).when(emailBloomFilter).refresh();
+        WarmUpRunner runner = runner(true);
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        Health health = new WarmUpHealthIndicator(runner).health();
+        assertThat(runner.report().state()).isEqualTo(WarmUpReport.State.FAILED);
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("error", "DB 연결 실패");
+        verifyNoInteractions(storeService);
+    }
+
+    @Test
+    @DisplayName("예열이 꺼져 있으면 아무것도 호출하지 않고 바로 요청을 받는다")
+    void disabledWarmUpIsReadyImmediately() {
+        // given
+        WarmUpRunner runner = runner(false);
+
+        // when
+        runner.run(new DefaultApplicationArguments());
+
+        // then
+        assertThat(runner.report().state()).isEqualTo(WarmUpReport.State.DISABLED);
+        assertThat(new WarmUpHealthIndicator(runner).health().getStatus()).isEqualTo(Status.UP);
+        verifyNoInteractions(storeService, reviewService, jwtTokenProvider, emailBloomFilter, tokenEpochRegistry);
+    }
+
+    /**
+     * 반복 횟수로만 끝나도록 컴파일 안정 조건은 도달할 수 없게 설정
+     */
+    private WarmUpRunner runner(boolean enabled) {
+        return new WarmUpRunner(storeService, reviewService, jwtTokenProvider, emailBloomFilter,
+            tokenEpochRegistry, enabled, TOP_STORES, Duration.ofMinutes(1), 1, MAX_ROUNDS, Integer.MAX_VALUE, 5);
+    }
+
+    private static StoreDto store(Long id) {
+        return new StoreDto(id, "매장 " + id, "서울시 강남구", "설명", 37.5, 127.0, 4.5, 10, "partner@test.com", NOW, NOW);
+    }
+}